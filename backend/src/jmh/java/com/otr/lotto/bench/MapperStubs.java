@@ -0,0 +1,81 @@
+package com.otr.lotto.bench;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 Mapper 스텁
+ *
+ * DB 없이 서비스 로직만 측정하기 위해 Mapper 인터페이스를 동적 프록시로 구현합니다.
+ * 등록하지 않은 메서드는 반환 타입의 기본값(0/false/빈 목록/null)을 돌려줍니다.
+ *
+ * 사용 예:
+ * <pre>
+ * EventMapper eventMapper = MapperStubs.of(EventMapper.class)
+ *     .on("findById", args -&gt; event)
+ *     .build();
+ * </pre>
+ */
+public final class MapperStubs<T> {
+    private final Class<T> mapperType;
+    private final Map<String, Function<Object[], Object>> handlers = new HashMap<>();
+
+    private MapperStubs(Class<T> mapperType) {
+        this.mapperType = mapperType;
+    }
+
+    public static <T> MapperStubs<T> of(Class<T> mapperType) {
+        return new MapperStubs<>(mapperType);
+    }
+
+    /**
+     * 메서드 이름별 동작 등록 (오버로드는 구분하지 않음)
+     */
+    public MapperStubs<T> on(String methodName, Function<Object[], Object> handler) {
+        handlers.put(methodName, handler);
+        return this;
+    }
+
+    public T build() {
+        Map<String, Function<Object[], Object>> registered = Map.copyOf(handlers);
+        Object proxy = Proxy.newProxyInstance(
+            mapperType.getClassLoader(),
+            new Class<?>[] { mapperType },
+            (self, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    return switch (method.getName()) {
+                        case "hashCode" -> System.identityHashCode(self);
+                        case "equals" -> self == args[0];
+                        default -> mapperType.getSimpleName() + "Stub";
+                    };
+                }
+                Function<Object[], Object> handler = registered.get(method.getName());
+                if (handler != null) {
+                    return handler.apply(args);
+                }
+                return defaultValue(method.getReturnType());
+            }
+        );
+        return mapperType.cast(proxy);
+    }
+
+    private static Object defaultValue(Class<?> returnType) {
+        if (returnType == int.class || returnType == Integer.class) {
+            return 0;
+        }
+        if (returnType == long.class || returnType == Long.class) {
+            return 0L;
+        }
+        if (returnType == boolean.class || returnType == Boolean.class) {
+            return false;
+        }
+        if (returnType == List.class) {
+            return Collections.emptyList();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.otr.lotto.bench;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * 벤치마크용 트랜잭션 관리자
+ *
+ * DB 없이 TransactionTemplate/REQUIRES_NEW를 쓰는 코드를 측정하기 위해
+ * 시작/커밋/롤백을 모두 아무 일도 하지 않게 구현합니다.
+ */
+public final class NoOpTransactionManager implements PlatformTransactionManager {
+    @Override
+    public TransactionStatus getTransaction(TransactionDefinition definition) {
+        return new SimpleTransactionStatus();
+    }
+
+    @Override
+    public void commit(TransactionStatus status) {
+    }
+
+    @Override
+    public void rollback(TransactionStatus status) {
+    }
+}
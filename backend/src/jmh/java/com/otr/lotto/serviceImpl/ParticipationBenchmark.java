@@ -0,0 +1,235 @@
+package com.otr.lotto.serviceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.otr.lotto.bench.MapperStubs;
+import com.otr.lotto.bench.NoOpTransactionManager;
+import com.otr.lotto.common.ApiException;
+import com.otr.lotto.common.ApiResponse;
+import com.otr.lotto.common.CurrentDateProvider;
+import com.otr.lotto.domain.Event;
+import com.otr.lotto.domain.Participant;
+import com.otr.lotto.domain.TicketPool;
+import com.otr.lotto.dto.ParticipateRequest;
+import com.otr.lotto.dto.ParticipateResponse;
+import com.otr.lotto.mapper.EventMapper;
+import com.otr.lotto.mapper.ParticipantMapper;
+import com.otr.lotto.mapper.PrizeMapper;
+import com.otr.lotto.mapper.SmsLogMapper;
+import com.otr.lotto.mapper.TicketPoolMapper;
+import com.otr.lotto.metrics.LottoMetrics;
+import com.otr.lotto.retry.RetryProperties;
+import com.otr.lotto.retry.TransientLockRetryTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 참여 요청 경로 벤치마크
+ *
+ * ParticipationServiceImpl.participate를 메모리 Mapper로 끝까지 실행합니다.
+ * (트랜잭션 프록시 없이 호출하므로 DB/커넥션 비용은 제외)
+ *
+ * 메모리 Mapper 동작:
+ * - 참여자 INSERT는 ID만 증가 (보관하지 않음 → 측정 중 힙이 커지지 않음)
+ * - 번호 풀 잠금 조회는 10,000개 템플릿에서 참여 순서 위치의 복사본 반환 (MyBatis처럼 매번 새 객체)
+ *
+ * ns/op와 함께 GC 프로파일러의 gc.alloc.rate.norm(요청 1건당 할당 바이트)을 확인합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ParticipationBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParticipationBenchmark {
+    private static final int POOL_SIZE = 10_000;
+    private static final int PHONE_COUNT = 1 << 16;
+    private static final String WINNING_NUMBER = "3,11,22,33,41,45";
+
+    private final Event event = new Event();
+    private final TicketPool[] poolTemplates = new TicketPool[POOL_SIZE];
+    private final ParticipateRequest[] requests = new ParticipateRequest[PHONE_COUNT];
+    private final AtomicLong participantIds = new AtomicLong();
+
+    private ParticipationServiceImpl participationService;
+    private ParticipationServiceImpl rankOneSwapService;
+    private ParticipationServiceImpl duplicateService;
+    private ObjectMapper objectMapper;
+    private byte[] digest;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        event.setId(1L);
+        event.setMaxParticipants(Integer.MAX_VALUE);
+        event.setWinningNumber(WINNING_NUMBER);
+
+        TicketPoolServiceImpl numberGenerator = new TicketPoolServiceImpl(
+            MapperStubs.of(EventMapper.class).build(),
+            MapperStubs.of(TicketPoolMapper.class).build()
+        );
+        List<Integer> winningNumbers = numberGenerator.parseWinningNumbers(WINNING_NUMBER);
+        for (int i = 0; i < POOL_SIZE; i++) {
+            // 10,000개당 1등 1 / 2등 5 / 3등 44 / 4등 950
+            int rank = i == 0 ? 1 : i <= 5 ? 2 : i <= 49 ? 3 : i <= 999 ? 4 : 0;
+            TicketPool pool = new TicketPool();
+            pool.setId((long) i + 1);
+            pool.setEventId(event.getId());
+            pool.setSeq((long) i + 1);
+            pool.setRank(rank);
+            pool.setLottoNumber(numberGenerator.generateNumberForRank(winningNumbers, rank));
+            poolTemplates[i] = pool;
+        }
+
+        for (int i = 0; i < PHONE_COUNT; i++) {
+            requests[i] = new ParticipateRequest(String.format("010-%04d-%04d", i / 10_000, i % 10_000));
+        }
+
+        ParticipantMapper freshParticipants = participantMapper(null);
+        TicketPoolMapper seqPool = ticketPoolMapper(false);
+        participationService = newService(freshParticipants, seqPool);
+        rankOneSwapService = newService(freshParticipants, ticketPoolMapper(true));
+
+        Participant existing = new Participant();
+        existing.setId(1L);
+        existing.setEventId(event.getId());
+        duplicateService = newService(participantMapper(existing), seqPool);
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        digest = participationService.hashPhone(requests[0].getPhone()).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 신규 참여 (스왑은 10,000건당 1회)
+     */
+    @Benchmark
+    public ParticipateResponse participate() {
+        return participationService.participate(nextRequest());
+    }
+
+    /**
+     * 1등 번호를 잠근 일반 참여자 → 비당첨 번호와 스왑
+     */
+    @Benchmark
+    public ParticipateResponse participate_rankOneSwap() {
+        return rankOneSwapService.participate(nextRequest());
+    }
+
+    /**
+     * 중복 참여 거절 (ApiException 생성/전파 비용 포함)
+     */
+    @Benchmark
+    public String participate_duplicate() {
+        try {
+            duplicateService.participate(nextRequest());
+            return null;
+        } catch (ApiException ex) {
+            return ex.getCode();
+        }
+    }
+
+    @Benchmark
+    public String hashPhone() {
+        return participationService.hashPhone(nextRequest().getPhone());
+    }
+
+    @Benchmark
+    public String normalizePhone() {
+        return participationService.normalizePhone(nextRequest().getPhone());
+    }
+
+    @Benchmark
+    public String toHex() {
+        return participationService.toHex(digest);
+    }
+
+    @Benchmark
+    public Event validateCapacity() {
+        participationService.validateCapacity(event);
+        return event;
+    }
+
+    /**
+     * 참여 응답 직렬화 (컨트롤러가 반환하는 ApiResponse 형태)
+     */
+    @Benchmark
+    public byte[] serializeParticipateResponse() throws JsonProcessingException {
+        TicketPool pool = poolTemplates[(cursor++ & Integer.MAX_VALUE) % POOL_SIZE];
+        return objectMapper.writeValueAsBytes(
+            ApiResponse.success(new ParticipateResponse(pool.getSeq(), pool.getLottoNumber()))
+        );
+    }
+
+    private ParticipateRequest nextRequest() {
+        return requests[cursor++ & (PHONE_COUNT - 1)];
+    }
+
+    private ParticipationServiceImpl newService(ParticipantMapper participantMapper, TicketPoolMapper ticketPoolMapper) {
+        return new ParticipationServiceImpl(
+            MapperStubs.of(EventMapper.class)
+                .on("findActiveEvent", args -> event)
+                .build(),
+            participantMapper,
+            MapperStubs.of(SmsLogMapper.class).build(),
+            ticketPoolMapper,
+            MapperStubs.of(PrizeMapper.class).build(),
+            new LottoMetrics(new SimpleMeterRegistry()),
+            new CurrentDateProvider(),
+            new TransactionTemplate(new NoOpTransactionManager()),
+            new TransientLockRetryTemplate(new RetryProperties(), new LottoMetrics(new SimpleMeterRegistry()))
+        );
+    }
+
+    /**
+     * @param existing 중복 검사에서 돌려줄 참여자 (null이면 항상 신규)
+     */
+    private ParticipantMapper participantMapper(Participant existing) {
+        return MapperStubs.of(ParticipantMapper.class)
+            .on("countByEvent", args -> participantIds.get())
+            .on("findByEventAndPhoneHash", args -> existing)
+            .on("insert", args -> {
+                ((Participant) args[0]).setId(participantIds.incrementAndGet());
+                return 1;
+            })
+            .build();
+    }
+
+    /**
+     * @param alwaysRankOne true면 참여 순서와 무관하게 1등 번호 반환 (스왑 경로 강제)
+     */
+    private TicketPoolMapper ticketPoolMapper(boolean alwaysRankOne) {
+        return MapperStubs.of(TicketPoolMapper.class)
+            .on("lockNextUnassigned", args -> {
+                int index = alwaysRankOne ? 0 : (int) ((participantIds.get() - 1) % POOL_SIZE);
+                return copyOf(poolTemplates[index]);
+            })
+            .on("lockUnassignedByRank", args -> copyOf(poolTemplates[(Integer) args[1] == 1 ? 0 : POOL_SIZE - 1]))
+            .on("updateRankAndNumber", args -> 1)
+            .on("assignParticipant", args -> 1)
+            .build();
+    }
+
+    private static TicketPool copyOf(TicketPool template) {
+        TicketPool pool = new TicketPool();
+        pool.setId(template.getId());
+        pool.setEventId(template.getEventId());
+        pool.setSeq(template.getSeq());
+        pool.setRank(template.getRank());
+        pool.setLottoNumber(template.getLottoNumber());
+        return pool;
+    }
+}
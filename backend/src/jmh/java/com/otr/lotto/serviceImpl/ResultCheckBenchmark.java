@@ -0,0 +1,209 @@
+package com.otr.lotto.serviceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.otr.lotto.bench.MapperStubs;
+import com.otr.lotto.bench.NoOpTransactionManager;
+import com.otr.lotto.buffer.CheckCountBuffer;
+import com.otr.lotto.common.ApiResponse;
+import com.otr.lotto.common.CurrentDateProvider;
+import com.otr.lotto.domain.Event;
+import com.otr.lotto.domain.Participant;
+import com.otr.lotto.domain.ParticipantResult;
+import com.otr.lotto.domain.Prize;
+import com.otr.lotto.dto.ResultCheckRequest;
+import com.otr.lotto.dto.ResultCheckResponse;
+import com.otr.lotto.index.ResultIndexRegistry;
+import com.otr.lotto.index.WinnerBitmapRegistry;
+import com.otr.lotto.mapper.EventMapper;
+import com.otr.lotto.mapper.ParticipantMapper;
+import com.otr.lotto.mapper.PrizeMapper;
+import com.otr.lotto.mapper.UnconfirmedWinnerMapper;
+import com.otr.lotto.metrics.LottoMetrics;
+import com.otr.lotto.retry.RetryProperties;
+import com.otr.lotto.retry.TransientLockRetryTemplate;
+import com.otr.lotto.scan.ParticipantScanner;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 결과 조회 요청 경로 벤치마크
+ *
+ * ResultCheckServiceImpl.check를 메모리 Mapper로 끝까지 실행합니다.
+ * 참여자 10,000명(10%가 당첨)을 순서대로 조회하므로, 반복(iteration) 시작 직후
+ * 10,000건은 첫 조회이고 이후는 재조회입니다. (반복마다 조회 횟수 버퍼를 새로 만듦)
+ *
+ * - check_indexed: 결과 조회 인덱스 + 당첨자 비트맵 적중 (발표 기간 정상 경로)
+ * - check_database: 인덱스 미생성 → 참여자/당첨 조회를 Mapper(메모리 맵)로 처리
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ResultCheckBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultCheckBenchmark {
+    private static final int PARTICIPANT_COUNT = 10_000;
+    private static final Long EVENT_ID = 1L;
+
+    private final ResultCheckRequest[] requests = new ResultCheckRequest[PARTICIPANT_COUNT];
+    private final Map<String, Participant> participantsByHash = new HashMap<>();
+    private final Map<Long, Prize> prizesByParticipant = new HashMap<>();
+    private final List<ParticipantResult> resultEntries = new ArrayList<>();
+
+    private EventMapper eventMapper;
+    private ParticipantMapper participantMapper;
+    private PrizeMapper prizeMapper;
+    private ResultIndexRegistry resultIndexRegistry;
+    private WinnerBitmapRegistry winnerBitmapRegistry;
+    private ResultCheckServiceImpl indexedService;
+    private ResultCheckServiceImpl databaseService;
+    private ObjectMapper objectMapper;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchAlgorithmException {
+        Event event = new Event();
+        event.setId(EVENT_ID);
+
+        List<Long> winnerIds = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANT_COUNT; i++) {
+            long participantId = i + 1L;
+            String phone = String.format("010-%04d-%04d", i / 10_000, i % 10_000);
+            String phoneHash = sha256Hex(phone.replace("-", ""));
+            int rank = i % 10 == 0 ? 1 + (i / 10) % 4 : 0;
+
+            Participant participant = new Participant();
+            participant.setId(participantId);
+            participant.setEventId(EVENT_ID);
+            participant.setPhoneHash(phoneHash);
+            participant.setCheckCount(0);
+            participantsByHash.put(phoneHash, participant);
+            if (rank > 0) {
+                prizesByParticipant.put(participantId, new Prize(participantId, EVENT_ID, participantId, rank, null));
+                winnerIds.add(participantId);
+            }
+            resultEntries.add(new ParticipantResult(participantId, phoneHash, rank));
+            requests[i] = new ResultCheckRequest(phone);
+        }
+
+        eventMapper = MapperStubs.of(EventMapper.class)
+            .on("findActiveAnnounceEvent", args -> event)
+            .build();
+        participantMapper = MapperStubs.of(ParticipantMapper.class)
+            .on("countByEvent", args -> (long) PARTICIPANT_COUNT)
+            .on("findByEventAndPhoneHash", args -> participantsByHash.get((String) args[1]))
+            .on("findResultEntriesAfter", args -> resultPage((Long) args[1], (Integer) args[2]))
+            .build();
+        prizeMapper = MapperStubs.of(PrizeMapper.class)
+            .on("findByEventAndParticipantId", args -> prizesByParticipant.get((Long) args[1]))
+            .on("findWinnerParticipantIds", args -> winnerIds)
+            .build();
+
+        resultIndexRegistry = new ResultIndexRegistry(participantMapper, new ParticipantScanner(participantMapper));
+        resultIndexRegistry.rebuild(EVENT_ID);
+        winnerBitmapRegistry = new WinnerBitmapRegistry(prizeMapper);
+        winnerBitmapRegistry.rebuild(EVENT_ID);
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    /**
+     * 반복마다 조회 횟수 버퍼를 새로 만들어 첫 조회/재조회 비율을 일정하게 유지
+     */
+    @Setup(Level.Iteration)
+    public void resetCheckCounts() {
+        CheckCountBuffer checkCountBuffer = new CheckCountBuffer(participantMapper, new NoOpTransactionManager());
+        indexedService = newService(resultIndexRegistry, winnerBitmapRegistry, checkCountBuffer);
+        databaseService = newService(
+            new ResultIndexRegistry(participantMapper, new ParticipantScanner(participantMapper)),
+            new WinnerBitmapRegistry(prizeMapper),
+            checkCountBuffer
+        );
+        cursor = 0;
+    }
+
+    @Benchmark
+    public ResultCheckResponse check_indexed() {
+        return indexedService.check(nextRequest());
+    }
+
+    @Benchmark
+    public ResultCheckResponse check_database() {
+        return databaseService.check(nextRequest());
+    }
+
+    /**
+     * 첫 조회 응답 직렬화 (rank)
+     */
+    @Benchmark
+    public byte[] serializeFirstCheckResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(new ResultCheckResponse(4, null, null, null, 1)));
+    }
+
+    /**
+     * 재조회 응답 직렬화 (isWinner)
+     */
+    @Benchmark
+    public byte[] serializeRecheckResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(new ResultCheckResponse(null, Boolean.FALSE, null, null, 2)));
+    }
+
+    private ResultCheckRequest nextRequest() {
+        ResultCheckRequest request = requests[cursor];
+        cursor = cursor + 1 == PARTICIPANT_COUNT ? 0 : cursor + 1;
+        return request;
+    }
+
+    private List<ParticipantResult> resultPage(long afterId, int limit) {
+        int from = (int) Math.min(afterId, PARTICIPANT_COUNT);
+        return resultEntries.subList(from, Math.min(from + limit, PARTICIPANT_COUNT));
+    }
+
+    private ResultCheckServiceImpl newService(
+        ResultIndexRegistry indexRegistry,
+        WinnerBitmapRegistry bitmapRegistry,
+        CheckCountBuffer checkCountBuffer
+    ) {
+        LottoMetrics metrics = new LottoMetrics(new SimpleMeterRegistry());
+        return new ResultCheckServiceImpl(
+            eventMapper,
+            participantMapper,
+            prizeMapper,
+            MapperStubs.of(UnconfirmedWinnerMapper.class).build(),
+            indexRegistry,
+            bitmapRegistry,
+            checkCountBuffer,
+            metrics,
+            new CurrentDateProvider(),
+            new TransientLockRetryTemplate(new RetryProperties(), metrics)
+        );
+    }
+
+    private static String sha256Hex(String value) throws NoSuchAlgorithmException {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        StringBuilder builder = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+}
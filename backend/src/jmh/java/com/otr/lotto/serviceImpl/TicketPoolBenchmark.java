@@ -0,0 +1,84 @@
+package com.otr.lotto.serviceImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.otr.lotto.bench.MapperStubs;
+import com.otr.lotto.domain.Event;
+import com.otr.lotto.dto.TicketPoolPrepareResponse;
+import com.otr.lotto.mapper.EventMapper;
+import com.otr.lotto.mapper.TicketPoolMapper;
+
+/**
+ * 번호 풀 생성 벤치마크 (번호 1건 단위 + preparePool 전체)
+ *
+ * Mapper는 스텁이므로 DB 왕복 없이 번호 생성/rank 배정 비용만 측정합니다.
+ * preparePool은 서비스 상수(TOTAL_TICKETS = 10,000)만큼 생성하며,
+ * 풀 크기에 따른 변화는 TicketPoolScaleBenchmark에서 측정합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=TicketPoolBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TicketPoolBenchmark {
+    private static final String WINNING_NUMBER = "3,11,22,33,41,45";
+
+    private TicketPoolServiceImpl ticketPoolService;
+    private List<Integer> winningNumbers;
+    private List<Integer> unsortedNumbers;
+
+    @Setup
+    public void setUp() {
+        Event event = new Event();
+        event.setId(1L);
+        event.setWinningNumber(WINNING_NUMBER);
+
+        EventMapper eventMapper = MapperStubs.of(EventMapper.class)
+            .on("findById", args -> event)
+            .build();
+        TicketPoolMapper ticketPoolMapper = MapperStubs.of(TicketPoolMapper.class)
+            .on("insertBatch", args -> ((List<?>) args[0]).size())
+            .build();
+
+        ticketPoolService = new TicketPoolServiceImpl(eventMapper, ticketPoolMapper);
+        winningNumbers = ticketPoolService.parseWinningNumbers(WINNING_NUMBER);
+        unsortedNumbers = new ArrayList<>(winningNumbers);
+        Collections.reverse(unsortedNumbers);
+    }
+
+    @Benchmark
+    public TicketPoolPrepareResponse preparePool() {
+        return ticketPoolService.preparePool(1L);
+    }
+
+    @Benchmark
+    public String generateVariantNumbers_rank2() {
+        return ticketPoolService.generateVariantNumbers(winningNumbers, 5);
+    }
+
+    @Benchmark
+    public String generateVariantNumbers_rank4() {
+        return ticketPoolService.generateVariantNumbers(winningNumbers, 3);
+    }
+
+    @Benchmark
+    public String generateNonWinningNumbers() {
+        return ticketPoolService.generateNonWinningNumbers(winningNumbers, 2);
+    }
+
+    @Benchmark
+    public String formatNumbers() {
+        return ticketPoolService.formatNumbers(unsortedNumbers);
+    }
+}
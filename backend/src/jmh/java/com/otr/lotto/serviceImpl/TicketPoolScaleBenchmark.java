@@ -0,0 +1,87 @@
+package com.otr.lotto.serviceImpl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.otr.lotto.bench.MapperStubs;
+import com.otr.lotto.mapper.EventMapper;
+import com.otr.lotto.mapper.TicketPoolMapper;
+
+/**
+ * 번호 풀 크기별 벤치마크 (10k ~ 10M)
+ *
+ * preparePool의 풀 크기는 상수이므로, 크기에 비례하는 두 단계를 풀 크기별로 측정합니다.
+ * - pickRandomSeqs: 1 ~ poolSize 범위에서 4등 비율(9.5%)만큼 seq 선별
+ * - generatePoolNumbers: poolSize개 번호를 preparePool과 같은 rank 비율로 생성
+ *
+ * 10M은 1회 수 초 이상 걸리므로 반복 횟수를 줄였습니다. (힙 4GB 기준)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=TicketPoolScaleBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class TicketPoolScaleBenchmark {
+    private static final String WINNING_NUMBER = "3,11,22,33,41,45";
+    private static final int RANK_FOUR_PER_10K = 950;
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    private int poolSize;
+
+    private TicketPoolServiceImpl ticketPoolService;
+    private List<Integer> winningNumbers;
+
+    @Setup
+    public void setUp() {
+        ticketPoolService = new TicketPoolServiceImpl(
+            MapperStubs.of(EventMapper.class).build(),
+            MapperStubs.of(TicketPoolMapper.class).build()
+        );
+        winningNumbers = ticketPoolService.parseWinningNumbers(WINNING_NUMBER);
+    }
+
+    @Benchmark
+    public Set<Long> pickRandomSeqs() {
+        int count = (int) ((long) poolSize * RANK_FOUR_PER_10K / 10_000);
+        return ticketPoolService.pickRandomSeqs(1, poolSize, count, Collections.emptySet());
+    }
+
+    /**
+     * 1등 1 / 2등 5 / 3등 44 / 4등 950 / 비당첨 9,000 (10,000개당) 비율로 번호 생성
+     */
+    @Benchmark
+    public void generatePoolNumbers(Blackhole blackhole) {
+        for (int seq = 0; seq < poolSize; seq++) {
+            int slot = seq % 10_000;
+            int rank;
+            if (slot == 0) {
+                rank = 1;
+            } else if (slot <= 5) {
+                rank = 2;
+            } else if (slot <= 49) {
+                rank = 3;
+            } else if (slot <= 999) {
+                rank = 4;
+            } else {
+                rank = 0;
+            }
+            blackhole.consume(ticketPoolService.generateNumberForRank(winningNumbers, rank));
+        }
+    }
+}
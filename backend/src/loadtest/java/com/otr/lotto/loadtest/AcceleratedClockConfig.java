@@ -0,0 +1,29 @@
+package com.otr.lotto.loadtest;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * soak 테스트에서 CurrentDateProvider를 가속 시계로 교체하는 설정
+ *
+ * 컴포넌트 스캔 대상이 되지 않도록 @Configuration 없이 두고,
+ * SoakMain이 앱 시작 시 설정 클래스로 직접 넘깁니다.
+ */
+public class AcceleratedClockConfig {
+
+    @Bean
+    @Primary
+    public AcceleratedDateProvider acceleratedDateProvider(
+        @Value("${soak.start-date:2025-02-15}") String startDate,
+        @Value("${soak.day-seconds:5}") double daySeconds
+    ) {
+        return new AcceleratedDateProvider(
+            LocalDate.parse(startDate),
+            (long) (daySeconds * TimeUnit.SECONDS.toNanos(1))
+        );
+    }
+}
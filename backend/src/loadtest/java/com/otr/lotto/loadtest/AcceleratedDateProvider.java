@@ -0,0 +1,55 @@
+package com.otr.lotto.loadtest;
+
+import java.time.LocalDate;
+
+import com.otr.lotto.common.CurrentDateProvider;
+
+/**
+ * 가속 시계 (soak 테스트용 CurrentDateProvider)
+ *
+ * 실제 시간 dayNanos마다 하루가 지나며, 단계 전환 시 특정 날짜로 이동하거나 멈출 수 있습니다.
+ * today()는 요청마다 호출되므로 상태를 불변 객체 하나로 교체해 잠금 없이 읽습니다.
+ */
+public class AcceleratedDateProvider extends CurrentDateProvider {
+    private final long dayNanos;
+    private volatile State state;
+
+    public AcceleratedDateProvider(LocalDate startDate, long dayNanos) {
+        if (dayNanos <= 0) {
+            throw new IllegalArgumentException("하루 길이는 0보다 커야 합니다.");
+        }
+        this.dayNanos = dayNanos;
+        this.state = new State(startDate, System.nanoTime(), true);
+    }
+
+    @Override
+    public LocalDate today() {
+        State current = state;
+        if (!current.running) {
+            return current.date;
+        }
+        return current.date.plusDays((System.nanoTime() - current.startedAtNanos) / dayNanos);
+    }
+
+    /**
+     * 날짜 이동
+     *
+     * @param date 이동할 날짜
+     * @param running true면 이 날짜부터 계속 흐르고, false면 이 날짜에 멈춤
+     */
+    public void moveTo(LocalDate date, boolean running) {
+        state = new State(date, System.nanoTime(), running);
+    }
+
+    private static final class State {
+        private final LocalDate date;
+        private final long startedAtNanos;
+        private final boolean running;
+
+        private State(LocalDate date, long startedAtNanos, boolean running) {
+            this.date = date;
+            this.startedAtNanos = startedAtNanos;
+            this.running = running;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.otr.lotto.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfiguration;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+/**
+ * 부하 테스트용 내장 MariaDB (MariaDB4j)
+ *
+ * 임시 디렉터리에 MariaDB 서버를 띄우고 db/schema.sql(클래스패스)로 스키마와
+ * 초기 이벤트를 만듭니다. 포트는 빈 포트를 자동으로 사용하므로 네트워크 설정이 필요 없습니다.
+ *
+ * DB 생성과 스키마 적용은 JDBC로 실행합니다.
+ * (DB.createDB/source는 번들된 mariadb 클라이언트를 실행하는데, 이 클라이언트는 libncurses.so.5가 없는 환경에서 실행되지 않음)
+ */
+public final class EmbeddedMariaDb implements AutoCloseable {
+    private static final String DATABASE = "lotto";
+    private static final String USERNAME = "root";
+
+    private final DB db;
+    private final DBConfiguration configuration;
+
+    private EmbeddedMariaDb(DB db, DBConfiguration configuration) {
+        this.db = db;
+        this.configuration = configuration;
+    }
+
+    public static EmbeddedMariaDb start() throws ManagedProcessException, SQLException, IOException {
+        DBConfigurationBuilder builder = DBConfigurationBuilder.newBuilder();
+        builder.setPort(0);
+        if ("root".equals(System.getProperty("user.name"))) {
+            builder.addArg("--user=root");
+        }
+        DBConfiguration configuration = builder.build();
+
+        DB db = DB.newEmbeddedDB(configuration);
+        db.start();
+        try {
+            applySchema(configuration.getPort());
+        } catch (SQLException | IOException | RuntimeException ex) {
+            db.stop();
+            throw ex;
+        }
+        return new EmbeddedMariaDb(db, configuration);
+    }
+
+    /**
+     * DB 생성 후 schema.sql(클래스패스) 전체를 한 번에 실행
+     */
+    private static void applySchema(int port) throws SQLException, IOException {
+        String script;
+        try (InputStream in = EmbeddedMariaDb.class.getClassLoader().getResourceAsStream("schema.sql")) {
+            if (in == null) {
+                throw new IOException("클래스패스에 schema.sql이 없습니다.");
+            }
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        String url = "jdbc:mariadb://localhost:" + port + "/?allowMultiQueries=true";
+        try (Connection connection = DriverManager.getConnection(url, USERNAME, "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE IF NOT EXISTS " + DATABASE + " DEFAULT CHARACTER SET utf8mb4");
+            statement.execute("USE " + DATABASE);
+            boolean hasResult = statement.execute(script);
+            while (hasResult || statement.getUpdateCount() != -1) {
+                hasResult = statement.getMoreResults();
+            }
+        }
+    }
+
+    public String getUrl() {
+        return configuration.getURL(DATABASE);
+    }
+
+    public String getUsername() {
+        return USERNAME;
+    }
+
+    @Override
+    public void close() throws ManagedProcessException {
+        db.stop();
+    }
+}
@@ -0,0 +1,121 @@
+package com.otr.lotto.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트 1개의 부하 테스트 결과
+ *
+ * - 지연 시간: HdrHistogram (마이크로초, 유효숫자 3자리), 예정 발송 시각부터 응답 완료까지
+ * - 결과 분류: SUCCESS / ErrorCode / HTTP_상태코드 / TIMEOUT / IO_ERROR
+ */
+public final class EndpointStats {
+    public static final String SUCCESS = "SUCCESS";
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final String name;
+    private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private volatile long elapsedNanos;
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public void record(String outcome, long latencyNanos) {
+        latency.recordValue(Math.min(MAX_LATENCY_MICROS, Math.max(0L, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRequests() {
+        return latency.getTotalCount();
+    }
+
+    public double getAchievedRate() {
+        return elapsedNanos == 0 ? 0.0 : getRequests() * 1e9 / elapsedNanos;
+    }
+
+    public double percentileMs(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double maxMs() {
+        return latency.getMaxValue() / 1000.0;
+    }
+
+    public double meanMs() {
+        return latency.getMean() / 1000.0;
+    }
+
+    /**
+     * 결과 분류별 건수 (이름순)
+     */
+    public Map<String, Long> getOutcomes() {
+        Map<String, Long> sorted = new TreeMap<>();
+        outcomes.forEach((key, count) -> sorted.put(key, count.sum()));
+        return sorted;
+    }
+
+    /**
+     * summary.json 항목 (요청 수, 처리율, 지연 백분위, 결과 분류)
+     */
+    public Map<String, Object> toSummary() {
+        Map<String, Object> latencyMs = new LinkedHashMap<>();
+        latencyMs.put("p50", percentileMs(50.0));
+        latencyMs.put("p90", percentileMs(90.0));
+        latencyMs.put("p99", percentileMs(99.0));
+        latencyMs.put("p999", percentileMs(99.9));
+        latencyMs.put("max", maxMs());
+        latencyMs.put("mean", meanMs());
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", getRequests());
+        summary.put("achievedRate", getAchievedRate());
+        summary.put("latencyMs", latencyMs);
+        summary.put("outcomes", getOutcomes());
+        return summary;
+    }
+
+    public void printSummary(PrintStream out) {
+        out.printf(Locale.ROOT, "%-12s requests=%d achieved=%.1f/s%n", name, getRequests(), getAchievedRate());
+        out.printf(
+            Locale.ROOT,
+            "%-12s latency(ms) p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f mean=%.2f%n",
+            "",
+            percentileMs(50.0), percentileMs(90.0), percentileMs(99.0), percentileMs(99.9), maxMs(), meanMs()
+        );
+        getOutcomes().forEach((outcome, count) ->
+            out.printf(Locale.ROOT, "%-12s %-26s %8d (%.2f%%)%n", "", outcome, count, 100.0 * count / Math.max(1L, getRequests()))
+        );
+    }
+
+    /**
+     * HdrHistogram 백분위 분포 파일 (.hgrm, HistogramLogAnalyzer 등에서 비교 가능)
+     */
+    public void writePercentileDistribution(Path file) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+            latency.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
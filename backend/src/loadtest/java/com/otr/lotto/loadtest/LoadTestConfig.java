@@ -0,0 +1,128 @@
+package com.otr.lotto.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+/**
+ * 부하 테스트 설정
+ *
+ * 시스템 프로퍼티(loadtest.*)로 지정하며, Gradle에서는 -Ploadtest.* 로 전달합니다.
+ * (예: ./gradlew loadTest -Ploadtest.participate.rate=300)
+ *
+ * 도착률(rate)은 응답 속도와 무관하게 유지되는 초당 요청 수(open model)이고,
+ * concurrency는 동시에 응답을 기다릴 수 있는 최대 요청 수입니다.
+ * 동시 요청이 가득 차 늦게 보낸 요청도 예정 시각부터 지연 시간을 잽니다.
+ */
+public final class LoadTestConfig {
+    private final double participateRate;
+    private final int participateSeconds;
+    private final double checkRate;
+    private final int checkSeconds;
+    private final int concurrency;
+    private final double duplicateRatio;
+    private final int requestTimeoutMs;
+    private final long seed;
+    private final String participateDate;
+    private final String announceDate;
+    private final Path outputDir;
+
+    private LoadTestConfig() {
+        this.participateRate = doubleProperty("loadtest.participate.rate", 250.0);
+        this.participateSeconds = intProperty("loadtest.participate.seconds", 60);
+        this.checkRate = doubleProperty("loadtest.check.rate", 500.0);
+        this.checkSeconds = intProperty("loadtest.check.seconds", 60);
+        this.concurrency = intProperty("loadtest.concurrency", 64);
+        this.duplicateRatio = doubleProperty("loadtest.duplicate-ratio", 0.1);
+        this.requestTimeoutMs = intProperty("loadtest.request-timeout-ms", 10_000);
+        this.seed = Long.parseLong(System.getProperty("loadtest.seed", "20250215"));
+        this.participateDate = System.getProperty("loadtest.participate-date", "2025-02-15");
+        this.announceDate = System.getProperty("loadtest.announce-date", "2025-04-02");
+        this.outputDir = Paths.get(System.getProperty("loadtest.output-dir", "build/loadtest"));
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        LoadTestConfig config = new LoadTestConfig();
+        if (config.duplicateRatio < 0.0 || config.duplicateRatio >= 1.0) {
+            throw new IllegalArgumentException("loadtest.duplicate-ratio는 0 이상 1 미만이어야 합니다.");
+        }
+        if (config.participateRate <= 0.0 || config.checkRate <= 0.0 || config.concurrency <= 0) {
+            throw new IllegalArgumentException("loadtest rate/concurrency는 0보다 커야 합니다.");
+        }
+        return config;
+    }
+
+    /**
+     * 요약 출력용 한 줄 설정 (커밋 간 비교 시 같은 설정인지 확인)
+     */
+    public String describe() {
+        return String.format(
+            Locale.ROOT,
+            "participate=%.0f/s x %ds, check=%.0f/s x %ds, concurrency=%d, duplicateRatio=%.2f, seed=%d",
+            participateRate, participateSeconds, checkRate, checkSeconds, concurrency, duplicateRatio, seed
+        );
+    }
+
+    /**
+     * 요청 발생기 공통 설정만 출력 (soak 테스트용)
+     */
+    public String describeClient() {
+        return String.format(
+            Locale.ROOT,
+            "concurrency=%d, duplicateRatio=%.2f, seed=%d",
+            concurrency, duplicateRatio, seed
+        );
+    }
+
+    public double getParticipateRate() {
+        return participateRate;
+    }
+
+    public int getParticipateSeconds() {
+        return participateSeconds;
+    }
+
+    public double getCheckRate() {
+        return checkRate;
+    }
+
+    public int getCheckSeconds() {
+        return checkSeconds;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public double getDuplicateRatio() {
+        return duplicateRatio;
+    }
+
+    public int getRequestTimeoutMs() {
+        return requestTimeoutMs;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getParticipateDate() {
+        return participateDate;
+    }
+
+    public String getAnnounceDate() {
+        return announceDate;
+    }
+
+    public Path getOutputDir() {
+        return outputDir;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        return Double.parseDouble(System.getProperty(name, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,121 @@
+package com.otr.lotto.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * 부하 테스트 실행기 (./gradlew loadTest)
+ *
+ * 네트워크 없이 한 대에서 실행됩니다.
+ * 1. 내장 MariaDB 시작 + schema.sql 적용 (이벤트 1번)
+ * 2. 참여 기간 날짜로 앱 시작 → POST /api/participations 부하
+ *    → 남은 정원을 순차 요청으로 채움 (측정 제외, 당첨 산정 조건 충족용)
+ * 3. 앱 종료 후 발표 기간 날짜로 다시 시작 → 당첨 산정 → POST /api/results/check 부하
+ * 4. 요약 출력 + build/loadtest/summary.json, *.hgrm 저장
+ *
+ * 날짜는 test.current-date로 고정하므로 단계마다 앱을 다시 띄웁니다. (같은 DB 사용)
+ */
+public final class LoadTestMain {
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ObjectMapper objectMapper = new ObjectMapper();
+        PhoneNumbers phones = new PhoneNumbers(config.getSeed(), config.getDuplicateRatio());
+
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(config.getConcurrency(), runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(clientExecutor)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        OpenModelRunner runner = new OpenModelRunner(
+            httpClient,
+            objectMapper,
+            config.getConcurrency(),
+            Duration.ofMillis(config.getRequestTimeoutMs())
+        );
+
+        EndpointStats participate;
+        EndpointStats check;
+        try (EmbeddedMariaDb db = EmbeddedMariaDb.start()) {
+            try (ConfigurableApplicationContext app = LottoApp.start(db, Map.of("test.current-date", config.getParticipateDate()))) {
+                URI baseUri = LottoApp.baseUri(app);
+                int[] phoneOfSequence = new int[(int) (config.getParticipateRate() * config.getParticipateSeconds())];
+                participate = runner.run(
+                    new EndpointStats("participate"),
+                    baseUri.resolve("/api/participations"),
+                    config.getParticipateRate(),
+                    config.getParticipateSeconds(),
+                    sequence -> {
+                        int phone = phones.nextForParticipation();
+                        phoneOfSequence[(int) sequence] = phone;
+                        return LottoApp.phoneBody(phone);
+                    },
+                    (sequence, body) -> phones.markParticipated(phoneOfSequence[(int) sequence])
+                );
+                int filled = LottoApp.fillRemainingCapacity(httpClient, baseUri, phones);
+                System.out.printf("정원 채우기: %d명 추가 (참여 성공 %d명)%n", filled, phones.participatedCount());
+            }
+
+            try (ConfigurableApplicationContext app = LottoApp.start(db, Map.of("test.current-date", config.getAnnounceDate()))) {
+                URI baseUri = LottoApp.baseUri(app);
+                LottoApp.draw(httpClient, baseUri);
+
+                phones.prepareChecks();
+                check = runner.run(
+                    new EndpointStats("check"),
+                    baseUri.resolve("/api/results/check"),
+                    config.getCheckRate(),
+                    config.getCheckSeconds(),
+                    sequence -> LottoApp.phoneBody(phones.nextForCheck()),
+                    OpenModelRunner.SuccessListener.NONE
+                );
+            }
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+
+        report(config, objectMapper, List.of(participate, check));
+    }
+
+    private static void report(LoadTestConfig config, ObjectMapper objectMapper, List<EndpointStats> results)
+        throws IOException {
+        System.out.println();
+        System.out.println("==================== 부하 테스트 요약 ====================");
+        System.out.println(config.describe());
+        for (EndpointStats stats : results) {
+            stats.printSummary(System.out);
+        }
+        System.out.println("==========================================================");
+
+        Files.createDirectories(config.getOutputDir());
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("config", config.describe());
+        for (EndpointStats stats : results) {
+            summary.put(stats.getName(), stats.toSummary());
+            stats.writePercentileDistribution(config.getOutputDir().resolve(stats.getName() + ".hgrm"));
+        }
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(config.getOutputDir().resolve("summary.json").toFile(), summary);
+        System.out.println("결과 저장: " + config.getOutputDir().toAbsolutePath());
+    }
+}
@@ -0,0 +1,96 @@
+package com.otr.lotto.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.otr.lotto.LottoApplication;
+
+/**
+ * 부하 테스트 대상 앱 실행/호출 도우미
+ */
+final class LottoApp {
+    static final long EVENT_ID = 1L;
+
+    private LottoApp() {
+    }
+
+    /**
+     * 내장 DB에 연결된 앱을 빈 포트로 시작
+     *
+     * @param db 내장 MariaDB
+     * @param overrides 추가 설정 (예: test.current-date)
+     * @param extraSources 추가 설정 클래스 (예: 가속 시계)
+     */
+    static ConfigurableApplicationContext start(EmbeddedMariaDb db, Map<String, Object> overrides, Class<?>... extraSources) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", db.getUrl());
+        properties.put("spring.datasource.username", db.getUsername());
+        properties.put("spring.datasource.password", "");
+        properties.put("server.port", 0);
+        properties.put("logging.level.com.otr.lotto", "WARN");
+        properties.putAll(overrides);
+        return new SpringApplicationBuilder(LottoApplication.class)
+            .sources(extraSources)
+            .properties(properties)
+            .run();
+    }
+
+    static URI baseUri(ConfigurableApplicationContext app) {
+        return URI.create("http://localhost:" + app.getEnvironment().getProperty("local.server.port"));
+    }
+
+    static HttpResponse<String> post(HttpClient httpClient, URI uri, String body)
+        throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    static String phoneBody(int phone) {
+        return "{\"phone\":\"" + PhoneNumbers.format(phone) + "\"}";
+    }
+
+    /**
+     * 정원(CAPACITY_FULL)까지 신규 번호로 순차 참여 (측정 제외)
+     *
+     * 당첨 산정은 모든 당첨 번호가 배정되어야 성공하므로 부하 단계에서 정원을 채우지 못했을 때 사용합니다.
+     *
+     * @return 추가로 참여한 수
+     */
+    static int fillRemainingCapacity(HttpClient httpClient, URI baseUri, PhoneNumbers phones)
+        throws IOException, InterruptedException {
+        int filled = 0;
+        while (true) {
+            int phone = phones.nextUnique();
+            HttpResponse<String> response = post(httpClient, baseUri.resolve("/api/participations"), phoneBody(phone));
+            if (response.statusCode() != 200) {
+                if (!response.body().contains("CAPACITY_FULL")) {
+                    throw new IllegalStateException("정원 채우기 실패: " + response.body());
+                }
+                return filled;
+            }
+            phones.markParticipated(phone);
+            filled++;
+        }
+    }
+
+    /**
+     * 당첨 산정 실행 (실패 시 예외)
+     */
+    static void draw(HttpClient httpClient, URI baseUri) throws IOException, InterruptedException {
+        HttpResponse<String> response = post(httpClient, baseUri.resolve("/api/admin/events/" + EVENT_ID + "/draw"), "");
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("당첨 산정 실패: " + response.body());
+        }
+    }
+}
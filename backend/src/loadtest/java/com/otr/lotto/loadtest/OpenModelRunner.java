@@ -0,0 +1,130 @@
+package com.otr.lotto.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Open model 부하 발생기
+ *
+ * 요청 i의 발송 예정 시각을 시작 + i / rate로 고정하고,
+ * 서버 응답 속도와 관계없이 예정 시각마다 요청을 보냅니다. (closed model처럼 응답을 기다렸다 보내지 않음)
+ *
+ * 동시 요청 수가 concurrency에 도달하면 자리가 날 때까지 발송이 늦어지지만,
+ * 지연 시간은 예정 시각부터 재므로 늦어진 만큼 그대로 결과에 반영됩니다. (coordinated omission 보정)
+ */
+public final class OpenModelRunner {
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final int concurrency;
+    private final Duration requestTimeout;
+
+    public OpenModelRunner(HttpClient httpClient, ObjectMapper objectMapper, int concurrency, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.concurrency = concurrency;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * 고정 도착률로 POST 요청 발송
+     *
+     * @param stats 결과 기록 대상
+     * @param uri 요청 URI
+     * @param rate 초당 요청 수
+     * @param seconds 발송 시간 (초)
+     * @param bodyOf 요청 순번 → JSON 본문
+     * @param onSuccess 성공 응답 처리 (요청 순번, 응답 본문)
+     * @return stats
+     */
+    public EndpointStats run(
+        EndpointStats stats,
+        URI uri,
+        double rate,
+        int seconds,
+        LongFunction<String> bodyOf,
+        SuccessListener onSuccess
+    ) throws InterruptedException {
+        long total = (long) (rate * seconds);
+        double intervalNanos = 1e9 / rate;
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        long startedAt = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intendedAt = startedAt + (long) (i * intervalNanos);
+            long wait = intendedAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+
+            long sequence = i;
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(bodyOf.apply(sequence)))
+                .build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    try {
+                        long latency = System.nanoTime() - intendedAt;
+                        String outcome = error != null ? outcomeOf(error) : outcomeOf(response);
+                        if (EndpointStats.SUCCESS.equals(outcome)) {
+                            onSuccess.onSuccess(sequence, response.body());
+                        }
+                        stats.record(outcome, latency);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+        }
+
+        // 남은 응답 대기
+        if (!inFlight.tryAcquire(concurrency, requestTimeout.toMillis() * 2, TimeUnit.MILLISECONDS)) {
+            System.err.printf("%s: 응답을 받지 못한 요청이 남아 있습니다.%n", stats.getName());
+        }
+        stats.setElapsedNanos(System.nanoTime() - startedAt);
+        return stats;
+    }
+
+    private String outcomeOf(HttpResponse<String> response) {
+        if (response.statusCode() == 200) {
+            return EndpointStats.SUCCESS;
+        }
+        try {
+            JsonNode code = objectMapper.readTree(response.body()).path("error").path("code");
+            if (code.isTextual()) {
+                return code.asText();
+            }
+        } catch (Exception ignored) {
+            // 본문이 ApiResponse 형식이 아니면 상태 코드로 분류
+        }
+        return "HTTP_" + response.statusCode();
+    }
+
+    private static String outcomeOf(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof HttpTimeoutException ? "TIMEOUT" : "IO_ERROR";
+    }
+
+    /**
+     * 성공 응답 처리 (다음 단계에서 사용할 참여 번호 수집 등)
+     */
+    @FunctionalInterface
+    public interface SuccessListener {
+        SuccessListener NONE = (sequence, body) -> { };
+
+        void onSuccess(long sequence, String body);
+    }
+}
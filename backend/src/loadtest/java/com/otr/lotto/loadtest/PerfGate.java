@@ -0,0 +1,259 @@
+package com.otr.lotto.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 성능 회귀 게이트 (./gradlew perfGate / perfBaseline)
+ *
+ * JMH 결과(JSON)와 부하 테스트 요약(summary.json)에서 지표를 뽑아 기준 파일(perf/baseline.json)과 비교합니다.
+ *
+ * 지표 종류별 방향과 허용 오차(기준 파일 tolerances):
+ * - time (ns/op), alloc (B/op), latency (ms): 낮을수록 좋음, 기준 대비 증가율이 허용 오차를 넘으면 회귀
+ * - throughput (ops/s): 높을수록 좋음, 감소율이 허용 오차를 넘으면 회귀
+ *
+ * 기준 파일에 없는 지표는 NEW로 표시만 하고 실패시키지 않습니다. (perfBaseline으로 기준 갱신)
+ * 기준 파일에 지표가 하나도 없으면 비교할 수 없으므로 실패합니다.
+ *
+ * 기준 장비(referenceMachine):
+ * - perfBaseline 실행 시 장비 식별자(-Dperf.machine, 없으면 OS/아키텍처/CPU 수/JDK)를 함께 기록
+ * - 다른 장비에서는 장비에 따라 달라지는 지표(time, throughput, latency)를 INFO로만 표시하고,
+ *   장비와 무관한 할당량(alloc)만 판정
+ *
+ * 사용: PerfGate [--update] &lt;baseline.json&gt; &lt;jmh.json&gt; &lt;load-summary.json&gt; &lt;report.txt&gt;
+ */
+public final class PerfGate {
+    /** 할당량이 이 값(B/op) 이하인 지표는 비율 대신 이 값까지의 증가를 허용 (0에 가까운 값의 잡음 방지) */
+    private static final double ALLOC_ABSOLUTE_SLACK = 16.0;
+
+    private static final String KIND_ALLOC = "alloc";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private PerfGate() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        boolean update = args.length > 0 && "--update".equals(args[0]);
+        int offset = update ? 1 : 0;
+        if (args.length - offset != 4) {
+            System.err.println("사용: PerfGate [--update] <baseline.json> <jmh.json> <load-summary.json> <report.txt>");
+            System.exit(2);
+        }
+        Path baseline = Paths.get(args[offset]);
+        Path jmhResults = Paths.get(args[offset + 1]);
+        Path loadSummary = Paths.get(args[offset + 2]);
+        Path report = Paths.get(args[offset + 3]);
+
+        PerfGate gate = new PerfGate();
+        Map<String, Metric> current = new LinkedHashMap<>();
+        gate.readJmh(jmhResults, current);
+        gate.readLoad(loadSummary, current);
+
+        if (update) {
+            gate.writeBaseline(baseline, current);
+            System.out.printf("기준 갱신: %s (%d개 지표)%n", baseline.toAbsolutePath(), current.size());
+            return;
+        }
+        boolean passed = gate.compare(baseline, current, report);
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * JMH JSON → 지표 (평균 시간/처리량 + gc.alloc.rate.norm)
+     */
+    private void readJmh(Path file, Map<String, Metric> metrics) throws IOException {
+        for (JsonNode result : objectMapper.readTree(file.toFile())) {
+            String benchmark = shortName(result.path("benchmark").asText());
+            JsonNode primary = result.path("primaryMetric");
+            boolean throughput = "thrpt".equals(result.path("mode").asText());
+            metrics.put(
+                "jmh:" + benchmark + (throughput ? ":throughput" : ":time"),
+                new Metric(throughput ? "throughput" : "time", primary.path("score").asDouble(), primary.path("scoreUnit").asText())
+            );
+            JsonNode alloc = result.path("secondaryMetrics").path("gc.alloc.rate.norm");
+            if (!alloc.isMissingNode()) {
+                metrics.put(
+                    "jmh:" + benchmark + ":alloc",
+                    new Metric("alloc", alloc.path("score").asDouble(), alloc.path("scoreUnit").asText())
+                );
+            }
+        }
+    }
+
+    /**
+     * 부하 테스트 summary.json → 엔드포인트별 p50/p99 지연
+     */
+    private void readLoad(Path file, Map<String, Metric> metrics) throws IOException {
+        JsonNode summary = objectMapper.readTree(file.toFile());
+        for (String endpoint : new String[] { "participate", "check" }) {
+            JsonNode latency = summary.path(endpoint).path("latencyMs");
+            if (latency.isMissingNode()) {
+                continue;
+            }
+            metrics.put("load:" + endpoint + ":p50", new Metric("latency", latency.path("p50").asDouble(), "ms"));
+            metrics.put("load:" + endpoint + ":p99", new Metric("latency", latency.path("p99").asDouble(), "ms"));
+        }
+    }
+
+    private void writeBaseline(Path file, Map<String, Metric> current) throws IOException {
+        ObjectNode root = Files.exists(file) ? (ObjectNode) objectMapper.readTree(file.toFile()) : objectMapper.createObjectNode();
+        root.put("referenceMachine", machine());
+        ObjectNode metrics = root.putObject("metrics");
+        current.forEach((name, metric) -> {
+            ObjectNode node = metrics.putObject(name);
+            node.put("kind", metric.kind);
+            node.put("value", metric.value);
+            node.put("unit", metric.unit);
+        });
+        objectMapper.writeValue(file.toFile(), root);
+    }
+
+    /**
+     * 기준과 비교해 표 출력
+     *
+     * @return 회귀가 없으면 true
+     */
+    private boolean compare(Path baselineFile, Map<String, Metric> current, Path reportFile) throws IOException {
+        JsonNode baseline = objectMapper.readTree(baselineFile.toFile());
+        JsonNode tolerances = baseline.path("tolerances");
+        JsonNode baseMetrics = baseline.path("metrics");
+        String referenceMachine = baseline.path("referenceMachine").asText("");
+        boolean sameMachine = referenceMachine.equals(machine());
+
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "%-62s %14s %14s %9s %7s  %s%n",
+            "metric", "baseline", "current", "change", "limit", "status"));
+        int regressions = 0;
+        for (Map.Entry<String, Metric> entry : current.entrySet()) {
+            String name = entry.getKey();
+            Metric metric = entry.getValue();
+            JsonNode base = baseMetrics.path(name);
+            double tolerance = tolerances.path(metric.kind).asDouble(0.15);
+            if (base.isMissingNode()) {
+                table.append(row(name, Double.NaN, metric, Double.NaN, tolerance, "NEW"));
+                continue;
+            }
+            double baseValue = base.path("value").asDouble();
+            double change = baseValue == 0.0 ? 0.0 : (metric.value - baseValue) / baseValue;
+            String status = sameMachine || KIND_ALLOC.equals(metric.kind)
+                ? status(metric, baseValue, change, tolerance)
+                : "INFO";
+            if ("REGRESSION".equals(status)) {
+                regressions++;
+            }
+            table.append(row(name, baseValue, metric, change, tolerance, status));
+        }
+        for (java.util.Iterator<String> names = baseMetrics.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!current.containsKey(name)) {
+                table.append(String.format(Locale.ROOT, "%-62s %14s %14s %9s %7s  %s%n", name, "-", "-", "-", "-", "MISSING"));
+            }
+        }
+        boolean passed = regressions == 0 && baseMetrics.size() > 0;
+        String verdict;
+        if (baseMetrics.size() == 0) {
+            verdict = "성능 게이트 실패: 기준 지표가 없습니다. 기준 장비에서 ./gradlew perfBaseline으로 기준을 만든 뒤 커밋하세요.";
+        } else if (regressions > 0) {
+            verdict = String.format("성능 게이트 실패: 회귀 %d건 (기준: %s)", regressions, baselineFile);
+        } else {
+            verdict = "성능 게이트 통과";
+        }
+        if (!sameMachine && baseMetrics.size() > 0) {
+            verdict += String.format("%n기준 장비(%s)와 현재 장비(%s)가 달라 할당량(alloc)만 판정했습니다.",
+                referenceMachine, machine());
+        }
+
+        File report = reportFile.toFile();
+        report.getParentFile().mkdirs();
+        try (PrintStream out = new PrintStream(report, StandardCharsets.UTF_8)) {
+            out.print(table);
+            out.println(verdict);
+        }
+        System.out.print(table);
+        System.out.println(verdict);
+        return passed;
+    }
+
+    /**
+     * 장비 식별자 (-Dperf.machine으로 지정, 없으면 OS/아키텍처/CPU 수/JDK)
+     */
+    private static String machine() {
+        String configured = System.getProperty("perf.machine", "");
+        if (!configured.isBlank()) {
+            return configured;
+        }
+        return String.format(
+            Locale.ROOT,
+            "%s/%s, %d cpus, %s",
+            System.getProperty("os.name"),
+            System.getProperty("os.arch"),
+            Runtime.getRuntime().availableProcessors(),
+            System.getProperty("java.version")
+        );
+    }
+
+    private static String status(Metric metric, double baseValue, double change, double tolerance) {
+        boolean higherIsBetter = "throughput".equals(metric.kind);
+        if (higherIsBetter) {
+            return change < -tolerance ? "REGRESSION" : change > tolerance ? "IMPROVED" : "OK";
+        }
+        if (KIND_ALLOC.equals(metric.kind) && metric.value - baseValue <= ALLOC_ABSOLUTE_SLACK) {
+            return change < -tolerance ? "IMPROVED" : "OK";
+        }
+        return change > tolerance ? "REGRESSION" : change < -tolerance ? "IMPROVED" : "OK";
+    }
+
+    private static String row(String name, double baseValue, Metric metric, double change, double tolerance, String status) {
+        return String.format(
+            Locale.ROOT,
+            "%-62s %14s %14s %9s %6.0f%%  %s%n",
+            name,
+            Double.isNaN(baseValue) ? "-" : format(baseValue, metric.unit),
+            format(metric.value, metric.unit),
+            Double.isNaN(change) ? "-" : String.format(Locale.ROOT, "%+.1f%%", change * 100),
+            tolerance * 100,
+            status
+        );
+    }
+
+    private static String format(double value, String unit) {
+        return String.format(Locale.ROOT, "%.2f %s", value, unit);
+    }
+
+    /**
+     * com.otr.lotto.serviceImpl.ParticipationBenchmark.participate → ParticipationBenchmark.participate
+     */
+    private static String shortName(String benchmark) {
+        int method = benchmark.lastIndexOf('.');
+        int type = benchmark.lastIndexOf('.', method - 1);
+        return type < 0 ? benchmark : benchmark.substring(type + 1);
+    }
+
+    private static final class Metric {
+        private final String kind;
+        private final double value;
+        private final String unit;
+
+        private Metric(String kind, double value, String unit) {
+            this.kind = kind;
+            this.value = value;
+            this.unit = unit;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.otr.lotto.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 부하 테스트용 휴대폰 번호 발급
+ *
+ * 번호 i는 010-XXXX-XXXX 형식으로 고정 변환되며 (i < 1억),
+ * duplicateRatio 비율로 이미 보낸 번호를 다시 보냅니다.
+ * - 참여: 다시 보낸 번호는 DUPLICATE_PARTICIPATION 대상
+ * - 결과 조회: 다시 보낸 번호는 재조회(isWinner) 대상
+ *
+ * next*()는 발송 스레드 1개에서만 호출하며, 같은 seed면 같은 순서를 만듭니다.
+ */
+public final class PhoneNumbers {
+    private final Random random;
+    private final double duplicateRatio;
+    private final ConcurrentLinkedQueue<Integer> participated = new ConcurrentLinkedQueue<>();
+    private int issued;
+
+    private List<Integer> checkOrder = List.of();
+    private int checked;
+
+    public PhoneNumbers(long seed, double duplicateRatio) {
+        this.random = new Random(seed);
+        this.duplicateRatio = duplicateRatio;
+    }
+
+    public static String format(int index) {
+        return String.format("010-%04d-%04d", index / 10_000, index % 10_000);
+    }
+
+    /**
+     * 참여 요청용 번호 (신규 또는 중복)
+     */
+    public int nextForParticipation() {
+        if (issued > 0 && random.nextDouble() < duplicateRatio) {
+            return random.nextInt(issued);
+        }
+        return issued++;
+    }
+
+    /**
+     * 한 번도 보내지 않은 번호 (정원 채우기용)
+     */
+    public int nextUnique() {
+        return issued++;
+    }
+
+    /**
+     * 참여 성공 번호 기록 (응답 스레드에서 호출)
+     */
+    public void markParticipated(int index) {
+        participated.add(index);
+    }
+
+    public int participatedCount() {
+        return participated.size();
+    }
+
+    /**
+     * 결과 조회 순서 준비 (참여 성공 번호를 seed 기준으로 섞음)
+     */
+    public void prepareChecks() {
+        List<Integer> order = new ArrayList<>(participated);
+        Collections.sort(order);
+        Collections.shuffle(order, random);
+        checkOrder = order;
+        checked = 0;
+    }
+
+    /**
+     * 결과 조회 요청용 번호 (첫 조회 또는 재조회)
+     */
+    public int nextForCheck() {
+        if (checkOrder.isEmpty()) {
+            throw new IllegalStateException("참여에 성공한 번호가 없습니다.");
+        }
+        boolean recheck = checked > 0 && (checked == checkOrder.size() || random.nextDouble() < duplicateRatio);
+        if (recheck) {
+            return checkOrder.get(random.nextInt(checked));
+        }
+        return checkOrder.get(checked++);
+    }
+}
@@ -0,0 +1,89 @@
+package com.otr.lotto.loadtest;
+
+import java.util.Locale;
+
+/**
+ * soak 테스트 단계별 설정 (시스템 프로퍼티 soak.*)
+ *
+ * 동시 요청 수, 중복 비율, seed, 요청 타임아웃은 LoadTestConfig(loadtest.*)를 함께 사용합니다.
+ */
+public final class SoakConfig {
+    private final double participateRate;
+    private final int participateSeconds;
+    private final int capacityFullSeconds;
+    private final double burstRate;
+    private final int burstSeconds;
+    private final double tailRate;
+    private final int tailSeconds;
+    private final double daySeconds;
+    private final int reminderTimeoutSeconds;
+
+    private SoakConfig() {
+        this.participateRate = doubleProperty("soak.participate.rate", 300.0);
+        this.participateSeconds = intProperty("soak.participate.seconds", 45);
+        this.capacityFullSeconds = intProperty("soak.capacity-full.seconds", 10);
+        this.burstRate = doubleProperty("soak.burst.rate", 1000.0);
+        this.burstSeconds = intProperty("soak.burst.seconds", 30);
+        this.tailRate = doubleProperty("soak.tail.rate", 100.0);
+        this.tailSeconds = intProperty("soak.tail.seconds", 40);
+        this.daySeconds = doubleProperty("soak.day-seconds", 5.0);
+        this.reminderTimeoutSeconds = intProperty("soak.reminder-timeout-seconds", 300);
+    }
+
+    public static SoakConfig fromSystemProperties() {
+        return new SoakConfig();
+    }
+
+    public String describe() {
+        return String.format(
+            Locale.ROOT,
+            "participate=%.0f/s x %ds, capacityFull=%ds, burst=%.0f/s x %ds, tail=%.0f/s x %ds, day=%.1fs",
+            participateRate, participateSeconds, capacityFullSeconds, burstRate, burstSeconds,
+            tailRate, tailSeconds, daySeconds
+        );
+    }
+
+    public double getParticipateRate() {
+        return participateRate;
+    }
+
+    public int getParticipateSeconds() {
+        return participateSeconds;
+    }
+
+    public int getCapacityFullSeconds() {
+        return capacityFullSeconds;
+    }
+
+    public double getBurstRate() {
+        return burstRate;
+    }
+
+    public int getBurstSeconds() {
+        return burstSeconds;
+    }
+
+    public double getTailRate() {
+        return tailRate;
+    }
+
+    public int getTailSeconds() {
+        return tailSeconds;
+    }
+
+    public double getDaySeconds() {
+        return daySeconds;
+    }
+
+    public int getReminderTimeoutSeconds() {
+        return reminderTimeoutSeconds;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        return Double.parseDouble(System.getProperty(name, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,203 @@
+package com.otr.lotto.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.otr.lotto.scheduler.ReminderScheduler;
+
+/**
+ * 이벤트 전체 주기 soak 테스트 (./gradlew soakTest)
+ *
+ * 앱 하나를 가속 시계(AcceleratedDateProvider)로 띄워 이벤트 1번의 전체 주기를 순서대로 진행합니다.
+ * 1. participate: 참여 기간(2025-02-15~) 참여 부하, 시계는 soak.day-seconds마다 하루씩 진행
+ * 2. capacity_full: 정원을 채운 뒤 계속 들어오는 참여 요청 (CAPACITY_FULL 거절 경로)
+ * 3. draw: 발표일(2025-04-01)로 이동해 당첨 산정 (결과 인덱스/비트맵 생성 포함)
+ * 4. announce_burst: 발표일 결과 조회 폭주 (시계 멈춤)
+ * 5. announce_tail: 이후 며칠간 낮은 도착률의 결과 조회 (시계 진행)
+ * 6. reminder: 발표 + 10일(2025-04-11)로 이동해 ReminderScheduler 실행, 체크포인트 완료까지 대기
+ *
+ * 단계마다 처리율/지연, 힙, GC, 테이블별 행 수 변화를 기록해 단계 전환 시 성능 급변을 확인합니다.
+ */
+public final class SoakMain {
+    private static final LocalDate ANNOUNCE_START = LocalDate.of(2025, 4, 1);
+    private static final LocalDate REMINDER_DATE = ANNOUNCE_START.plusDays(10);
+
+    private SoakMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        SoakConfig soak = SoakConfig.fromSystemProperties();
+        ObjectMapper objectMapper = new ObjectMapper();
+        PhoneNumbers phones = new PhoneNumbers(config.getSeed(), config.getDuplicateRatio());
+
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(config.getConcurrency(), runnable -> {
+            Thread thread = new Thread(runnable, "soak-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(clientExecutor)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        OpenModelRunner runner = new OpenModelRunner(
+            httpClient,
+            objectMapper,
+            config.getConcurrency(),
+            Duration.ofMillis(config.getRequestTimeoutMs())
+        );
+
+        List<SoakPhase> phases = new ArrayList<>();
+        try (EmbeddedMariaDb db = EmbeddedMariaDb.start();
+             ConfigurableApplicationContext app = LottoApp.start(db, Map.of(), AcceleratedClockConfig.class)) {
+            URI baseUri = LottoApp.baseUri(app);
+            AcceleratedDateProvider clock = app.getBean(AcceleratedDateProvider.class);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(app.getBean(DataSource.class));
+            URI participateUri = baseUri.resolve("/api/participations");
+            URI checkUri = baseUri.resolve("/api/results/check");
+
+            // 1. 참여
+            SoakPhase phase = SoakPhase.begin("participate", clock, jdbcTemplate);
+            int[] phoneOfSequence = new int[(int) (soak.getParticipateRate() * soak.getParticipateSeconds())];
+            EndpointStats traffic = runner.run(
+                new EndpointStats("participate"),
+                participateUri,
+                soak.getParticipateRate(),
+                soak.getParticipateSeconds(),
+                sequence -> {
+                    int phone = phones.nextForParticipation();
+                    phoneOfSequence[(int) sequence] = phone;
+                    return LottoApp.phoneBody(phone);
+                },
+                (sequence, body) -> phones.markParticipated(phoneOfSequence[(int) sequence])
+            );
+            int filled = LottoApp.fillRemainingCapacity(httpClient, baseUri, phones);
+            phases.add(phase.end(clock, jdbcTemplate, traffic));
+            System.out.printf("정원 채우기: %d명 추가 (참여 성공 %d명)%n", filled, phones.participatedCount());
+
+            // 2. 정원 초과 후 참여 요청
+            phase = SoakPhase.begin("capacity_full", clock, jdbcTemplate);
+            traffic = runner.run(
+                new EndpointStats("participate"),
+                participateUri,
+                soak.getParticipateRate(),
+                soak.getCapacityFullSeconds(),
+                sequence -> LottoApp.phoneBody(phones.nextUnique()),
+                OpenModelRunner.SuccessListener.NONE
+            );
+            phases.add(phase.end(clock, jdbcTemplate, traffic));
+
+            // 3. 당첨 산정
+            clock.moveTo(ANNOUNCE_START, false);
+            phase = SoakPhase.begin("draw", clock, jdbcTemplate);
+            LottoApp.draw(httpClient, baseUri);
+            phases.add(phase.end(clock, jdbcTemplate, null));
+
+            // 4. 발표일 조회 폭주
+            phones.prepareChecks();
+            phase = SoakPhase.begin("announce_burst", clock, jdbcTemplate);
+            traffic = runner.run(
+                new EndpointStats("check"),
+                checkUri,
+                soak.getBurstRate(),
+                soak.getBurstSeconds(),
+                sequence -> LottoApp.phoneBody(phones.nextForCheck()),
+                OpenModelRunner.SuccessListener.NONE
+            );
+            phases.add(phase.end(clock, jdbcTemplate, traffic));
+
+            // 5. 발표 이후 조회 (시계 진행, 알림 발송일 전에 끝나도록 제한)
+            clock.moveTo(ANNOUNCE_START.plusDays(1), true);
+            int tailSeconds = (int) Math.min(soak.getTailSeconds(), soak.getDaySeconds() * 8);
+            phase = SoakPhase.begin("announce_tail", clock, jdbcTemplate);
+            traffic = runner.run(
+                new EndpointStats("check"),
+                checkUri,
+                soak.getTailRate(),
+                tailSeconds,
+                sequence -> LottoApp.phoneBody(phones.nextForCheck()),
+                OpenModelRunner.SuccessListener.NONE
+            );
+            phases.add(phase.end(clock, jdbcTemplate, traffic));
+
+            // 6. 미확인 당첨자 알림 (자정 cron 대신 직접 실행)
+            clock.moveTo(REMINDER_DATE, false);
+            phase = SoakPhase.begin("reminder", clock, jdbcTemplate);
+            app.getBean(ReminderScheduler.class).sendDailyReminders();
+            awaitReminderCompleted(jdbcTemplate, soak.getReminderTimeoutSeconds());
+            phases.add(phase.end(clock, jdbcTemplate, null));
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+
+        report(config, soak, objectMapper, phases);
+    }
+
+    /**
+     * 알림 발송 작업은 스케줄 스레드 풀에서 비동기로 실행되므로 체크포인트 완료를 기다림
+     */
+    private static void awaitReminderCompleted(JdbcTemplate jdbcTemplate, int timeoutSeconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (System.nanoTime() < deadline) {
+            List<String> status = jdbcTemplate.queryForList(
+                "SELECT status FROM reminder_checkpoint WHERE event_id = ? AND run_date = ?",
+                String.class,
+                LottoApp.EVENT_ID,
+                REMINDER_DATE
+            );
+            if (!status.isEmpty() && "COMPLETED".equals(status.get(0))) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("미확인 당첨자 알림이 " + timeoutSeconds + "초 안에 끝나지 않았습니다.");
+    }
+
+    private static void report(LoadTestConfig config, SoakConfig soak, ObjectMapper objectMapper, List<SoakPhase> phases)
+        throws Exception {
+        System.out.println();
+        System.out.println("==================== soak 테스트 요약 ====================");
+        System.out.println(config.describeClient());
+        System.out.println(soak.describe());
+        for (SoakPhase phase : phases) {
+            phase.printSummary(System.out);
+        }
+        System.out.println("==========================================================");
+
+        Path outputDir = config.getOutputDir();
+        Files.createDirectories(outputDir);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("config", config.describeClient());
+        summary.put("soak", soak.describe());
+        Map<String, Object> phaseSummaries = new LinkedHashMap<>();
+        for (SoakPhase phase : phases) {
+            phaseSummaries.put(phase.getName(), phase.toSummary());
+            if (phase.getTraffic() != null) {
+                phase.getTraffic().writePercentileDistribution(outputDir.resolve(phase.getName() + ".hgrm"));
+            }
+        }
+        summary.put("phases", phaseSummaries);
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(outputDir.resolve("soak-summary.json").toFile(), summary);
+        System.out.println("결과 저장: " + outputDir.toAbsolutePath());
+    }
+}
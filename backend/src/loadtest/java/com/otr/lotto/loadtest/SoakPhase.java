@@ -0,0 +1,139 @@
+package com.otr.lotto.loadtest;
+
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * soak 테스트 단계 1개의 측정 결과
+ *
+ * 단계 시작/종료 시점의 힙 사용량, GC 횟수/시간, 테이블별 행 수를 비교해
+ * 단계 전환 시 급격히 늘어나는 자원을 확인합니다. (앱과 부하 발생기가 같은 JVM이므로 힙에는 둘 다 포함)
+ */
+public final class SoakPhase {
+    /** 행 수를 기록할 테이블 */
+    static final List<String> TABLES = List.of(
+        "participant", "ticket_pool", "prize", "unconfirmed_winner", "sms_log", "reminder_checkpoint", "job_lease"
+    );
+
+    private final String name;
+    private final LocalDate clockStart;
+    private final long startedAtNanos;
+    private final long gcCountAtStart;
+    private final long gcTimeMsAtStart;
+    private final Map<String, Long> rowsAtStart;
+
+    private LocalDate clockEnd;
+    private long elapsedMs;
+    private long heapUsedMb;
+    private long gcCount;
+    private long gcTimeMs;
+    private Map<String, Long> rowsAtEnd;
+    private EndpointStats traffic;
+
+    private SoakPhase(String name, LocalDate clockStart, Map<String, Long> rowsAtStart) {
+        this.name = name;
+        this.clockStart = clockStart;
+        this.rowsAtStart = rowsAtStart;
+        this.gcCountAtStart = totalGcCount();
+        this.gcTimeMsAtStart = totalGcTimeMs();
+        this.startedAtNanos = System.nanoTime();
+    }
+
+    static SoakPhase begin(String name, AcceleratedDateProvider clock, JdbcTemplate jdbcTemplate) {
+        return new SoakPhase(name, clock.today(), countRows(jdbcTemplate));
+    }
+
+    /**
+     * 단계 종료 측정
+     *
+     * @param traffic 단계 중 부하 결과 (부하 없는 단계는 null)
+     */
+    SoakPhase end(AcceleratedDateProvider clock, JdbcTemplate jdbcTemplate, EndpointStats traffic) {
+        this.elapsedMs = (System.nanoTime() - startedAtNanos) / 1_000_000;
+        this.clockEnd = clock.today();
+        this.traffic = traffic;
+        this.gcCount = totalGcCount() - gcCountAtStart;
+        this.gcTimeMs = totalGcTimeMs() - gcTimeMsAtStart;
+        this.heapUsedMb = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / (1024 * 1024);
+        this.rowsAtEnd = countRows(jdbcTemplate);
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public EndpointStats getTraffic() {
+        return traffic;
+    }
+
+    public void printSummary(PrintStream out) {
+        out.printf(
+            Locale.ROOT,
+            "[%s] %s ~ %s, %dms, heap=%dMB, gc=%d회/%dms%n",
+            name, clockStart, clockEnd, elapsedMs, heapUsedMb, gcCount, gcTimeMs
+        );
+        StringBuilder rows = new StringBuilder();
+        for (String table : TABLES) {
+            long delta = rowsAtEnd.get(table) - rowsAtStart.get(table);
+            rows.append(String.format(Locale.ROOT, " %s=%d(%+d)", table, rowsAtEnd.get(table), delta));
+        }
+        out.println("  rows:" + rows);
+        if (traffic != null) {
+            traffic.printSummary(out);
+        }
+    }
+
+    public Map<String, Object> toSummary() {
+        Map<String, Object> rowDeltas = new LinkedHashMap<>();
+        for (String table : TABLES) {
+            rowDeltas.put(table, rowsAtEnd.get(table) - rowsAtStart.get(table));
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("clockStart", clockStart.toString());
+        summary.put("clockEnd", clockEnd.toString());
+        summary.put("elapsedMs", elapsedMs);
+        summary.put("heapUsedMb", heapUsedMb);
+        summary.put("gcCount", gcCount);
+        summary.put("gcTimeMs", gcTimeMs);
+        summary.put("rows", rowsAtEnd);
+        summary.put("rowDeltas", rowDeltas);
+        if (traffic != null) {
+            summary.put("traffic", traffic.toSummary());
+        }
+        return summary;
+    }
+
+    private static Map<String, Long> countRows(JdbcTemplate jdbcTemplate) {
+        Map<String, Long> rows = new LinkedHashMap<>();
+        for (String table : TABLES) {
+            rows.put(table, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class));
+        }
+        return rows;
+    }
+
+    private static long totalGcCount() {
+        long count = 0L;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0L, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long totalGcTimeMs() {
+        long time = 0L;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0L, gc.getCollectionTime());
+        }
+        return time;
+    }
+}
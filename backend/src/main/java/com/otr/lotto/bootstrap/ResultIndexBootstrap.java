@@ -0,0 +1,66 @@
+package com.otr.lotto.bootstrap;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.otr.lotto.domain.Event;
+import com.otr.lotto.index.ResultIndexRegistry;
+import com.otr.lotto.index.WinnerBitmapRegistry;
+import com.otr.lotto.mapper.EventMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결과 조회 인덱스 부트스트랩
+ * 
+ * 애플리케이션 시작 시 당첨 산정이 확정된 이벤트(drawn_at 존재)의
+ * 결과 조회 인덱스와 당첨자 비트맵을 다시 생성합니다.
+ * 
+ * 역할:
+ * - 노드 재시작/신규 노드 투입 후에도 발표 기간 조회가 메모리에서 처리되도록 보장
+ * - 실패해도 앱 시작은 계속 (해당 이벤트는 DB 조회로 처리)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResultIndexBootstrap {
+
+    private final EventMapper eventMapper;
+    private final ResultIndexRegistry resultIndexRegistry;
+    private final WinnerBitmapRegistry winnerBitmapRegistry;
+
+    /**
+     * 애플리케이션 시작 후 자동 호출
+     */
+    @PostConstruct
+    public void rebuildResultIndexes() {
+        try {
+            List<Event> allEvents = eventMapper.findAll();
+            if (allEvents == null || allEvents.isEmpty()) {
+                return;
+            }
+
+            int builtCount = 0;
+            for (Event event : allEvents) {
+                try {
+                    if (event.getDrawnAt() == null) {
+                        continue;
+                    }
+                    resultIndexRegistry.rebuild(event.getId());
+                    winnerBitmapRegistry.rebuild(event.getId());
+                    builtCount++;
+                } catch (Exception e) {
+                    log.warn("이벤트 {} 결과 조회 인덱스 생성 실패: {}", event.getId(), e.getMessage());
+                }
+            }
+
+            log.info("결과 조회 인덱스 부트스트랩 완료: {}개 이벤트", builtCount);
+
+        } catch (Exception e) {
+            log.error("결과 조회 인덱스 부트스트랩 중 예상치 못한 오류 발생", e);
+        }
+    }
+}
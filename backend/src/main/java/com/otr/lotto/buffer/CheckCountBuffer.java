@@ -0,0 +1,224 @@
+package com.otr.lotto.buffer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.otr.lotto.domain.CheckCountDelta;
+import com.otr.lotto.mapper.ParticipantMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결과 조회 횟수 write-behind 버퍼
+ *
+ * 결과 조회마다 participant UPDATE를 실행하는 대신,
+ * 참여자별 조회 횟수 증분과 첫/마지막 조회 시간을 메모리에 누적했다가
+ * 짧은 주기로 UPDATE 1회(청크 단위)로 일괄 반영합니다.
+ *
+ * 동작:
+ * - record(): 참여자별 카운터에 1회 누적, 누적 전 조회 횟수 반환 (0이면 첫 조회)
+ * - 카운터가 없으면 DB의 check_count를 한 번 읽어 기준값으로 사용
+ * - flush(): 주기적으로(lotto.result-check.flush-interval-ms) 및 종료 시 반영
+ * - 반영 실패 시 증분을 되돌려 다음 주기에 재시도
+ * - 한 주기 동안 조회가 없던 카운터(이미 반영 완료)는 flush() 때 제거 (다음 조회 시 DB에서 다시 읽음)
+ *
+ * 주의:
+ * - 반영은 별도 트랜잭션(REQUIRES_NEW)으로 실행되어 호출자 트랜잭션과 무관
+ * - check_count를 직접 읽는 작업(알림 발송 등)은 먼저 flush()를 호출해야 함
+ * - 노드별 버퍼이므로, 한 참여자가 여러 노드에 동시에 조회하면
+ *   노드마다 첫 조회로 판단할 수 있음 (DB 누적 값은 가산이므로 정확)
+ */
+@Component
+@Slf4j
+public class CheckCountBuffer {
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final ParticipantMapper participantMapper;
+    private final TransactionTemplate flushTransaction;
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    public CheckCountBuffer(ParticipantMapper participantMapper, PlatformTransactionManager transactionManager) {
+        this.participantMapper = participantMapper;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 결과 조회 1회 기록
+     *
+     * @param eventId 이벤트 ID
+     * @param participantId 참여자 ID
+     * @param storedCount 호출자가 이미 읽은 DB check_count (모르면 null → DB 조회)
+     * @param checkedAt 조회 시간
+     * @return 이번 조회 이전까지의 조회 횟수 (0이면 첫 조회)
+     */
+    public int record(Long eventId, Long participantId, Integer storedCount, LocalDateTime checkedAt) {
+        Integer knownCount = storedCount;
+        while (true) {
+            Counter counter = counters.get(participantId);
+            if (counter == null) {
+                int baseCount = knownCount != null
+                    ? knownCount
+                    : toCount(participantMapper.findCheckCount(eventId, participantId));
+                Counter loaded = new Counter(eventId, participantId, baseCount);
+                counter = counters.putIfAbsent(participantId, loaded);
+                if (counter == null) {
+                    counter = loaded;
+                }
+            }
+            int previousCount = counter.increment(checkedAt);
+            if (previousCount != Counter.RETIRED) {
+                return previousCount;
+            }
+            // flush()가 방금 제거한 카운터: 반영된 DB 값으로 새 카운터 생성
+            knownCount = null;
+        }
+    }
+
+    /**
+     * 누적된 증분을 DB에 반영
+     *
+     * 이벤트별로 묶어 FLUSH_CHUNK_SIZE 단위의 UPDATE로 실행합니다.
+     * 반영할 증분이 없는 카운터는 이미 DB와 같으므로 제거합니다.
+     * (동시에 실행되면 반영 중인 증분을 가진 카운터를 제거할 수 있으므로 한 번에 하나만 실행)
+     */
+    @Scheduled(fixedDelayString = "${lotto.result-check.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<Long, List<CheckCountDelta>> deltasByEvent = new LinkedHashMap<>();
+        for (Counter counter : counters.values()) {
+            CheckCountDelta delta = counter.drainOrRetire();
+            if (delta != null) {
+                deltasByEvent.computeIfAbsent(delta.getEventId(), id -> new ArrayList<>()).add(delta);
+            } else {
+                counters.remove(counter.participantId, counter);
+            }
+        }
+
+        for (Map.Entry<Long, List<CheckCountDelta>> entry : deltasByEvent.entrySet()) {
+            List<CheckCountDelta> deltas = entry.getValue();
+            for (int from = 0; from < deltas.size(); from += FLUSH_CHUNK_SIZE) {
+                List<CheckCountDelta> chunk = deltas.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, deltas.size()));
+                flushChunk(entry.getKey(), chunk);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 증분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        log.info("결과 조회 횟수 버퍼 종료 반영 완료");
+    }
+
+    private void flushChunk(Long eventId, List<CheckCountDelta> chunk) {
+        try {
+            flushTransaction.executeWithoutResult(status ->
+                participantMapper.updateCheckCountsBatch(eventId, chunk)
+            );
+        } catch (Exception e) {
+            log.warn("결과 조회 횟수 반영 실패 (이벤트 {}, {}건), 다음 주기에 재시도: {}",
+                eventId, chunk.size(), e.getMessage());
+            for (CheckCountDelta delta : chunk) {
+                Counter counter = counters.get(delta.getParticipantId());
+                if (counter != null) {
+                    counter.restore(delta);
+                }
+            }
+        }
+    }
+
+    /**
+     * 메모리에 보관 중인 참여자 카운터 수
+     */
+    int bufferedCount() {
+        return counters.size();
+    }
+
+    private int toCount(Integer storedCount) {
+        return storedCount == null ? 0 : storedCount;
+    }
+
+    /**
+     * 참여자 1명의 조회 횟수 카운터
+     *
+     * persistedCount: DB에 반영된 것으로 보는 값
+     * pendingCount: 아직 반영하지 않은 증분
+     * retired: flush()에서 제거됨 (이후 increment는 RETIRED 반환)
+     */
+    private static final class Counter {
+        private static final int RETIRED = -1;
+
+        private final Long eventId;
+        private final Long participantId;
+        private int persistedCount;
+        private int pendingCount;
+        private LocalDateTime pendingFirstCheckedAt;
+        private LocalDateTime pendingLastCheckedAt;
+        private boolean retired;
+
+        private Counter(Long eventId, Long participantId, int persistedCount) {
+            this.eventId = eventId;
+            this.participantId = participantId;
+            this.persistedCount = persistedCount;
+        }
+
+        private synchronized int increment(LocalDateTime checkedAt) {
+            if (retired) {
+                return RETIRED;
+            }
+            int previousCount = persistedCount + pendingCount;
+            if (pendingCount == 0) {
+                pendingFirstCheckedAt = checkedAt;
+            }
+            pendingCount++;
+            pendingLastCheckedAt = checkedAt;
+            return previousCount;
+        }
+
+        /**
+         * 누적 증분 꺼내기, 증분이 없으면 제거 표시
+         *
+         * @return 반영할 증분 (없으면 null, 이 카운터는 더 이상 사용하지 않음)
+         */
+        private synchronized CheckCountDelta drainOrRetire() {
+            if (pendingCount == 0) {
+                retired = true;
+                return null;
+            }
+            CheckCountDelta delta = new CheckCountDelta(
+                eventId,
+                participantId,
+                pendingCount,
+                pendingFirstCheckedAt,
+                pendingLastCheckedAt
+            );
+            persistedCount += pendingCount;
+            pendingCount = 0;
+            pendingFirstCheckedAt = null;
+            pendingLastCheckedAt = null;
+            return delta;
+        }
+
+        private synchronized void restore(CheckCountDelta delta) {
+            persistedCount -= delta.getIncrement();
+            pendingCount += delta.getIncrement();
+            pendingFirstCheckedAt = delta.getFirstCheckedAt();
+            if (pendingLastCheckedAt == null) {
+                pendingLastCheckedAt = delta.getLastCheckedAt();
+            }
+        }
+    }
+}
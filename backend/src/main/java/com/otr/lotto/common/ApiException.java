@@ -2,23 +2,39 @@ package com.otr.lotto.common;
 
 import lombok.Getter;
 
+/**
+ * 비즈니스 예외
+ * 
+ * 중복 참여/정원 초과처럼 정상 흐름에서 대량으로 발생하는 클라이언트 오류(ErrorCode.isClientError)는
+ * 스택 트레이스를 만들지 않습니다. (발생 위치 대신 ErrorCode로 원인을 구분)
+ * 서버 오류(INTERNAL_ERROR 등)는 불변식 위반 위치를 추적할 수 있도록 스택 트레이스를 유지합니다.
+ */
 @Getter
 public class ApiException extends RuntimeException {
     private final ErrorCode errorCode;
     private final String customMessage;
 
     public ApiException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, !errorCode.isClientError(), !errorCode.isClientError());
         this.errorCode = errorCode;
         this.customMessage = null;
     }
 
     public ApiException(ErrorCode errorCode, String customMessage) {
-        super(customMessage);
+        super(customMessage, null, !errorCode.isClientError(), !errorCode.isClientError());
         this.errorCode = errorCode;
         this.customMessage = customMessage;
     }
 
+    /**
+     * 원인 예외를 보존하는 생성자 (예: 잠금 실패 재시도 소진 → SERVER_BUSY)
+     */
+    public ApiException(ErrorCode errorCode, Throwable cause) {
+        super(errorCode.getMessage(), cause, !errorCode.isClientError(), !errorCode.isClientError());
+        this.errorCode = errorCode;
+        this.customMessage = null;
+    }
+
     public String getCode() {
         return errorCode.getCode();
     }
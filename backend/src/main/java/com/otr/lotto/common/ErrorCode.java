@@ -13,7 +13,8 @@ public enum ErrorCode {
     NOT_FOUND("NOT_FOUND", "찾을 수 없습니다."),
 
     // Server Error
-    INTERNAL_ERROR("INTERNAL_ERROR", "서버 내부 오류가 발생했습니다.");
+    INTERNAL_ERROR("INTERNAL_ERROR", "서버 내부 오류가 발생했습니다."),
+    SERVER_BUSY("SERVER_BUSY", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
 
     private final String code;
     private final String message;
@@ -22,4 +23,14 @@ public enum ErrorCode {
         this.code = code;
         this.message = message;
     }
+
+    /**
+     * 정상 흐름에서 예상되는 거절(4xx) 여부
+     * 
+     * 클라이언트 오류는 대량으로 발생할 수 있어 스택 트레이스를 만들지 않고 로그도 요약만 남깁니다.
+     * 서버 오류(INTERNAL_ERROR 등)는 불변식 위반 추적을 위해 매번 스택 트레이스와 함께 기록합니다.
+     */
+    public boolean isClientError() {
+        return this != INTERNAL_ERROR && this != SERVER_BUSY;
+    }
 }
@@ -1,25 +1,69 @@
 package com.otr.lotto.common;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.otr.lotto.metrics.LottoMetrics;
+
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 전역 예외 처리
+ * 
+ * 클라이언트 오류(4xx) ApiException은 이벤트 오픈 시 초당 수백 건씩 발생할 수 있으므로:
+ * - 기본 메시지 응답 본문은 ErrorCode별로 미리 만들어 재사용
+ * - 로그는 요약 주기(lotto.error-log.summary-interval-ms)마다 코드별 첫 1건만 WARN으로 남기고,
+ *   나머지는 건수만 누적해 주기마다 요약 1줄로 출력
+ * 
+ * 서버 오류 ApiException(INTERNAL_ERROR 등, 불변식 위반)과 예상하지 못한 예외는
+ * 매번 스택 트레이스와 함께 ERROR로 남깁니다.
+ * SERVER_BUSY(잠금 경합 재시도 소진)는 TransientLockRetryTemplate이 작업 이름/시도 횟수와 함께
+ * 이미 남기므로 여기서는 지표만 기록합니다.
+ */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    /** 오류 코드별 지표 (지표 구성이 없는 환경에서는 기록하지 않음) */
+    private final ObjectProvider<LottoMetrics> lottoMetrics;
+
+    /** ErrorCode별 기본 메시지 응답 본문 (불변, 재사용) */
+    private final Map<ErrorCode, ApiResponse<?>> defaultBodies = buildDefaultBodies();
+
+    /** 요약 주기 내 ErrorCode별 발생 건수 */
+    private final Map<ErrorCode, LongAdder> suppressedCounts = buildCounters();
+
     /**
      * ApiException 처리 (비즈니스 로직 예외)
      */
     @ExceptionHandler(ApiException.class)
     public ResponseEntity<ApiResponse<?>> handleApiException(ApiException ex) {
-        log.warn("ApiException occurred: code={}, message={}", ex.getCode(), ex.getMessage());
-        ApiResponse<?> response = ApiResponse.error(ex.getCode(), ex.getMessage());
-        return ResponseEntity.status(getHttpStatus(ex.getErrorCode())).body(response);
+        ErrorCode errorCode = ex.getErrorCode();
+        if (errorCode == ErrorCode.SERVER_BUSY) {
+            // 재시도 소진 로그는 TransientLockRetryTemplate에서 1번만 남김
+        } else if (!errorCode.isClientError()) {
+            log.error("ApiException occurred: code={}, message={}", ex.getCode(), ex.getMessage(), ex);
+        } else if (isFirstInInterval(errorCode)) {
+            log.warn("ApiException occurred: code={}, message={} (같은 코드는 요약 주기까지 집계만 함)",
+                ex.getCode(), ex.getMessage());
+        }
+        recordError(errorCode);
+        ApiResponse<?> response = ex.getCustomMessage() == null
+            ? defaultBodies.get(errorCode)
+            : ApiResponse.error(ex.getCode(), ex.getMessage());
+        return ResponseEntity.status(getHttpStatus(errorCode)).body(response);
     }
 
     /**
@@ -34,7 +78,10 @@ public class GlobalExceptionHandler {
                 .findFirst()
                 .orElse("유효성 검증에 실패했습니다.");
 
-        log.warn("Validation failed: {}", message);
+        if (isFirstInInterval(ErrorCode.INVALID_REQUEST)) {
+            log.warn("Validation failed: {} (같은 코드는 요약 주기까지 집계만 함)", message);
+        }
+        recordError(ErrorCode.INVALID_REQUEST);
         ApiResponse<?> response = ApiResponse.error(
                 ErrorCode.INVALID_REQUEST.getCode(),
                 message
@@ -48,11 +95,55 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<?>> handleGeneralException(Exception ex) {
         log.error("Unexpected exception occurred", ex);
-        ApiResponse<?> response = ApiResponse.error(
-                ErrorCode.INTERNAL_ERROR.getCode(),
-                ErrorCode.INTERNAL_ERROR.getMessage()
-        );
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        recordError(ErrorCode.INTERNAL_ERROR);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(defaultBodies.get(ErrorCode.INTERNAL_ERROR));
+    }
+
+    /**
+     * 요약 주기 동안 누적된 코드별 건수를 1줄로 출력하고 초기화
+     */
+    @Scheduled(fixedRateString = "${lotto.error-log.summary-interval-ms:60000}")
+    public void logSummary() {
+        StringJoiner summary = new StringJoiner(", ");
+        for (Map.Entry<ErrorCode, LongAdder> entry : suppressedCounts.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                summary.add(entry.getKey().getCode() + "=" + count);
+            }
+        }
+        if (summary.length() > 0) {
+            log.warn("ApiException summary: {}", summary);
+        }
+    }
+
+    /**
+     * 건수를 누적하고, 요약 주기 내 해당 코드의 첫 발생인지 반환
+     */
+    private boolean isFirstInInterval(ErrorCode errorCode) {
+        LongAdder counter = suppressedCounts.get(errorCode);
+        boolean first = counter.sum() == 0L;
+        counter.increment();
+        return first;
+    }
+
+    private void recordError(ErrorCode errorCode) {
+        lottoMetrics.ifAvailable(metrics -> metrics.error(errorCode));
+    }
+
+    private static Map<ErrorCode, ApiResponse<?>> buildDefaultBodies() {
+        Map<ErrorCode, ApiResponse<?>> bodies = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            bodies.put(errorCode, ApiResponse.error(errorCode.getCode(), errorCode.getMessage()));
+        }
+        return bodies;
+    }
+
+    private static Map<ErrorCode, LongAdder> buildCounters() {
+        Map<ErrorCode, LongAdder> counters = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            counters.put(errorCode, new LongAdder());
+        }
+        return counters;
     }
 
     /**
@@ -64,6 +155,7 @@ public class GlobalExceptionHandler {
                  DUPLICATE_PARTICIPATION, CAPACITY_FULL -> HttpStatus.BAD_REQUEST;
             case NOT_FOUND -> HttpStatus.NOT_FOUND;
             case INTERNAL_ERROR -> HttpStatus.INTERNAL_SERVER_ERROR;
+            case SERVER_BUSY -> HttpStatus.SERVICE_UNAVAILABLE;
         };
     }
 }
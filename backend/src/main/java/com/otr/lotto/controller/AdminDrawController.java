@@ -1,17 +1,28 @@
 package com.otr.lotto.controller;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.otr.lotto.common.ApiResponse;
+import com.otr.lotto.dto.ConfirmationRateResponse;
 import com.otr.lotto.dto.DrawResponse;
 import com.otr.lotto.dto.ReminderResponse;
 import com.otr.lotto.dto.TicketPoolPrepareResponse;
+import com.otr.lotto.dto.WinnerExportFormat;
+import com.otr.lotto.metrics.LottoMetrics;
+import com.otr.lotto.retry.TransientLockRetryTemplate;
 import com.otr.lotto.service.DrawService;
 import com.otr.lotto.service.ReminderService;
 import com.otr.lotto.service.TicketPoolService;
+import com.otr.lotto.service.WinnerExportService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,16 +34,23 @@ public class AdminDrawController {
     private final DrawService drawService;
     private final ReminderService reminderService;
     private final TicketPoolService ticketPoolService;
+    private final WinnerExportService winnerExportService;
+    private final TransientLockRetryTemplate transientLockRetryTemplate;
 
     /**
      * 당첨 산정 실행
      * 
+     * 교착 상태/잠금 대기 시간 초과 시 트랜잭션 전체를 다시 실행합니다.
+     * 
      * @param eventId 이벤트 ID
      * @return 당첨 산정 결과
      */
     @PostMapping("/{eventId}/draw")
     public ApiResponse<DrawResponse> executeDraw(@PathVariable Long eventId) {
-        DrawResponse response = drawService.executeDraw(eventId);
+        DrawResponse response = transientLockRetryTemplate.execute(
+            LottoMetrics.DRAW,
+            () -> drawService.executeDraw(eventId)
+        );
         return ApiResponse.success(response);
     }
 
@@ -59,4 +77,36 @@ public class AdminDrawController {
         ReminderResponse response = reminderService.sendUnconfirmedWinnerReminders(eventId);
         return ApiResponse.success(response);
     }
+
+    /**
+     * 당첨자 결과 확인율 조회
+     * 
+     * @param eventId 이벤트 ID
+     * @return 전체/확인/미확인 당첨자 수와 확인율
+     */
+    @GetMapping("/{eventId}/confirmation-rate")
+    public ApiResponse<ConfirmationRateResponse> getConfirmationRate(@PathVariable Long eventId) {
+        ConfirmationRateResponse response = reminderService.getConfirmationRate(eventId);
+        return ApiResponse.success(response);
+    }
+
+    /**
+     * 당첨자 목록 내보내기 (스트리밍)
+     * 
+     * @param eventId 이벤트 ID
+     * @param format 내보내기 형식 (csv / ndjson, 기본 csv)
+     * @return 당첨자 목록 파일
+     */
+    @GetMapping("/{eventId}/winners/export")
+    public ResponseEntity<StreamingResponseBody> exportWinners(
+            @PathVariable Long eventId,
+            @RequestParam(defaultValue = "csv") String format) {
+        WinnerExportFormat exportFormat = WinnerExportFormat.from(format);
+        StreamingResponseBody body = winnerExportService.exportWinners(eventId, exportFormat);
+        String fileName = "winners-" + eventId + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+            .body(body);
+    }
 }
@@ -0,0 +1,62 @@
+package com.otr.lotto.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.otr.lotto.common.ApiResponse;
+import com.otr.lotto.dto.JfrRecordingResponse;
+import com.otr.lotto.service.JfrRecordingService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/jfr")
+@RequiredArgsConstructor
+public class AdminJfrController {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    /**
+     * JFR 기록 시작
+     * 
+     * @param maxAgeMinutes 보관 시간 (분, 생략 시 lotto.jfr.max-age-minutes)
+     * @return 기록 상태
+     */
+    @PostMapping("/start")
+    public ApiResponse<JfrRecordingResponse> start(@RequestParam(required = false) Integer maxAgeMinutes) {
+        return ApiResponse.success(jfrRecordingService.start(maxAgeMinutes));
+    }
+
+    /**
+     * 현재까지의 기록을 파일로 저장
+     * 
+     * @return 기록 상태 (dumpPath = 저장 파일 경로)
+     */
+    @PostMapping("/dump")
+    public ApiResponse<JfrRecordingResponse> dump() {
+        return ApiResponse.success(jfrRecordingService.dump());
+    }
+
+    /**
+     * JFR 기록 중지
+     * 
+     * @return 기록 상태
+     */
+    @PostMapping("/stop")
+    public ApiResponse<JfrRecordingResponse> stop() {
+        return ApiResponse.success(jfrRecordingService.stop());
+    }
+
+    /**
+     * JFR 기록 상태 조회
+     * 
+     * @return 기록 상태
+     */
+    @GetMapping("/status")
+    public ApiResponse<JfrRecordingResponse> getStatus() {
+        return ApiResponse.success(jfrRecordingService.getStatus());
+    }
+}
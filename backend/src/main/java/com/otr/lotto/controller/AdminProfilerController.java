@@ -0,0 +1,41 @@
+package com.otr.lotto.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.otr.lotto.common.ApiResponse;
+import com.otr.lotto.dto.ProfilerStatsResponse;
+import com.otr.lotto.profiler.StatementProfiler;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/profiler")
+@RequiredArgsConstructor
+public class AdminProfilerController {
+
+    private final StatementProfiler statementProfiler;
+
+    /**
+     * 매퍼 구문별 실행 통계 조회 (호출 수/지연 시간/행 수/요청당 구문 수)
+     * 
+     * @return 구문 통계
+     */
+    @GetMapping("/statements")
+    public ApiResponse<ProfilerStatsResponse> getStatementStats() {
+        return ApiResponse.success(statementProfiler.getStats());
+    }
+
+    /**
+     * 누적 통계 초기화
+     * 
+     * @return 성공 응답
+     */
+    @PostMapping("/reset")
+    public ApiResponse<Void> reset() {
+        statementProfiler.reset();
+        return ApiResponse.success();
+    }
+}
@@ -0,0 +1,29 @@
+package com.otr.lotto.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.otr.lotto.common.ApiResponse;
+import com.otr.lotto.dto.SmsDispatchStatsResponse;
+import com.otr.lotto.sms.SmsDispatcher;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/sms")
+@RequiredArgsConstructor
+public class AdminSmsController {
+
+    private final SmsDispatcher smsDispatcher;
+
+    /**
+     * SMS 발송 통계 조회 (처리량/지연/대기 건수)
+     * 
+     * @return 발송 통계
+     */
+    @GetMapping("/stats")
+    public ApiResponse<SmsDispatchStatsResponse> getStats() {
+        return ApiResponse.success(smsDispatcher.getStats());
+    }
+}
@@ -41,6 +41,9 @@ public class ParticipationController {
         return ApiResponse.success(null);
     }
 
+    /**
+     * 참여 (교착 상태/잠금 대기 시간 초과 재시도는 서비스가 트랜잭션 단위로 처리)
+     */
     @PostMapping
     public ApiResponse<ParticipateResponse> participate(@Valid @RequestBody ParticipateRequest request) {
         return ApiResponse.success(participationService.participate(request));
@@ -0,0 +1,12 @@
+package com.otr.lotto.datasource;
+
+/**
+ * 라우팅 대상 DataSource
+ */
+public enum DataSourceRole {
+    /** 쓰기/읽기 (spring.datasource) */
+    PRIMARY,
+
+    /** 읽기 전용 복제본 (lotto.datasource.replica) */
+    REPLICA
+}
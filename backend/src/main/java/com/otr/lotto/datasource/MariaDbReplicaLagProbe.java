@@ -0,0 +1,36 @@
+package com.otr.lotto.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+/**
+ * MariaDB 복제 지연 측정 (SHOW SLAVE STATUS)
+ * 
+ * Seconds_Behind_Master를 지연 시간으로 사용합니다.
+ * 복제 스레드가 멈춰 있으면 값이 NULL이므로 사용 불가로 판단됩니다.
+ * 복제 설정이 없는 인스턴스(결과 행 없음)도 사용 불가로 판단합니다.
+ */
+public class MariaDbReplicaLagProbe implements ReplicaLagProbe {
+
+    private final DataSource replica;
+
+    public MariaDbReplicaLagProbe(DataSource replica) {
+        this.replica = replica;
+    }
+
+    @Override
+    public Long lagSeconds() throws Exception {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            long lag = resultSet.getLong("Seconds_Behind_Master");
+            return resultSet.wasNull() ? null : lag;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.otr.lotto.datasource;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ * 
+ * 커넥션을 가져오는 시점의 상태로 primary/replica를 선택합니다.
+ * 
+ * 복제본 사용 조건 (복제본이 사용 가능할 때만):
+ * - @Transactional(readOnly = true) 트랜잭션
+ * - 트랜잭션 밖에서 실행되는 지정 매퍼 구문 (ReplicaReadContext)
+ * 
+ * 그 외(읽기/쓰기 트랜잭션, 일반 구문, 복제 지연 초과)는 모두 primary입니다.
+ * 읽기/쓰기 트랜잭션 안의 지정 구문도 primary로 실행하여 같은 트랜잭션의 쓰기 결과를 읽도록 합니다.
+ * 
+ * 주의:
+ * - 트랜잭션의 readOnly 여부는 커넥션 획득 이후에 설정되므로
+ *   반드시 LazyConnectionDataSourceProxy로 감싸서 사용해야 함 (첫 구문 실행 시 커넥션 획득)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final BooleanSupplier replicaUsable;
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final LongAdder replicaRoutes = new LongAdder();
+
+    /**
+     * @param primary 쓰기/읽기 DataSource
+     * @param replica 읽기 전용 DataSource
+     * @param replicaUsable 복제본 사용 가능 여부 (복제 지연 감시 결과)
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier replicaUsable) {
+        this.replicaUsable = replicaUsable;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceRole role = currentRole();
+        if (role == DataSourceRole.REPLICA) {
+            replicaRoutes.increment();
+        } else {
+            primaryRoutes.increment();
+        }
+        return role;
+    }
+
+    /**
+     * 현재 스레드 상태 기준 라우팅 대상
+     */
+    DataSourceRole currentRole() {
+        if (!wantsReplica() || !replicaUsable.getAsBoolean()) {
+            return DataSourceRole.PRIMARY;
+        }
+        return DataSourceRole.REPLICA;
+    }
+
+    private boolean wantsReplica() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        }
+        return ReplicaReadContext.isPreferred();
+    }
+
+    /**
+     * primary로 보낸 커넥션 수
+     */
+    public long getPrimaryRoutes() {
+        return primaryRoutes.sum();
+    }
+
+    /**
+     * 복제본으로 보낸 커넥션 수
+     */
+    public long getReplicaRoutes() {
+        return replicaRoutes.sum();
+    }
+}
@@ -0,0 +1,82 @@
+package com.otr.lotto.datasource;
+
+import java.util.function.BooleanSupplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 복제 지연 감시
+ * 
+ * 주기적으로(lotto.datasource.replica.lag-check-interval-ms) 복제 지연을 측정하고,
+ * 허용 지연(max-lag-seconds) 이내일 때만 복제본을 사용 가능으로 표시합니다.
+ * 
+ * 동작:
+ * - 측정 실패, 복제 중단(null), 지연 초과 → 사용 불가 (라우팅 DataSource가 primary로 전환)
+ * - 다음 측정에서 지연이 회복되면 다시 사용 가능
+ * - 시작 직후 첫 측정 전에는 사용 불가 (검증되지 않은 복제본으로 보내지 않음)
+ */
+@Slf4j
+public class ReplicaLagMonitor implements BooleanSupplier {
+
+    private final ReplicaLagProbe probe;
+    private final long maxLagSeconds;
+    private volatile boolean usable;
+    private volatile Long lastLagSeconds;
+
+    public ReplicaLagMonitor(ReplicaLagProbe probe, long maxLagSeconds) {
+        this.probe = probe;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    /**
+     * 복제 지연 측정 후 사용 가능 여부 갱신
+     */
+    @Scheduled(fixedDelayString = "${lotto.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        Long lag;
+        try {
+            lag = probe.lagSeconds();
+        } catch (Exception e) {
+            lastLagSeconds = null;
+            update(false, "지연 측정 실패: " + e.getMessage());
+            return;
+        }
+
+        lastLagSeconds = lag;
+        if (lag == null) {
+            update(false, "복제 중단");
+        } else if (lag > maxLagSeconds) {
+            update(false, "복제 지연 " + lag + "초");
+        } else {
+            update(true, "복제 지연 " + lag + "초");
+        }
+    }
+
+    private void update(boolean nowUsable, String reason) {
+        if (usable != nowUsable) {
+            if (nowUsable) {
+                log.info("복제본 읽기 재개: {}", reason);
+            } else {
+                log.warn("복제본 읽기 중단, primary로 전환: {}", reason);
+            }
+        }
+        usable = nowUsable;
+    }
+
+    /**
+     * 복제본 사용 가능 여부
+     */
+    @Override
+    public boolean getAsBoolean() {
+        return usable;
+    }
+
+    /**
+     * 마지막으로 측정한 복제 지연 (초, 측정 실패/복제 중단이면 null)
+     */
+    public Long getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+}
@@ -0,0 +1,15 @@
+package com.otr.lotto.datasource;
+
+/**
+ * 복제본 지연 측정
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+    /**
+     * 현재 복제 지연 측정
+     * 
+     * @return 지연 시간 (초, 복제가 멈췄거나 알 수 없으면 null)
+     * @throws Exception 복제본 접속/조회 실패
+     */
+    Long lagSeconds() throws Exception;
+}
@@ -0,0 +1,51 @@
+package com.otr.lotto.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 읽기 복제본(replica) 설정 (lotto.datasource.replica.*)
+ * 
+ * enabled=false(기본)이면 모든 쿼리는 spring.datasource(primary)로만 실행됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lotto.datasource.replica")
+public class ReplicaProperties {
+    /** 복제본 라우팅 사용 여부 */
+    private boolean enabled = false;
+
+    /** 복제본 JDBC URL */
+    private String url;
+
+    /** 복제본 계정 */
+    private String username;
+
+    /** 복제본 비밀번호 */
+    private String password;
+
+    /** 복제본 커넥션 풀 최대 크기 */
+    private int maximumPoolSize = 10;
+
+    /** 허용 복제 지연 (초, 초과 시 primary로 전환) */
+    private long maxLagSeconds = 5;
+
+    /** 복제 지연 확인 주기 (ms) */
+    private long lagCheckIntervalMs = 1000;
+
+    /**
+     * 트랜잭션 밖에서 실행될 때 복제본으로 보낼 매퍼 구문 ID
+     * 
+     * 발표일 결과 조회에서 반복 실행되는 읽기 구문
+     */
+    private List<String> statements = new ArrayList<>(List.of(
+        "com.otr.lotto.mapper.EventMapper.findActiveAnnounceEvent",
+        "com.otr.lotto.mapper.ParticipantMapper.findByEventAndPhoneHash",
+        "com.otr.lotto.mapper.PrizeMapper.findByEventAndParticipantId"
+    ));
+}
@@ -0,0 +1,45 @@
+package com.otr.lotto.datasource;
+
+/**
+ * 현재 스레드의 복제본 읽기 요청 표시
+ * 
+ * ReplicaStatementInterceptor가 지정 구문 실행 동안만 설정합니다.
+ * 실제 라우팅 여부는 ReadWriteRoutingDataSource가 트랜잭션 상태와 복제 지연을 보고 결정합니다.
+ */
+public final class ReplicaReadContext {
+    private static final ThreadLocal<Boolean> PREFERRED = new ThreadLocal<>();
+
+    private ReplicaReadContext() {
+    }
+
+    /**
+     * 복제본 읽기 요청 여부
+     */
+    public static boolean isPreferred() {
+        return Boolean.TRUE.equals(PREFERRED.get());
+    }
+
+    /**
+     * 복제본 읽기 요청 설정
+     * 
+     * @return 이전 값 (restore에 전달)
+     */
+    public static boolean enter() {
+        boolean previous = isPreferred();
+        PREFERRED.set(Boolean.TRUE);
+        return previous;
+    }
+
+    /**
+     * enter() 이전 상태로 복원
+     * 
+     * @param previous enter()가 반환한 값
+     */
+    public static void restore(boolean previous) {
+        if (previous) {
+            PREFERRED.set(Boolean.TRUE);
+        } else {
+            PREFERRED.remove();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.otr.lotto.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ * 
+ * lotto.datasource.replica.enabled=true일 때만 적용됩니다.
+ * (비활성이면 Spring Boot 기본 DataSource 하나만 사용)
+ * 
+ * 구성:
+ * - primary: spring.datasource.* (기존 설정 그대로)
+ * - replica: lotto.datasource.replica.* (읽기 전용 풀)
+ * - dataSource: LazyConnectionDataSourceProxy(ReadWriteRoutingDataSource)
+ *   → 트랜잭션 매니저/MyBatis가 이 DataSource를 사용
+ * 
+ * primary/replica 풀과 라우팅 DataSource는 타입 주입 대상에서 제외하여
+ * 자동 설정이 dataSource 하나만 보도록 합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "lotto.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean(defaultCandidate = false)
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, ReplicaProperties replicaProperties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(properties.determineDriverClassName())
+            .url(replicaProperties.getUrl())
+            .username(replicaProperties.getUsername())
+            .password(replicaProperties.getPassword())
+            .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+        @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+        ReplicaProperties replicaProperties
+    ) {
+        return new ReplicaLagMonitor(
+            new MariaDbReplicaLagProbe(replicaDataSource),
+            replicaProperties.getMaxLagSeconds()
+        );
+    }
+
+    @Bean(defaultCandidate = false)
+    public ReadWriteRoutingDataSource routingDataSource(
+        @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+        @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+        ReplicaLagMonitor replicaLagMonitor
+    ) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("routingDataSource") ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * MyBatis 자동 설정이 Interceptor 빈을 SqlSessionFactory에 등록
+     */
+    @Bean
+    public ReplicaStatementInterceptor replicaStatementInterceptor(ReplicaProperties replicaProperties) {
+        return new ReplicaStatementInterceptor(replicaProperties.getStatements());
+    }
+}
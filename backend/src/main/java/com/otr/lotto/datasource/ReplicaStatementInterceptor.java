@@ -0,0 +1,55 @@
+package com.otr.lotto.datasource;
+
+import java.util.Collection;
+import java.util.Set;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * 지정 매퍼 구문의 복제본 읽기 표시
+ * 
+ * Executor.query 실행 동안 ReplicaReadContext를 설정합니다.
+ * 트랜잭션 밖에서는 커넥션을 이 구간 안에서 가져오므로 라우팅 DataSource가 복제본을 선택할 수 있습니다.
+ * (트랜잭션 안에서는 이미 정해진 커넥션을 사용하므로 영향 없음)
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class ReplicaStatementInterceptor implements Interceptor {
+
+    private final Set<String> statementIds;
+
+    /**
+     * @param statementIds 복제본으로 보낼 구문 ID (namespace.id)
+     */
+    public ReplicaStatementInterceptor(Collection<String> statementIds) {
+        this.statementIds = Set.copyOf(statementIds);
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        if (!statementIds.contains(statement.getId())) {
+            return invocation.proceed();
+        }
+
+        boolean previous = ReplicaReadContext.enter();
+        try {
+            return invocation.proceed();
+        } finally {
+            ReplicaReadContext.restore(previous);
+        }
+    }
+}
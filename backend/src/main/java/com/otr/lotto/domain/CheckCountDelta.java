@@ -0,0 +1,35 @@
+package com.otr.lotto.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 참여자별 결과 조회 횟수 증분
+ * 
+ * 결과 조회 시 메모리에 누적한 조회 횟수/시간을
+ * participant 테이블에 일괄 반영할 때 사용합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckCountDelta {
+    /** 이벤트 ID */
+    private Long eventId;
+
+    /** 참여자 ID */
+    private Long participantId;
+
+    /** 반영할 조회 횟수 증분 */
+    private Integer increment;
+
+    /** 누적 구간의 첫 조회 시간 (DB 값이 없을 때만 반영) */
+    private LocalDateTime firstCheckedAt;
+
+    /** 누적 구간의 마지막 조회 시간 */
+    private LocalDateTime lastCheckedAt;
+}
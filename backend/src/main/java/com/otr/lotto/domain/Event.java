@@ -20,6 +20,7 @@ import lombok.Setter;
  * - winningNumber: CSV 형태의 당첨 번호 (예: "3,11,22,33,41,45")
  * - fixedFirstPhoneHash: 1등이 확정된 휴대폰 번호의 해시 (null이면 미정)
  * - maxParticipants: 최대 참여자 수 (null이면 10,000)
+ * - drawnAt: 당첨 산정 확정 시간 (null이면 미확정)
  * 
  * 운영:
  * - preparePool() 호출 전에 반드시 winningNumber와 fixedFirstPhoneHash 설정
@@ -39,6 +40,7 @@ public class Event {
     private Integer maxParticipants;
     private String winningNumber;
     private String fixedFirstPhoneHash;
+    private LocalDateTime drawnAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
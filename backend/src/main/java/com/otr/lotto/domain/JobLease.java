@@ -0,0 +1,25 @@
+package com.otr.lotto.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 스케줄 작업 실행권(lease)
+ * 
+ * 여러 노드 중 한 노드만 같은 작업을 실행하도록 job_lease 테이블에 기록합니다.
+ * lease_until이 지나면 다른 노드가 가져갈 수 있습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLease {
+    private String leaseKey;          // 작업 키 (예: reminder:1:2025-04-11)
+    private String owner;             // 보유 노드 ID
+    private LocalDateTime leaseUntil; // 만료 시각
+    private LocalDateTime acquiredAt; // 획득 시각
+}
@@ -0,0 +1,30 @@
+package com.otr.lotto.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 참여자별 당첨 결과 투영
+ * 
+ * participant LEFT JOIN prize 결과로, 결과 조회 인덱스 생성에 사용합니다.
+ * 
+ * 특징:
+ * - rank는 prize가 없으면 0 (비당첨)
+ * - 인덱스 생성에 필요한 컬럼만 조회
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantResult {
+    /** 참여자 ID */
+    private Long participantId;
+
+    /** 휴대폰 번호 SHA256 해시 */
+    private String phoneHash;
+
+    /** 순위 (0=비당첨, 1~4=당첨) */
+    private Integer rank;
+}
@@ -0,0 +1,23 @@
+package com.otr.lotto.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 순위별 건수 집계 결과
+ * 
+ * prize / ticket_pool의 GROUP BY rank 조회 결과를 담습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankCount {
+    /** 순위 (0=비당첨, 1~4=당첨) */
+    private Integer rank;
+
+    /** 건수 */
+    private Long count;
+}
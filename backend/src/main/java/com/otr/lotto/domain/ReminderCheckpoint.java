@@ -0,0 +1,31 @@
+package com.otr.lotto.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 미확인 당첨자 알림 진행 체크포인트
+ * 
+ * 이벤트/발송일별로 마지막으로 처리한 참여자 ID를 기록하여,
+ * 노드가 중단/재시작되어도 처리한 청크 다음부터 이어서 발송합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderCheckpoint {
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+
+    private Long eventId;
+    private LocalDate runDate;
+    private Long lastParticipantId; // 마지막으로 커밋된 청크의 마지막 참여자 ID
+    private Integer sentCount;      // 누적 발송 기록 수
+    private String status;          // RUNNING / COMPLETED
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.otr.lotto.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 미확인 당첨자 알림 발송 대상
+ * 
+ * prize JOIN participant 결과로, 알림 발송 이력 기록에 필요한 컬럼만 담습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderTarget {
+    /** 참여자 ID */
+    private Long participantId;
+
+    /** 휴대폰 번호 SHA256 해시 */
+    private String phoneHash;
+}
@@ -13,12 +13,19 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 public class SmsLog {
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_SENT = "SENT";
+    public static final String STATUS_FAILED = "FAILED";
+
     private Long id;
     private Long eventId;
     private Long participantId;
     private String phoneHash;
     private String type;       // PARTICIPATION_NUMBER / UNCONFIRMED_WINNER_REMINDER
     private LocalDate sentDate; // 중복 방지용(날짜 단위)
-    private String status;      // SENT / FAILED
+    private String status;      // PENDING / SENT / FAILED
+    private Integer attemptCount;        // 발송 시도 횟수
+    private LocalDateTime nextAttemptAt; // 다음 발송 가능 시각 (재시도/lease)
+    private String lastError;            // 마지막 발송 실패 사유
     private LocalDateTime createdAt;
 }
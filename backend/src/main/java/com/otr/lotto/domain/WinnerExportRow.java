@@ -0,0 +1,44 @@
+package com.otr.lotto.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 당첨자 내보내기 행
+ * 
+ * prize JOIN participant JOIN ticket_pool 결과로, 당첨자 목록 내보내기에 사용합니다.
+ * 
+ * 특징:
+ * - 휴대폰 번호는 원본을 저장하지 않으므로 phone_hash로 내보냄
+ * - 조회 횟수/시간은 결과 확인 여부 파악용
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WinnerExportRow {
+    /** 참여자 ID (참여순번) */
+    private Long participantId;
+
+    /** 당첨 순위 (1~4) */
+    private Integer rank;
+
+    /** 배정된 로또 번호 (CSV 형태) */
+    private String lottoNumber;
+
+    /** 휴대폰 번호 SHA256 해시 */
+    private String phoneHash;
+
+    /** 결과 조회 횟수 */
+    private Integer checkCount;
+
+    /** 첫 조회 시간 */
+    private LocalDateTime firstCheckedAt;
+
+    /** 마지막 조회 시간 */
+    private LocalDateTime lastCheckedAt;
+}
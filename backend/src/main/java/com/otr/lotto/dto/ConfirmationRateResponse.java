@@ -0,0 +1,25 @@
+package com.otr.lotto.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 당첨자 결과 확인율 응답
+ * 
+ * AdminDrawController GET /{eventId}/confirmation-rate API 응답 DTO
+ * 
+ * confirmationRate는 0.0 ~ 1.0 (당첨자가 없으면 0.0)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfirmationRateResponse {
+    private Long eventId;
+    private Long totalWinners;
+    private Long confirmedWinners;
+    private Long unconfirmedWinners;
+    private Double confirmationRate;
+}
@@ -13,10 +13,9 @@ import lombok.Setter;
  * 당첨 산정 후 1등부터 4등까지 등상별 당첨자 수 반환
  * 
  * 특징:
- * - 고정 값: totalWinners(1000), firstPrizeCount(1), secondPrizeCount(5), 
- *   thirdPrizeCount(44), fourthPrizeCount(950)
- * - 이 값들은 ticket_pool 생성 시 미리 정해진 값
- * - 당첨 산정 로직은 단순히 DB에 Prize 레코드 일괄 삽입
+ * - 등수별 개수는 prize 테이블의 GROUP BY rank 집계 값
+ *   (기본 풀 기준 totalWinners 1000, 1등 1, 2등 5, 3등 44, 4등 950)
+ * - 당첨 산정 로직은 DB 안에서 INSERT ... SELECT로 Prize 레코드 일괄 생성
  */
 @Getter
 @Setter
@@ -0,0 +1,30 @@
+package com.otr.lotto.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * JFR 기록 상태 응답
+ * 
+ * AdminJfrController API 응답 DTO
+ * 
+ * state는 jdk.jfr.RecordingState 이름(NEW/DELAYED/RUNNING/STOPPED/CLOSED)이며,
+ * 기록이 없으면 NONE입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JfrRecordingResponse {
+    private String state;
+    private String name;
+    private String settings;
+    private LocalDateTime startedAt;
+    private Long maxAgeMinutes;
+    private Long sizeBytes;
+    private String dumpPath;
+}
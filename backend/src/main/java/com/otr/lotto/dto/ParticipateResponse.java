@@ -11,7 +11,7 @@ import lombok.Setter;
  * API 식접 늨 참여순번과 배정된 로또 번호를 반환합니다.
  * 
  * 분른 스페싁:
- * - participantId: 참여순번 (= participant.id = ticket_pool.seq)
+ * - participantId: 참여자 ID (= participant.id, 배정 번호의 ticket_pool.seq와는 별개)
  * - lottoNumber: CSV 형식 (예: "3,11,22,33,41,45")
  * 
  * SMS 발송 연동:
@@ -0,0 +1,62 @@
+package com.otr.lotto.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 매퍼 구문 프로파일 응답
+ * 
+ * AdminProfilerController GET /statements API 응답 DTO
+ * 
+ * 노드(애플리케이션 인스턴스) 시작 또는 초기화 이후 누적 값입니다.
+ * 백분위는 히스토그램 구간 상한값으로 추정한 값입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfilerStatsResponse {
+    private LocalDateTime startedAt;
+    private Long slowThresholdMs;
+    private List<StatementStat> statements;
+    private List<RequestStat> requests;
+
+    /**
+     * 매퍼 구문별 통계 (예: TicketPoolMapper.lockUnassignedByRank)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class StatementStat {
+        private String statement;
+        private Long calls;
+        private Long errors;
+        private Long rows;
+        private Double totalMs;
+        private Double averageMs;
+        private Double maxMs;
+        private Double p50Ms;
+        private Double p95Ms;
+        private Double p99Ms;
+        private Map<String, Long> histogram;
+    }
+
+    /**
+     * 요청(메서드 + URL 패턴)별 구문 수
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class RequestStat {
+        private String request;
+        private Long requests;
+        private Double averageStatements;
+        private Long maxStatements;
+    }
+}
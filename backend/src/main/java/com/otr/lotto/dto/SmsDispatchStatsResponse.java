@@ -0,0 +1,34 @@
+package com.otr.lotto.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * SMS 발송 통계 응답
+ * 
+ * AdminSmsController GET /stats API 응답 DTO
+ * 
+ * 노드(애플리케이션 인스턴스) 시작 이후 누적 값이며,
+ * pendingCount만 DB 기준 현재 값입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SmsDispatchStatsResponse {
+    private String provider;
+    private LocalDateTime startedAt;
+    private Long sentCount;
+    private Long failedCount;
+    private Long retriedCount;
+    private Long batchCount;
+    private Double sentPerSecond;
+    private Double averageBatchLatencyMs;
+    private Long maxBatchLatencyMs;
+    private Integer inFlightBatches;
+    private Long pendingCount;
+}
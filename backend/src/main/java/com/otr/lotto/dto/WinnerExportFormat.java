@@ -0,0 +1,38 @@
+package com.otr.lotto.dto;
+
+import com.otr.lotto.common.ApiException;
+import com.otr.lotto.common.ErrorCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 당첨자 내보내기 형식
+ * 
+ * AdminDrawController GET /{eventId}/winners/export?format= 파라미터 값
+ */
+@Getter
+@RequiredArgsConstructor
+public enum WinnerExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson; charset=UTF-8", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    /**
+     * 요청 파라미터를 형식으로 변환 (대소문자 무시)
+     * 
+     * @param value 형식 문자열 (csv / ndjson)
+     * @return 내보내기 형식
+     * @throws ApiException 지원하지 않는 형식인 경우
+     */
+    public static WinnerExportFormat from(String value) {
+        for (WinnerExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ApiException(ErrorCode.INVALID_REQUEST, "지원하지 않는 형식입니다: " + value);
+    }
+}
@@ -0,0 +1,96 @@
+package com.otr.lotto.index;
+
+import java.util.Collection;
+
+/**
+ * 참여자 ID 집합 비트맵 (불변)
+ *
+ * 참여자 ID는 이벤트 내에서 거의 연속된 자동증가 값이므로,
+ * 최소 ID부터 최대 ID까지를 long[] 비트 배열로 표현합니다.
+ * (10,000명 기준 약 1.2KB)
+ *
+ * 용도: 당첨자 집합 - 재조회 시 isWinner 판단 (prize 행 조회 불필요)
+ *
+ * 시작 ID는 64 단위로 정렬합니다.
+ */
+public final class ParticipantBitmap {
+    private static final ParticipantBitmap EMPTY = new ParticipantBitmap(0L, new long[0]);
+
+    private final long baseId;
+    private final long[] words;
+    private final int cardinality;
+
+    private ParticipantBitmap(long baseId, long[] words) {
+        this.baseId = baseId;
+        this.words = words;
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        this.cardinality = count;
+    }
+
+    /**
+     * 빈 비트맵
+     */
+    public static ParticipantBitmap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 참여자 ID 목록으로 비트맵 생성
+     *
+     * @param participantIds 참여자 ID 목록 (null/0 이하는 무시)
+     * @return 비트맵
+     */
+    public static ParticipantBitmap of(Collection<Long> participantIds) {
+        long minId = Long.MAX_VALUE;
+        long maxId = Long.MIN_VALUE;
+        for (Long id : participantIds) {
+            if (id == null || id <= 0L) {
+                continue;
+            }
+            minId = Math.min(minId, id);
+            maxId = Math.max(maxId, id);
+        }
+        if (minId == Long.MAX_VALUE) {
+            return EMPTY;
+        }
+
+        long baseId = (minId >>> 6) << 6;
+        long[] words = new long[(int) ((maxId - baseId) >>> 6) + 1];
+        for (Long id : participantIds) {
+            if (id == null || id <= 0L) {
+                continue;
+            }
+            long offset = id - baseId;
+            words[(int) (offset >>> 6)] |= 1L << offset;
+        }
+        return new ParticipantBitmap(baseId, words);
+    }
+
+    /**
+     * 참여자 포함 여부
+     *
+     * @param participantId 참여자 ID
+     * @return 포함 여부
+     */
+    public boolean contains(long participantId) {
+        if (participantId < baseId) {
+            return false;
+        }
+        long offset = participantId - baseId;
+        long wordIndex = offset >>> 6;
+        if (wordIndex >= words.length) {
+            return false;
+        }
+        return (words[(int) wordIndex] & (1L << offset)) != 0L;
+    }
+
+    /**
+     * 집합 크기
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+}
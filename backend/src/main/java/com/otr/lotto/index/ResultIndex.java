@@ -0,0 +1,227 @@
+package com.otr.lotto.index;
+
+import java.util.Arrays;
+
+/**
+ * 발표 기간 결과 조회용 불변 인덱스
+ *
+ * 이벤트 하나의 phone_hash → (participantId, rank) 매핑을
+ * 오픈 어드레싱(선형 탐사) 방식의 원시 배열에 보관합니다.
+ *
+ * 특징:
+ * - phone_hash(SHA-256, 16진수 64자)를 long 4개로 변환해 저장 (String/박싱 객체 없음)
+ * - 슬롯 위치는 해시 첫 8바이트로 결정 (SHA-256이므로 별도 혼합 불필요)
+ * - 적재율 50% 이하로 유지하여 평균 탐사 길이를 짧게 유지
+ * - 생성 후 변경 불가 → 동기화 없이 여러 스레드에서 조회 가능
+ *
+ * rank는 0(비당첨) ~ 4(4등)이며, 당첨 산정이 끝난 뒤에만 생성합니다.
+ */
+public final class ResultIndex {
+    /** find() 결과: 인덱스에 없는 phone_hash */
+    public static final int NOT_FOUND = -1;
+
+    private static final int HASH_HEX_LENGTH = 64;
+    private static final int HASH_WORDS = 4;
+    private static final int MIN_CAPACITY = 16;
+
+    private final Long eventId;
+    private final int size;
+    private final int mask;
+    private final long[] keys;
+    private final long[] participantIds;
+    private final byte[] ranks;
+
+    private ResultIndex(Long eventId, int size, long[] keys, long[] participantIds, byte[] ranks) {
+        this.eventId = eventId;
+        this.size = size;
+        this.mask = participantIds.length - 1;
+        this.keys = keys;
+        this.participantIds = participantIds;
+        this.ranks = ranks;
+    }
+
+    /**
+     * 인덱스 빌더 생성
+     *
+     * @param eventId 이벤트 ID
+     * @param expectedSize 예상 참여자 수 (배열 초기 크기)
+     * @return 빌더
+     */
+    public static Builder builder(Long eventId, int expectedSize) {
+        return new Builder(eventId, expectedSize);
+    }
+
+    /**
+     * phone_hash로 슬롯 조회
+     *
+     * @param phoneHash SHA-256 16진수 문자열
+     * @return 슬롯 번호 (없으면 NOT_FOUND)
+     */
+    public int find(String phoneHash) {
+        if (!isValidHash(phoneHash)) {
+            return NOT_FOUND;
+        }
+
+        long k0 = parseWord(phoneHash, 0);
+        long k1 = parseWord(phoneHash, 1);
+        long k2 = parseWord(phoneHash, 2);
+        long k3 = parseWord(phoneHash, 3);
+
+        int slot = slotOf(k0, mask);
+        while (participantIds[slot] != 0L) {
+            int base = slot * HASH_WORDS;
+            if (keys[base] == k0 && keys[base + 1] == k1 && keys[base + 2] == k2 && keys[base + 3] == k3) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * 슬롯의 참여자 ID
+     */
+    public long participantIdAt(int slot) {
+        return participantIds[slot];
+    }
+
+    /**
+     * 슬롯의 당첨 순위 (0=비당첨, 1~4=당첨)
+     */
+    public int rankAt(int slot) {
+        return ranks[slot];
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    /**
+     * 인덱스에 등록된 참여자 수
+     */
+    public int size() {
+        return size;
+    }
+
+    private static int slotOf(long k0, int mask) {
+        return (int) (k0 ^ (k0 >>> 32)) & mask;
+    }
+
+    private static boolean isValidHash(String phoneHash) {
+        if (phoneHash == null || phoneHash.length() != HASH_HEX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < HASH_HEX_LENGTH; i++) {
+            if (Character.digit(phoneHash.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 16진수 문자열의 word번째 16자리를 long으로 변환
+     */
+    private static long parseWord(String hex, int word) {
+        long value = 0L;
+        int offset = word * 16;
+        for (int i = offset; i < offset + 16; i++) {
+            value = (value << 4) | Character.digit(hex.charAt(i), 16);
+        }
+        return value;
+    }
+
+    /**
+     * ResultIndex 빌더
+     *
+     * 참여자 정보를 순서대로 추가한 뒤 build()로 불변 인덱스를 만듭니다.
+     * 빌더 자체는 스레드 안전하지 않습니다.
+     */
+    public static final class Builder {
+        private final Long eventId;
+        private long[] pendingKeys;
+        private long[] pendingIds;
+        private byte[] pendingRanks;
+        private int count;
+
+        private Builder(Long eventId, int expectedSize) {
+            int initial = Math.max(expectedSize, MIN_CAPACITY);
+            this.eventId = eventId;
+            this.pendingKeys = new long[initial * HASH_WORDS];
+            this.pendingIds = new long[initial];
+            this.pendingRanks = new byte[initial];
+        }
+
+        /**
+         * 참여자 추가
+         *
+         * 형식이 잘못된 phone_hash는 조회될 수 없으므로 건너뜁니다.
+         *
+         * @param phoneHash SHA-256 16진수 문자열
+         * @param participantId 참여자 ID (1 이상)
+         * @param rank 당첨 순위 (null/0=비당첨)
+         * @return 빌더
+         */
+        public Builder add(String phoneHash, long participantId, Integer rank) {
+            if (!isValidHash(phoneHash) || participantId <= 0L) {
+                return this;
+            }
+            if (count == pendingIds.length) {
+                int grown = pendingIds.length * 2;
+                pendingKeys = Arrays.copyOf(pendingKeys, grown * HASH_WORDS);
+                pendingIds = Arrays.copyOf(pendingIds, grown);
+                pendingRanks = Arrays.copyOf(pendingRanks, grown);
+            }
+
+            int base = count * HASH_WORDS;
+            for (int word = 0; word < HASH_WORDS; word++) {
+                pendingKeys[base + word] = parseWord(phoneHash, word);
+            }
+            pendingIds[count] = participantId;
+            pendingRanks[count] = (byte) (rank == null ? 0 : rank);
+            count++;
+            return this;
+        }
+
+        /**
+         * 불변 인덱스 생성
+         *
+         * 같은 phone_hash가 여러 번 추가되면 마지막 값이 남습니다.
+         *
+         * @return ResultIndex
+         */
+        public ResultIndex build() {
+            int capacity = Integer.highestOneBit(Math.max(count * 2, MIN_CAPACITY) - 1) << 1;
+            int mask = capacity - 1;
+            long[] keys = new long[capacity * HASH_WORDS];
+            long[] participantIds = new long[capacity];
+            byte[] ranks = new byte[capacity];
+            int size = 0;
+
+            for (int i = 0; i < count; i++) {
+                int base = i * HASH_WORDS;
+                long k0 = pendingKeys[base];
+                int slot = slotOf(k0, mask);
+                while (participantIds[slot] != 0L && !sameKey(keys, slot, pendingKeys, base)) {
+                    slot = (slot + 1) & mask;
+                }
+                if (participantIds[slot] == 0L) {
+                    size++;
+                }
+                System.arraycopy(pendingKeys, base, keys, slot * HASH_WORDS, HASH_WORDS);
+                participantIds[slot] = pendingIds[i];
+                ranks[slot] = pendingRanks[i];
+            }
+
+            return new ResultIndex(eventId, size, keys, participantIds, ranks);
+        }
+
+        private static boolean sameKey(long[] keys, int slot, long[] source, int sourceBase) {
+            int base = slot * HASH_WORDS;
+            return keys[base] == source[sourceBase]
+                && keys[base + 1] == source[sourceBase + 1]
+                && keys[base + 2] == source[sourceBase + 2]
+                && keys[base + 3] == source[sourceBase + 3];
+        }
+    }
+}
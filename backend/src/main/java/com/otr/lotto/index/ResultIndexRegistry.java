@@ -0,0 +1,76 @@
+package com.otr.lotto.index;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.otr.lotto.domain.ParticipantResult;
+import com.otr.lotto.mapper.ParticipantMapper;
+import com.otr.lotto.scan.ParticipantScanner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이벤트별 결과 조회 인덱스 저장소
+ * 
+ * 당첨 산정이 끝난 이벤트의 ResultIndex를 메모리에 보관합니다.
+ * 
+ * 생성 시점:
+ * - 당첨 산정(executeDraw) 커밋 직후
+ * - 애플리케이션 시작 시 (ResultIndexBootstrap)
+ * 
+ * 인덱스가 없는 이벤트는 결과 조회 시 DB 조회로 처리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResultIndexRegistry {
+
+    private final ParticipantMapper participantMapper;
+    private final ParticipantScanner participantScanner;
+    private final Map<Long, ResultIndex> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * 이벤트 인덱스 조회
+     * 
+     * @param eventId 이벤트 ID
+     * @return ResultIndex (아직 생성되지 않았으면 null)
+     */
+    public ResultIndex get(Long eventId) {
+        return indexes.get(eventId);
+    }
+
+    /**
+     * 이벤트 인덱스 (재)생성
+     * 
+     * participant LEFT JOIN prize 결과를 keyset 페이지로 읽어 새 인덱스를 만든 뒤 교체합니다.
+     * (결과 전체를 목록으로 적재하지 않음)
+     * 교체 전까지는 기존 인덱스로 조회가 계속됩니다.
+     * 
+     * @param eventId 이벤트 ID
+     * @return 생성된 ResultIndex
+     */
+    public ResultIndex rebuild(Long eventId) {
+        long startedAt = System.nanoTime();
+        long expectedSize = participantMapper.countByEvent(eventId);
+
+        ResultIndex.Builder builder = ResultIndex.builder(eventId, (int) expectedSize);
+        participantScanner.forEachResultPage(eventId, page -> {
+            for (ParticipantResult entry : page) {
+                builder.add(entry.getPhoneHash(), entry.getParticipantId(), entry.getRank());
+            }
+        });
+        ResultIndex index = builder.build();
+        indexes.put(eventId, index);
+
+        log.info(
+            "결과 조회 인덱스 생성: eventId={}, 참여자={}명, {}ms",
+            eventId,
+            index.size(),
+            (System.nanoTime() - startedAt) / 1_000_000
+        );
+        return index;
+    }
+}
@@ -0,0 +1,57 @@
+package com.otr.lotto.index;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.otr.lotto.mapper.PrizeMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이벤트별 당첨자 비트맵 저장소
+ * 
+ * prize 테이블의 당첨 참여자 ID를 ParticipantBitmap으로 보관합니다.
+ * 
+ * 생성 시점:
+ * - 당첨 산정(executeDraw) 커밋 직후
+ * - 애플리케이션 시작 시 (ResultIndexBootstrap)
+ * 
+ * 비트맵이 없는 이벤트는 prize 테이블 조회로 처리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WinnerBitmapRegistry {
+
+    private final PrizeMapper prizeMapper;
+    private final Map<Long, ParticipantBitmap> bitmaps = new ConcurrentHashMap<>();
+
+    /**
+     * 이벤트 당첨자 비트맵 조회
+     * 
+     * @param eventId 이벤트 ID
+     * @return 당첨자 비트맵 (아직 생성되지 않았으면 null)
+     */
+    public ParticipantBitmap get(Long eventId) {
+        return bitmaps.get(eventId);
+    }
+
+    /**
+     * 이벤트 당첨자 비트맵 (재)생성
+     * 
+     * @param eventId 이벤트 ID
+     * @return 생성된 비트맵
+     */
+    public ParticipantBitmap rebuild(Long eventId) {
+        List<Long> winnerIds = prizeMapper.findWinnerParticipantIds(eventId);
+        ParticipantBitmap winners = ParticipantBitmap.of(winnerIds);
+        bitmaps.put(eventId, winners);
+
+        log.info("당첨자 비트맵 생성: eventId={}, 당첨자={}명", eventId, winners.cardinality());
+        return winners;
+    }
+}
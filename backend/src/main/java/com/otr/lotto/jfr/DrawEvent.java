@@ -0,0 +1,73 @@
+package com.otr.lotto.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+/**
+ * JFR 이벤트: 당첨 산정 1회
+ * 
+ * 단계별 소요 시간은 lotto.phase(operation=draw) 지표와 같은 구간입니다. (서로 겹치지 않음)
+ * 트랜잭션 커밋 후에 commit()하므로 Begin/Commit 구간도 포함됩니다.
+ */
+@Name("com.otr.lotto.Draw")
+@Label("Lotto Draw")
+@Category({"Lotto", "Admin"})
+@Description("당첨 산정 (prize 생성 및 확정)")
+@StackTrace(false)
+@Setter
+public class DrawEvent extends Event {
+    @Label("Event Id")
+    private long eventId;
+
+    @Label("Outcome")
+    @Description("SUCCESS 또는 ErrorCode")
+    private String outcome;
+
+    @Label("Already Drawn")
+    @Description("이미 확정된 이벤트여서 기존 결과만 반환했는지 여부")
+    private boolean alreadyDrawn;
+
+    @Label("Total Winners")
+    private long totalWinners;
+
+    @Label("Begin")
+    @Description("트랜잭션 시작")
+    @Timespan(Timespan.NANOSECONDS)
+    private long begin;
+
+    @Label("Lock")
+    @Description("이벤트 조회 + drawn_at 기록 (event 행 잠금)")
+    @Timespan(Timespan.NANOSECONDS)
+    private long lock;
+
+    @Label("Validate")
+    @Description("당첨 번호 배정 개수 확인")
+    @Timespan(Timespan.NANOSECONDS)
+    private long validate;
+
+    @Label("Prize")
+    @Description("prize 생성 + 개수 검증")
+    @Timespan(Timespan.NANOSECONDS)
+    private long prize;
+
+    @Label("Unconfirmed")
+    @Description("미확인 당첨자 집합 생성")
+    @Timespan(Timespan.NANOSECONDS)
+    private long unconfirmed;
+
+    @Label("Result")
+    @Description("등수별 개수 집계")
+    @Timespan(Timespan.NANOSECONDS)
+    private long result;
+
+    @Label("Commit")
+    @Description("트랜잭션 커밋")
+    @Timespan(Timespan.NANOSECONDS)
+    private long commit;
+}
@@ -0,0 +1,77 @@
+package com.otr.lotto.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+/**
+ * JFR 이벤트: 참여 1건
+ * 
+ * 단계별 소요 시간은 lotto.phase(operation=participate) 지표와 같은 구간입니다. (서로 겹치지 않음)
+ * swap 모드는 트랜잭션 커밋 후에 commit()하므로 Begin/Commit 구간도 포함됩니다.
+ * 기록 중이 아니면 commit()은 아무 일도 하지 않습니다.
+ */
+@Name("com.otr.lotto.Participate")
+@Label("Lotto Participate")
+@Category({"Lotto", "Participation"})
+@Description("이벤트 참여 처리 (번호 배정 포함)")
+@StackTrace(false)
+@Setter
+public class ParticipateEvent extends Event {
+    @Label("Event Id")
+    private long eventId;
+
+    @Label("Participant Id")
+    private long participantId;
+
+    @Label("Outcome")
+    @Description("SUCCESS 또는 ErrorCode")
+    private String outcome;
+
+    @Label("Rank")
+    private int rank;
+
+    @Label("Begin")
+    @Description("트랜잭션 시작 (swap 모드)")
+    @Timespan(Timespan.NANOSECONDS)
+    private long begin;
+
+    @Label("Event Lookup")
+    @Timespan(Timespan.NANOSECONDS)
+    private long eventLookup;
+
+    @Label("Hash")
+    @Timespan(Timespan.NANOSECONDS)
+    private long hash;
+
+    @Label("Duplicate Check")
+    @Timespan(Timespan.NANOSECONDS)
+    private long duplicateCheck;
+
+    @Label("Insert")
+    @Timespan(Timespan.NANOSECONDS)
+    private long insert;
+
+    @Label("Assign")
+    @Description("번호 배정 (스왑 제외)")
+    @Timespan(Timespan.NANOSECONDS)
+    private long assign;
+
+    @Label("Swap")
+    @Timespan(Timespan.NANOSECONDS)
+    private long swap;
+
+    @Label("SMS")
+    @Timespan(Timespan.NANOSECONDS)
+    private long sms;
+
+    @Label("Commit")
+    @Description("트랜잭션 커밋 (swap 모드)")
+    @Timespan(Timespan.NANOSECONDS)
+    private long commit;
+}
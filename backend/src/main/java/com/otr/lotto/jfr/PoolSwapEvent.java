@@ -0,0 +1,37 @@
+package com.otr.lotto.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * JFR 이벤트: 번호 풀 스왑 1건 (UPDATE 2회)
+ */
+@Name("com.otr.lotto.PoolSwap")
+@Label("Lotto Pool Swap")
+@Category({"Lotto", "Participation"})
+@Description("1등 보장을 위한 번호 풀 항목 교환")
+@StackTrace(false)
+@Setter
+public class PoolSwapEvent extends Event {
+    @Label("Event Id")
+    private long eventId;
+
+    @Label("Seq Pool Id")
+    @Description("참여 순번의 번호 풀 ID")
+    private long seqPoolId;
+
+    @Label("Other Pool Id")
+    @Description("교환 대상 미배정 번호 풀 ID")
+    private long otherPoolId;
+
+    @Label("From Rank")
+    private int fromRank;
+
+    @Label("To Rank")
+    private int toRank;
+}
@@ -0,0 +1,33 @@
+package com.otr.lotto.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * JFR 이벤트: 미확인 당첨자 알림 청크 1개 (커밋 포함)
+ */
+@Name("com.otr.lotto.ReminderBatch")
+@Label("Lotto Reminder Batch")
+@Category({"Lotto", "Admin"})
+@Description("미확인 당첨자 알림 발송 이력 청크 기록")
+@StackTrace(false)
+@Setter
+public class ReminderBatchEvent extends Event {
+    @Label("Event Id")
+    private long eventId;
+
+    @Label("Targets")
+    private int targets;
+
+    @Label("Inserted")
+    @Description("실제 기록된 발송 이력 수 (중복 제외)")
+    private int inserted;
+
+    @Label("Last Participant Id")
+    private long lastParticipantId;
+}
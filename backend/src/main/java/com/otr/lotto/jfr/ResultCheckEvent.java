@@ -0,0 +1,64 @@
+package com.otr.lotto.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+/**
+ * JFR 이벤트: 결과 조회 1건
+ * 
+ * 단계별 소요 시간은 lotto.phase(operation=check) 지표와 같은 구간입니다.
+ */
+@Name("com.otr.lotto.ResultCheck")
+@Label("Lotto Result Check")
+@Category({"Lotto", "Result Check"})
+@Description("당첨 결과 조회 처리")
+@StackTrace(false)
+@Setter
+public class ResultCheckEvent extends Event {
+    @Label("Event Id")
+    private long eventId;
+
+    @Label("Participant Id")
+    private long participantId;
+
+    @Label("Outcome")
+    @Description("SUCCESS 또는 ErrorCode")
+    private String outcome;
+
+    @Label("Rank")
+    @Description("첫 조회의 당첨 순위 (비당첨/재조회는 0)")
+    private int rank;
+
+    @Label("First Check")
+    private boolean firstCheck;
+
+    @Label("Index Hit")
+    @Description("결과 조회 인덱스(메모리)에서 참여자를 찾았는지 여부")
+    private boolean indexHit;
+
+    @Label("Event Lookup")
+    @Timespan(Timespan.NANOSECONDS)
+    private long eventLookup;
+
+    @Label("Hash")
+    @Timespan(Timespan.NANOSECONDS)
+    private long hash;
+
+    @Label("Participant Lookup")
+    @Timespan(Timespan.NANOSECONDS)
+    private long lookup;
+
+    @Label("Record")
+    @Timespan(Timespan.NANOSECONDS)
+    private long record;
+
+    @Label("Result")
+    @Timespan(Timespan.NANOSECONDS)
+    private long result;
+}
@@ -28,6 +28,13 @@ public interface EventMapper {
      */
     int updateWinningNumber(@Param("id") Long id, @Param("winningNumber") String winningNumber);
 
+    /**
+     * 당첨 산정 확정 시간 기록 (최초 1회만)
+     * @param id 이벤트 ID
+     * @return 변경된 행 수 (이미 확정된 경우 0)
+     */
+    int markDrawn(@Param("id") Long id);
+
     /**
      * 미확인자 알림 발송 대상 이벤트 조회
      * (발표 시작일 + 10일 = 목표 날짜인 이벤트)
@@ -0,0 +1,43 @@
+package com.otr.lotto.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.otr.lotto.domain.JobLease;
+
+@Mapper
+public interface JobLeaseMapper {
+    /**
+     * lease 신규 생성 (이미 있으면 무시)
+     *
+     * @return 1이면 획득
+     */
+    int insertIgnore(
+        @Param("leaseKey") String leaseKey,
+        @Param("owner") String owner,
+        @Param("ttlSeconds") long ttlSeconds
+    );
+
+    /**
+     * 만료되었거나 본인이 보유한 lease 갱신
+     *
+     * @return 1이면 획득
+     */
+    int takeOver(
+        @Param("leaseKey") String leaseKey,
+        @Param("owner") String owner,
+        @Param("ttlSeconds") long ttlSeconds
+    );
+
+    /**
+     * 본인이 보유한 lease 반납
+     */
+    int release(@Param("leaseKey") String leaseKey, @Param("owner") String owner);
+
+    /**
+     * 만료 후 하루가 지난 lease 정리
+     */
+    int deleteExpired();
+
+    JobLease findByKey(@Param("leaseKey") String leaseKey);
+}
@@ -5,7 +5,9 @@ import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import com.otr.lotto.domain.CheckCountDelta;
 import com.otr.lotto.domain.Participant;
+import com.otr.lotto.domain.ParticipantResult;
 
 @Mapper
 public interface ParticipantMapper {
@@ -15,25 +17,39 @@ public interface ParticipantMapper {
 
     long countByEvent(@Param("eventId") Long eventId);
 
-    int updateCheckCountAndTimestamps(
-            @Param("eventId") Long eventId,
-            @Param("participantId") Long participantId,
-            @Param("checkedAt") java.time.LocalDateTime checkedAt
-    );
+    /**
+     * 참여자의 현재 조회 횟수 조회
+     *
+     * @return check_count (참여자가 없으면 null)
+     */
+    Integer findCheckCount(@Param("eventId") Long eventId, @Param("participantId") Long participantId);
 
     /**
-     * 참여 번호 (ID) 범위로 참여자 조회 (2등, 3등 후보군 선정용)
+     * 조회 횟수 증분 일괄 반영
+     *
+     * 여러 참여자의 check_count/조회 시간을 UPDATE 1회로 반영합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @param deltas 같은 이벤트의 참여자별 증분
+     * @return 업데이트한 행의 수
      */
-    List<Participant> findByIdRange(
-        @Param("eventId") Long eventId,
-        @Param("minId") Long minId,
-        @Param("maxId") Long maxId
-    );
+    int updateCheckCountsBatch(@Param("eventId") Long eventId, @Param("deltas") List<CheckCountDelta> deltas);
 
     /**
-     * 특정 이벤트의 모든 참여자 조회 (4등 후보군 선정용)
+     * 참여자별 당첨 결과 페이지 조회 (keyset, 결과 조회 인덱스 생성용)
+     *
+     * id > afterId 인 참여자를 id 오름차순으로 limit건 조회합니다. (participant LEFT JOIN prize, 비당첨은 rank=0)
+     * 전체 목록을 한 번에 읽지 않도록 ParticipantScanner를 통해 사용합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @param afterId 직전 페이지의 마지막 참여자 ID (처음이면 0)
+     * @param limit 페이지 크기
      */
-    List<Participant> findAllByEvent(@Param("eventId") Long eventId);
+    List<ParticipantResult> findResultEntriesAfter(
+        @Param("eventId") Long eventId,
+        @Param("afterId") long afterId,
+        @Param("limit") int limit
+    );
 
     /**
      * ID로 참여자 조회
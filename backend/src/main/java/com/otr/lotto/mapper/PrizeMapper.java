@@ -4,17 +4,39 @@ import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import com.otr.lotto.domain.Prize;
+import com.otr.lotto.domain.RankCount;
+import com.otr.lotto.domain.WinnerExportRow;
 
 @Mapper
 public interface PrizeMapper {
     Prize findByEventAndParticipantId(@Param("eventId") Long eventId, @Param("participantId") Long participantId);
 
     /**
-     * 당첨자 목록 대량 삽입
+     * 당첨자 1건 삽입 (연속 산정 모드에서 당첨 번호 배정 시)
      */
-    int insertBatch(@Param("prizes") List<Prize> prizes);
+    int insert(@Param("eventId") Long eventId, @Param("participantId") Long participantId, @Param("rank") Integer rank);
+
+    /**
+     * ticket_pool의 배정된 당첨 번호로 당첨자 일괄 생성
+     *
+     * INSERT ... SELECT로 DB 안에서 처리합니다 (애플리케이션으로 행을 읽지 않음).
+     * 이미 prize 행이 있는 참여자는 건너뛰므로 연속 산정 후 누락분 보충에도 사용합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return 삽입한 행의 수
+     */
+    int insertFromTicketPool(@Param("eventId") Long eventId);
+
+    /**
+     * 순위별 당첨자 수 집계
+     *
+     * @param eventId 이벤트 ID
+     * @return rank 오름차순 집계 (당첨자가 없는 rank는 제외)
+     */
+    List<RankCount> countGroupByRank(@Param("eventId") Long eventId);
 
     /**
      * 특정 이벤트의 당첨자 수 조회 (멱등성 체크용)
@@ -22,9 +44,20 @@ public interface PrizeMapper {
     long countByEvent(@Param("eventId") Long eventId);
 
     /**
-     * 미확인 당첨자 조회 (check_count = 0인 당첨자)
+     * 당첨 참여자 ID 조회 (당첨자 비트맵 생성용)
+     */
+    List<Long> findWinnerParticipantIds(@Param("eventId") Long eventId);
+
+    /**
+     * 당첨자 내보내기 행 스트리밍 조회
+     *
+     * 결과를 목록으로 만들지 않고 fetchSize 단위로 읽어 handler에 한 행씩 전달합니다.
+     * (rank, participant_id 오름차순)
+     *
+     * @param eventId 이벤트 ID
+     * @param handler 행 처리기
      */
-    List<Prize> findUnconfirmedWinners(@Param("eventId") Long eventId);
+    void streamWinners(@Param("eventId") Long eventId, ResultHandler<WinnerExportRow> handler);
 
     /**
      * 이벤트별 당첨자 삭제 (테스트용)
@@ -0,0 +1,36 @@
+package com.otr.lotto.mapper;
+
+import java.time.LocalDate;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.otr.lotto.domain.ReminderCheckpoint;
+
+@Mapper
+public interface ReminderCheckpointMapper {
+    /**
+     * 체크포인트 생성 (이미 있으면 유지)
+     */
+    int insertIgnore(@Param("eventId") Long eventId, @Param("runDate") LocalDate runDate);
+
+    ReminderCheckpoint find(@Param("eventId") Long eventId, @Param("runDate") LocalDate runDate);
+
+    /**
+     * 청크 처리 결과 반영
+     *
+     * @param lastParticipantId 청크의 마지막 참여자 ID
+     * @param sentDelta 청크에서 기록한 발송 수
+     */
+    int advance(
+        @Param("eventId") Long eventId,
+        @Param("runDate") LocalDate runDate,
+        @Param("lastParticipantId") Long lastParticipantId,
+        @Param("sentDelta") int sentDelta
+    );
+
+    /**
+     * 발송 완료 기록
+     */
+    int complete(@Param("eventId") Long eventId, @Param("runDate") LocalDate runDate);
+}
@@ -1,6 +1,6 @@
 package com.otr.lotto.mapper;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
@@ -13,11 +13,50 @@ public interface SmsLogMapper {
     int insert(SmsLog smsLog);
 
     /**
-     * 특정 날짜에 발송된 UNCONFIRMED_WINNER_REMINDER 타입 SMS 조회 (중복 발송 방지)
+     * SMS 발송 이력 다건 삽입 (INSERT IGNORE)
+     *
+     * uq_sms_dedup(event_id, phone_hash, type, sent_date)에 걸리는 행은 건너뜁니다.
+     *
+     * @param smsLogs 발송 이력 목록
+     * @return 실제 삽입된 행 수
      */
-    List<SmsLog> findExistingReminders(
-        @Param("eventId") Long eventId,
-        @Param("sentDate") LocalDate sentDate,
-        @Param("type") String type
+    int insertIgnoreBatch(@Param("smsLogs") List<SmsLog> smsLogs);
+
+    /**
+     * 발송 가능한 PENDING 이력 조회 (SmsDispatcher용)
+     *
+     * @param now 기준 시각 (next_attempt_at이 없거나 지난 행)
+     * @param limit 최대 건수
+     * @return 발송 대상 (id 오름차순)
+     */
+    List<SmsLog> findDispatchable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 발송 대상 선점 (시도 횟수 증가, lease 만료 시각까지 재조회 제외)
+     */
+    int claimForDispatch(@Param("ids") List<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 발송 성공 기록
+     */
+    int markSent(@Param("ids") List<Long> ids);
+
+    /**
+     * 재시도 예약
+     */
+    int markRetry(
+        @Param("id") Long id,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+        @Param("lastError") String lastError
     );
+
+    /**
+     * 최종 실패 기록
+     */
+    int markFailed(@Param("ids") List<Long> ids, @Param("lastError") String lastError);
+
+    /**
+     * 상태별 이력 수 조회
+     */
+    long countByStatus(@Param("status") String status);
 }
@@ -5,6 +5,7 @@ import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import com.otr.lotto.domain.RankCount;
 import com.otr.lotto.domain.TicketPool;
 
 /**
@@ -39,6 +40,22 @@ public interface TicketPoolMapper {
      */
     long countByRank(@Param("eventId") Long eventId, @Param("rank") Integer rank);
 
+    /**
+     * 당첨 번호(rank 1~4) 개수 조회
+     *
+     * @param eventId 이벤트 ID
+     * @return 당첨 번호 수
+     */
+    long countWinningTickets(@Param("eventId") Long eventId);
+
+    /**
+     * 참여자에게 배정된 당첨 번호(rank 1~4) 개수 조회
+     *
+     * @param eventId 이벤트 ID
+     * @return 배정된 당첨 번호 수
+     */
+    long countAssignedWinners(@Param("eventId") Long eventId);
+
     /**
      * 특정 rank의 seq 범위 밖 항목 개수 조회
      *
@@ -56,24 +73,58 @@ public interface TicketPoolMapper {
     );
 
     /**
-     * seq를 기준으로 번호 풀 조회
+     * 참여자에게 배정된 번호 풀 조회
+     * 
+     * @param eventId 이벤트 ID
+     * @param participantId 참여자 ID
+     * @return TicketPool 엔티티 또는 null (아직 배정 전)
+     */
+    TicketPool findByEventAndParticipantId(
+        @Param("eventId") Long eventId,
+        @Param("participantId") Long participantId
+    );
+
+    /**
+     * 다음 미배정 번호 잠금 조회 (SELECT ... FOR UPDATE SKIP LOCKED)
+     * 
+     * 참여자의 번호(seq)를 participant.id와 무관하게 정합니다.
+     * 다른 트랜잭션이 잠근 행은 건너뛰고 seq가 가장 작은 미배정 행을 잠급니다.
+     * 롤백되면 잠금이 풀려 다음 참여자가 같은 seq를 받으므로 비는 seq가 생기지 않습니다.
      * 
      * @param eventId 이벤트 ID
-     * @param seq 참여순번 (=participant.id)
-     * @return TicketPool 엔티티 또는 null
+     * @param excludeFirstPrize true면 1등 번호 제외 (claim 모드 일반 참여자)
+     * @return 잠근 TicketPool 항목 또는 null (잠글 수 있는 미배정 번호 없음)
      */
-    TicketPool findByEventAndSeq(@Param("eventId") Long eventId, @Param("seq") Long seq);
+    TicketPool lockNextUnassigned(
+        @Param("eventId") Long eventId,
+        @Param("excludeFirstPrize") boolean excludeFirstPrize
+    );
 
     /**
-     * 특정 rank의 미배정 번호 풀 조회
+     * 특정 rank의 미배정 번호 잠금 조회 (SELECT ... FOR UPDATE [SKIP LOCKED])
      * 
-     * 1등 보장이나 순위 스왑 시 사용
+     * 1등 보장이나 순위 스왑 시 사용합니다.
+     * 잠금 읽기라 항상 최신 커밋 값을 읽고, 반환된 행은 이 트랜잭션이 끝날 때까지 다른 참여자가 바꾸지 못합니다.
      * 
      * @param eventId 이벤트 ID
      * @param rank 찾을 순위 (0/1/2/3/4)
-     * @return 미배정 TicketPool 항목 (assignedParticipantId = null)
+     * @param skipLocked true면 다른 트랜잭션이 잠근 행은 건너뜀, false면 잠금 해제까지 대기
+     *                   (1등처럼 한 건뿐인 번호는 대기해야 "이미 배정됨"으로 잘못 판단하지 않음)
+     * @return 잠근 미배정 TicketPool 항목 또는 null
+     */
+    TicketPool lockUnassignedByRank(
+        @Param("eventId") Long eventId,
+        @Param("rank") Integer rank,
+        @Param("skipLocked") boolean skipLocked
+    );
+
+    /**
+     * 순위별 미배정 번호 수 (남은 번호 풀 지표용)
+     *
+     * @param eventId 이벤트 ID
+     * @return 순위별 미배정 건수 (미배정 번호가 없는 순위는 제외)
      */
-    TicketPool findUnassignedByRank(@Param("eventId") Long eventId, @Param("rank") Integer rank);
+    List<RankCount> countUnassignedGroupByRank(@Param("eventId") Long eventId);
 
     /**
      * 이벤트별 번호 풀 삭제 (테스트용)
@@ -86,10 +137,13 @@ public interface TicketPoolMapper {
     /**
      * 번호 풀 항목의 rank와 번호 업데이트
      * 
+     * 미배정 항목만 변경합니다. (이미 배정된 번호의 rank/번호는 바뀌지 않음)
+     * 스왑하는 두 행은 lockNextUnassigned/lockUnassignedByRank로 잠근 상태여야 합니다.
+     * 
      * @param id TicketPool PK
      * @param rank 변경할 순위
      * @param lottoNumber 변경할 번호 (CSV 형식)
-     * @return 업데이트한 행의 수
+     * @return 업데이트한 행의 수 (이미 배정된 항목이면 0)
      */
     int updateRankAndNumber(
         @Param("id") Long id,
@@ -105,14 +159,4 @@ public interface TicketPoolMapper {
      * @return 업데이트한 행의 수
      */
     int assignParticipant(@Param("id") Long id, @Param("participantId") Long participantId);
-
-    /**
-     * 배정된 당첨자 조회
-     * 
-     * 당첨 산정 시 호출하여 rank >= 1인 항목 조회
-     * 
-     * @param eventId 이벤트 ID
-     * @return 배정된 당첨자 TicketPool 리스트 (rank 1~4)
-     */
-    List<TicketPool> findAssignedWinners(@Param("eventId") Long eventId);
 }
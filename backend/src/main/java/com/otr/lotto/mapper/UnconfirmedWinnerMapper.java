@@ -0,0 +1,60 @@
+package com.otr.lotto.mapper;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.otr.lotto.domain.ReminderTarget;
+
+@Mapper
+public interface UnconfirmedWinnerMapper {
+    /**
+     * 당첨 산정 확정 시 미확인 당첨자 집합 생성
+     *
+     * prize JOIN participant에서 아직 조회하지 않은(check_count = 0) 당첨자를 복사합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return 삽입한 행의 수
+     */
+    int insertFromPrize(@Param("eventId") Long eventId);
+
+    /**
+     * 첫 조회한 당첨자 제거
+     *
+     * @return 삭제된 행 수 (이미 제거된 경우 0)
+     */
+    int delete(@Param("eventId") Long eventId, @Param("participantId") Long participantId);
+
+    /**
+     * 미확인 당첨자 수
+     */
+    long countByEvent(@Param("eventId") Long eventId);
+
+    /**
+     * 미확인 당첨자 알림 발송 대상 조회
+     *
+     * 같은 날 같은 유형으로 이미 기록된 sms_log 대상은 제외하며,
+     * participant_id 기준 keyset 방식으로 청크 단위 조회합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @param sentDate 발송일
+     * @param type SMS 유형
+     * @param afterParticipantId 이 ID 이후부터 조회 (처음이면 0)
+     * @param limit 최대 건수
+     * @return 발송 대상 (participant_id 오름차순)
+     */
+    List<ReminderTarget> findReminderTargets(
+        @Param("eventId") Long eventId,
+        @Param("sentDate") LocalDate sentDate,
+        @Param("type") String type,
+        @Param("afterParticipantId") Long afterParticipantId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 이벤트별 미확인 당첨자 삭제 (테스트용)
+     */
+    int deleteByEvent(@Param("eventId") Long eventId);
+}
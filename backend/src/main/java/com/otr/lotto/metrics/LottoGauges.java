@@ -0,0 +1,91 @@
+package com.otr.lotto.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.otr.lotto.common.CurrentDateProvider;
+import com.otr.lotto.domain.Event;
+import com.otr.lotto.domain.RankCount;
+import com.otr.lotto.mapper.EventMapper;
+import com.otr.lotto.mapper.ParticipantMapper;
+import com.otr.lotto.mapper.TicketPoolMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 참여 기간 이벤트 상태 게이지
+ * 
+ * 지표:
+ * - lotto.pool.remaining (event_id/rank 태그): 순위별 미배정 번호 수
+ * - lotto.participants (event_id 태그): 이벤트 참여자 수
+ * 
+ * 수집(scrape)마다 DB를 조회하지 않도록 주기적으로(lotto.metrics.gauge-refresh-ms) 값을 갱신해 두고,
+ * 게이지는 마지막으로 갱신한 값을 반환합니다.
+ * 참여 기간이 끝난 이벤트의 게이지는 다음 갱신 때 제거됩니다.
+ */
+@Component
+@Slf4j
+public class LottoGauges {
+
+    private final EventMapper eventMapper;
+    private final ParticipantMapper participantMapper;
+    private final TicketPoolMapper ticketPoolMapper;
+    private final CurrentDateProvider currentDateProvider;
+    private final MultiGauge poolRemaining;
+    private final MultiGauge participants;
+
+    public LottoGauges(
+        EventMapper eventMapper,
+        ParticipantMapper participantMapper,
+        TicketPoolMapper ticketPoolMapper,
+        CurrentDateProvider currentDateProvider,
+        MeterRegistry meterRegistry
+    ) {
+        this.eventMapper = eventMapper;
+        this.participantMapper = participantMapper;
+        this.ticketPoolMapper = ticketPoolMapper;
+        this.currentDateProvider = currentDateProvider;
+        this.poolRemaining = MultiGauge.builder("lotto.pool.remaining")
+            .description("순위별 미배정 번호 수")
+            .register(meterRegistry);
+        this.participants = MultiGauge.builder("lotto.participants")
+            .description("이벤트 참여자 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 참여 기간 이벤트의 게이지 값 갱신
+     */
+    @Scheduled(fixedDelayString = "${lotto.metrics.gauge-refresh-ms:10000}")
+    public void refresh() {
+        try {
+            Event event = eventMapper.findActiveEvent(currentDateProvider.today());
+            if (event == null) {
+                poolRemaining.register(List.of(), true);
+                participants.register(List.of(), true);
+                return;
+            }
+
+            String eventId = String.valueOf(event.getId());
+            List<MultiGauge.Row<?>> poolRows = new ArrayList<>();
+            for (RankCount rankCount : ticketPoolMapper.countUnassignedGroupByRank(event.getId())) {
+                poolRows.add(MultiGauge.Row.of(
+                    Tags.of("event_id", eventId, "rank", String.valueOf(rankCount.getRank())),
+                    rankCount.getCount()
+                ));
+            }
+            poolRemaining.register(poolRows, true);
+
+            long participantCount = participantMapper.countByEvent(event.getId());
+            participants.register(List.of(MultiGauge.Row.of(Tags.of("event_id", eventId), participantCount)), true);
+        } catch (Exception e) {
+            log.warn("이벤트 게이지 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.otr.lotto.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.otr.lotto.common.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 참여/결과 조회 지표 (Micrometer)
+ * 
+ * 지표:
+ * - lotto.phase (Timer, operation/phase 태그): 처리 단계별 소요 시간 (단계는 서로 겹치지 않음)
+ *   - participate: begin, event, hash, duplicate_check, insert, assign(swap 제외), swap, sms, commit
+ *     (begin/commit은 swap 모드의 트랜잭션 시작/커밋)
+ *   - check: event, hash, lookup, record, result
+ *   - draw: begin, lock, validate, prize, unconfirmed, result, commit
+ * - lotto.errors (Counter, code 태그): ErrorCode별 오류 응답 수
+ * - lotto.retry (Counter, operation/outcome 태그): 교착 상태/잠금 대기 시간 초과 재시도 (TransientLockRetryTemplate)
+ * 
+ * Timer는 백분위 히스토그램을 함께 내보내므로 Prometheus에서 histogram_quantile로 p95/p99를 계산할 수 있습니다.
+ * 단계 Timer는 처음 사용할 때 한 번만 등록하고 이후에는 캐시된 Timer에 기록합니다.
+ * 
+ * 단계 기록은 요청마다 phases(operation)로 만든 PhaseRecorder를 사용합니다.
+ */
+@Component
+public class LottoMetrics {
+    public static final String PARTICIPATE = "participate";
+    public static final String CHECK = "check";
+    public static final String DRAW = "draw";
+
+    public static final String RETRY = "retry";
+    public static final String RETRY_RECOVERED = "recovered";
+    public static final String RETRY_EXHAUSTED = "exhausted";
+    public static final String RETRY_BUDGET_EXHAUSTED = "budget_exhausted";
+
+    private static final String PHASE_TIMER = "lotto.phase";
+    private static final String ERROR_COUNTER = "lotto.errors";
+    private static final String RETRY_COUNTER = "lotto.retry";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> phaseTimers = new ConcurrentHashMap<>();
+    private final Map<ErrorCode, Counter> errorCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> retryCounters = new ConcurrentHashMap<>();
+
+    public LottoMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        // 오류가 한 번도 없던 코드도 0으로 노출
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            errorCounters.put(errorCode, Counter.builder(ERROR_COUNTER)
+                .description("ErrorCode별 오류 응답 수")
+                .tag("code", errorCode.getCode())
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 요청 1건의 단계 기록기 생성 (생성 시각부터 첫 단계 시작)
+     * 
+     * @param operation 처리 종류 (PARTICIPATE / CHECK / DRAW)
+     * @return 단계 기록기
+     */
+    public PhaseRecorder phases(String operation) {
+        return new PhaseRecorder(this, operation);
+    }
+
+    /**
+     * 단계 소요 시간 기록
+     * 
+     * @param operation 처리 종류
+     * @param phase 단계 이름
+     * @param elapsedNanos 소요 시간 (ns)
+     */
+    void recordPhase(String operation, String phase, long elapsedNanos) {
+        phaseTimer(operation, phase).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 오류 응답 1건 기록
+     */
+    public void error(ErrorCode errorCode) {
+        errorCounters.get(errorCode).increment();
+    }
+
+    /**
+     * 잠금 실패 재시도 결과 1건 기록
+     * 
+     * @param operation 작업 (PARTICIPATE / CHECK / DRAW)
+     * @param outcome RETRY / RETRY_RECOVERED / RETRY_EXHAUSTED / RETRY_BUDGET_EXHAUSTED
+     */
+    public void retry(String operation, String outcome) {
+        retryCounters.computeIfAbsent(operation + ':' + outcome, key -> Counter.builder(RETRY_COUNTER)
+            .description("교착 상태/잠금 대기 시간 초과 재시도")
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .register(meterRegistry))
+            .increment();
+    }
+
+    private Timer phaseTimer(String operation, String phase) {
+        return phaseTimers.computeIfAbsent(operation + ':' + phase, key -> Timer.builder(PHASE_TIMER)
+            .description("처리 단계별 소요 시간")
+            .tag("operation", operation)
+            .tag("phase", phase)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(10_000))
+            .maximumExpectedValue(Duration.ofSeconds(5))
+            .register(meterRegistry));
+    }
+}
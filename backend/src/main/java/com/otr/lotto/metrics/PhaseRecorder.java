@@ -0,0 +1,70 @@
+package com.otr.lotto.metrics;
+
+import java.util.function.LongConsumer;
+
+/**
+ * 요청 1건의 단계별 소요 시간 기록기
+ * 
+ * 직전 mark 이후 경과 시간을 lotto.phase Timer와 JFR 이벤트 필드에 함께 기록합니다.
+ * 요청마다 LottoMetrics.phases(operation)로 새로 만들어 한 스레드에서만 사용합니다.
+ * 
+ * 하위 구간(예: assign 안의 swap)은 startNested/markNested로 따로 기록하며,
+ * 하위 구간 시간은 바깥 구간에서 빠집니다. (단계 합계 = 전체 소요 시간)
+ * 
+ * 사용 예:
+ * <pre>
+ * PhaseRecorder phases = lottoMetrics.phases(LottoMetrics.PARTICIPATE);
+ * ... 해싱 ...
+ * phases.mark("hash", jfrEvent::setHash);
+ * </pre>
+ */
+public final class PhaseRecorder {
+    private final LottoMetrics lottoMetrics;
+    private final String operation;
+    private long startedAt;
+    private long nestedNanos;
+
+    PhaseRecorder(LottoMetrics lottoMetrics, String operation) {
+        this.lottoMetrics = lottoMetrics;
+        this.operation = operation;
+        this.startedAt = System.nanoTime();
+    }
+
+    /**
+     * 직전 mark 이후 구간 기록 (하위 구간 제외)
+     * 
+     * @param phase 단계 이름 (lotto.phase의 phase 태그)
+     * @param jfrField 같은 구간을 받을 JFR 이벤트 필드 setter
+     */
+    public void mark(String phase, LongConsumer jfrField) {
+        long now = System.nanoTime();
+        long elapsed = now - startedAt - nestedNanos;
+        lottoMetrics.recordPhase(operation, phase, elapsed);
+        jfrField.accept(elapsed);
+        startedAt = now;
+        nestedNanos = 0L;
+    }
+
+    /**
+     * 하위 구간 시작
+     * 
+     * @return markNested에 넘길 시작 시각
+     */
+    public long startNested() {
+        return System.nanoTime();
+    }
+
+    /**
+     * 하위 구간 기록 (바깥 구간의 다음 mark에서 제외)
+     * 
+     * @param phase 단계 이름
+     * @param jfrField 같은 구간을 받을 JFR 이벤트 필드 setter
+     * @param nestedStartedAt startNested 반환값
+     */
+    public void markNested(String phase, LongConsumer jfrField, long nestedStartedAt) {
+        long elapsed = System.nanoTime() - nestedStartedAt;
+        lottoMetrics.recordPhase(operation, phase, elapsed);
+        jfrField.accept(elapsed);
+        nestedNanos += elapsed;
+    }
+}
@@ -0,0 +1,20 @@
+package com.otr.lotto.profiler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 매퍼 구문 프로파일러 설정 (lotto.profiler.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lotto.profiler")
+public class ProfilerProperties {
+    /** 구문별 통계 수집 여부 */
+    private boolean enabled = true;
+
+    /** 느린 구문 로그 기준 (ms, 0 이하면 로그 안 함) */
+    private long slowThresholdMs = 100;
+}
@@ -0,0 +1,44 @@
+package com.otr.lotto.profiler;
+
+import java.io.IOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * HTTP 요청당 매퍼 구문 수 집계
+ * 
+ * 요청 처리 스레드에서 실행된 구문 수를 세어 "메서드 + URL 패턴" 단위로 기록합니다.
+ * (예: POST /api/participations → 요청당 평균/최대 구문 수)
+ * 
+ * URL 패턴(/api/admin/events/{eventId}/draw)으로 묶어 경로 변수 값마다 항목이 늘지 않도록 합니다.
+ * 스트리밍 응답처럼 다른 스레드에서 실행되는 구문은 포함하지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "lotto.profiler", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class StatementCountFilter extends OncePerRequestFilter {
+    private static final String UNMATCHED = "UNMATCHED";
+
+    private final StatementProfiler statementProfiler;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementProfiler.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            statementProfiler.endRequest(request.getMethod() + " " + (pattern != null ? pattern : UNMATCHED));
+        }
+    }
+}
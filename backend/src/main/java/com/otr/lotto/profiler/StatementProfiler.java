@@ -0,0 +1,160 @@
+package com.otr.lotto.profiler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.otr.lotto.dto.ProfilerStatsResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매퍼 구문별 실행 통계 저장소
+ * 
+ * StatementProfilerInterceptor가 구문 실행마다, StatementCountFilter가 HTTP 요청마다 기록합니다.
+ * 
+ * 수집 항목:
+ * - 구문별: 호출 수, 오류 수, 반환/변경 행 수, 지연 시간 히스토그램(평균/최대/p50/p95/p99)
+ * - 요청별(메서드 + URL 패턴): 요청 수, 요청당 구문 수(평균/최대)
+ * 
+ * 노드(애플리케이션 인스턴스) 시작 또는 reset() 이후 누적 값입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatementProfiler {
+    private static final ThreadLocal<int[]> REQUEST_STATEMENTS = new ThreadLocal<>();
+
+    private final ProfilerProperties profilerProperties;
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final Map<String, RequestStats> requests = new ConcurrentHashMap<>();
+    private volatile LocalDateTime startedAt = LocalDateTime.now();
+
+    /**
+     * 구문 실행 1회 기록
+     * 
+     * @param statementId 매퍼 구문 ID (namespace.id)
+     * @param elapsedNanos 실행 시간
+     * @param rowCount 조회 행 수(SELECT) 또는 변경 행 수(INSERT/UPDATE/DELETE)
+     * @param failed 예외 발생 여부
+     */
+    public void record(String statementId, long elapsedNanos, int rowCount, boolean failed) {
+        String name = shortName(statementId);
+        statements.computeIfAbsent(name, key -> new StatementStats()).record(elapsedNanos, rowCount, failed);
+
+        int[] requestCount = REQUEST_STATEMENTS.get();
+        if (requestCount != null) {
+            requestCount[0]++;
+        }
+
+        long slowThresholdMs = profilerProperties.getSlowThresholdMs();
+        if (slowThresholdMs > 0 && elapsedNanos >= slowThresholdMs * 1_000_000L) {
+            log.warn("느린 구문: {} {}ms, rows={}{}", name, elapsedNanos / 1_000_000, rowCount, failed ? " (실패)" : "");
+        }
+    }
+
+    /**
+     * 현재 스레드에서 HTTP 요청 구문 수 집계 시작
+     */
+    public void beginRequest() {
+        REQUEST_STATEMENTS.set(new int[1]);
+    }
+
+    /**
+     * 현재 스레드의 HTTP 요청 구문 수 집계 종료
+     * 
+     * @param requestKey 요청 구분 (메서드 + URL 패턴)
+     * @return 요청에서 실행한 구문 수
+     */
+    public int endRequest(String requestKey) {
+        int[] requestCount = REQUEST_STATEMENTS.get();
+        REQUEST_STATEMENTS.remove();
+        if (requestCount == null) {
+            return 0;
+        }
+        requests.computeIfAbsent(requestKey, key -> new RequestStats()).record(requestCount[0]);
+        return requestCount[0];
+    }
+
+    /**
+     * 통계 조회 (구문은 누적 실행 시간 내림차순)
+     */
+    public ProfilerStatsResponse getStats() {
+        List<ProfilerStatsResponse.StatementStat> statementStats = new ArrayList<>(statements.size());
+        for (Map.Entry<String, StatementStats> entry : statements.entrySet()) {
+            StatementStats stats = entry.getValue();
+            ProfilerStatsResponse.StatementStat stat = new ProfilerStatsResponse.StatementStat();
+            stat.setStatement(entry.getKey());
+            stat.setCalls(stats.calls());
+            stat.setErrors(stats.errors());
+            stat.setRows(stats.rows());
+            stat.setTotalMs(stats.totalMs());
+            stat.setAverageMs(stats.averageMs());
+            stat.setMaxMs(stats.maxMs());
+            stat.setP50Ms(stats.percentileMs(0.50));
+            stat.setP95Ms(stats.percentileMs(0.95));
+            stat.setP99Ms(stats.percentileMs(0.99));
+            stat.setHistogram(stats.histogram());
+            statementStats.add(stat);
+        }
+        statementStats.sort(Comparator.comparingDouble(ProfilerStatsResponse.StatementStat::getTotalMs).reversed());
+
+        List<ProfilerStatsResponse.RequestStat> requestStats = new ArrayList<>(requests.size());
+        for (Map.Entry<String, RequestStats> entry : requests.entrySet()) {
+            RequestStats stats = entry.getValue();
+            long count = stats.requests.sum();
+            ProfilerStatsResponse.RequestStat stat = new ProfilerStatsResponse.RequestStat();
+            stat.setRequest(entry.getKey());
+            stat.setRequests(count);
+            stat.setAverageStatements(count == 0 ? 0.0 : (double) stats.statements.sum() / count);
+            stat.setMaxStatements(stats.maxStatements.get());
+            requestStats.add(stat);
+        }
+        requestStats.sort(Comparator.comparing(ProfilerStatsResponse.RequestStat::getRequest));
+
+        ProfilerStatsResponse response = new ProfilerStatsResponse();
+        response.setStartedAt(startedAt);
+        response.setSlowThresholdMs(profilerProperties.getSlowThresholdMs());
+        response.setStatements(statementStats);
+        response.setRequests(requestStats);
+        return response;
+    }
+
+    /**
+     * 누적 통계 초기화 (최적화 전/후 비교용)
+     */
+    public void reset() {
+        statements.clear();
+        requests.clear();
+        startedAt = LocalDateTime.now();
+    }
+
+    /**
+     * com.otr.lotto.mapper.TicketPoolMapper.lockUnassignedByRank → TicketPoolMapper.lockUnassignedByRank
+     */
+    private static String shortName(String statementId) {
+        int method = statementId.lastIndexOf('.');
+        int type = method > 0 ? statementId.lastIndexOf('.', method - 1) : -1;
+        return type >= 0 ? statementId.substring(type + 1) : statementId;
+    }
+
+    private static final class RequestStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0L);
+
+        private void record(int statementCount) {
+            requests.increment();
+            statements.add(statementCount);
+            maxStatements.accumulate(statementCount);
+        }
+    }
+}
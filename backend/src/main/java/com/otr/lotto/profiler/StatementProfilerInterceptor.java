@@ -0,0 +1,72 @@
+package com.otr.lotto.profiler;
+
+import java.util.Collection;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매퍼 구문 프로파일러 (MyBatis 플러그인)
+ * 
+ * Executor의 query/update 실행 시간을 재어 StatementProfiler에 기록합니다.
+ * 측정 구간에는 커넥션 획득, 실행, 결과 매핑이 포함됩니다.
+ * 
+ * MyBatis 자동 설정이 Interceptor 빈을 SqlSessionFactory에 등록합니다.
+ * (lotto.profiler.enabled=false면 등록하지 않음)
+ */
+@Component
+@ConditionalOnProperty(prefix = "lotto.profiler", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "update",
+        args = {MappedStatement.class, Object.class})
+})
+@RequiredArgsConstructor
+public class StatementProfilerInterceptor implements Interceptor {
+
+    private final StatementProfiler statementProfiler;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        long startedAt = System.nanoTime();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            statementProfiler.record(statement.getId(), System.nanoTime() - startedAt, rowCount(result), failed);
+        }
+    }
+
+    /**
+     * SELECT는 결과 목록 크기, INSERT/UPDATE/DELETE는 변경 행 수
+     * (ResultHandler로 스트리밍하는 조회는 0)
+     */
+    private int rowCount(Object result) {
+        if (result instanceof Collection<?> rows) {
+            return rows.size();
+        }
+        if (result instanceof Integer updated) {
+            return updated;
+        }
+        return 0;
+    }
+}
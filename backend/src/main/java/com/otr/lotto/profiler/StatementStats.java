@@ -0,0 +1,123 @@
+package com.otr.lotto.profiler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 매퍼 구문 1개의 누적 통계
+ * 
+ * 지연 시간은 고정 구간(ms) 히스토그램으로 누적하고,
+ * 백분위는 해당 구간의 상한값으로 추정합니다.
+ * 모든 카운터는 LongAdder라 여러 스레드가 동시에 기록해도 경합이 적습니다.
+ */
+final class StatementStats {
+    /** 히스토그램 구간 상한 (ms), 마지막 구간은 그 이상 전부 */
+    static final long[] BUCKET_UPPER_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder[] buckets = new LongAdder[BUCKET_UPPER_MS.length + 1];
+
+    StatementStats() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long elapsedNanos, int rowCount, boolean failed) {
+        calls.increment();
+        if (failed) {
+            errors.increment();
+        }
+        rows.add(rowCount);
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+        buckets[bucketOf(elapsedNanos)].increment();
+    }
+
+    long calls() {
+        return calls.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long rows() {
+        return rows.sum();
+    }
+
+    double averageMs() {
+        long count = calls.sum();
+        return count == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / count;
+    }
+
+    double maxMs() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    double totalMs() {
+        return totalNanos.sum() / 1_000_000.0;
+    }
+
+    /**
+     * 백분위 추정 (구간 상한값, 마지막 구간이면 최대값)
+     * 
+     * @param percentile 0 ~ 1 (예: 0.99)
+     */
+    double percentileMs(double percentile) {
+        long[] counts = bucketCounts();
+        long total = 0L;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0L) {
+            return 0.0;
+        }
+
+        long rank = (long) Math.ceil(total * percentile);
+        long seen = 0L;
+        for (int i = 0; i < BUCKET_UPPER_MS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(BUCKET_UPPER_MS[i], maxMs());
+            }
+        }
+        return maxMs();
+    }
+
+    /**
+     * 구간별 호출 수 ("le_1ms" ... "gt_5000ms")
+     */
+    Map<String, Long> histogram() {
+        long[] counts = bucketCounts();
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKET_UPPER_MS.length; i++) {
+            histogram.put("le_" + BUCKET_UPPER_MS[i] + "ms", counts[i]);
+        }
+        histogram.put("gt_" + BUCKET_UPPER_MS[BUCKET_UPPER_MS.length - 1] + "ms", counts[BUCKET_UPPER_MS.length]);
+        return histogram;
+    }
+
+    private long[] bucketCounts() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    private static int bucketOf(long elapsedNanos) {
+        for (int i = 0; i < BUCKET_UPPER_MS.length; i++) {
+            if (elapsedNanos <= BUCKET_UPPER_MS[i] * 1_000_000L) {
+                return i;
+            }
+        }
+        return BUCKET_UPPER_MS.length;
+    }
+}
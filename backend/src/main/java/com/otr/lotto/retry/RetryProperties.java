@@ -0,0 +1,31 @@
+package com.otr.lotto.retry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 일시적 잠금 실패 재시도 설정 (lotto.retry.*)
+ * 
+ * 대기 시간은 시도마다 2배로 늘어나는 상한 안에서 무작위로 정합니다. (full jitter)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lotto.retry")
+public class RetryProperties {
+    /** false면 재시도 없이 바로 실패 */
+    private boolean enabled = true;
+
+    /** 최초 실행을 포함한 최대 시도 횟수 */
+    private int maxAttempts = 3;
+
+    /** 첫 재시도 대기 시간 상한 (ms, 시도마다 2배) */
+    private long baseDelayMs = 10;
+
+    /** 재시도 대기 시간 상한 (ms) */
+    private long maxDelayMs = 200;
+
+    /** 노드 전체에서 1초 동안 허용하는 재시도 수 (초과 시 재시도하지 않음) */
+    private int budgetPerSecond = 200;
+}
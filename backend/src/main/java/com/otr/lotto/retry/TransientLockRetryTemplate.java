@@ -0,0 +1,145 @@
+package com.otr.lotto.retry;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import com.otr.lotto.common.ApiException;
+import com.otr.lotto.common.ErrorCode;
+import com.otr.lotto.metrics.LottoMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 교착 상태/잠금 대기 시간 초과 재시도
+ * 
+ * 동시 스왑 등으로 MariaDB가 교착 상태(1213)나 잠금 대기 시간 초과(1205)를 반환하면
+ * 트랜잭션이 롤백된 뒤이므로 같은 작업을 처음부터 다시 실행할 수 있습니다.
+ * 
+ * 동작:
+ * - 일시적 잠금 실패만 재시도 (PessimisticLockingFailureException, SQLException 1213/1205)
+ * - 재시도 전 대기: 0 ~ min(maxDelayMs, baseDelayMs x 2^(재시도 횟수-1)) 사이 무작위 (full jitter)
+ * - 재시도 예산: 노드 전체에서 1초에 budgetPerSecond회까지만 재시도 (경합이 심할 때 부하 증폭 방지)
+ * - 시도 횟수/예산을 다 쓰면 SERVER_BUSY로 실패 (INTERNAL_ERROR와 구분)
+ * - 소진 로그는 여기서만 WARN 1줄(원인 예외 포함)로 남김 (GlobalExceptionHandler는 SERVER_BUSY를 다시 기록하지 않음)
+ * 
+ * 트랜잭션 경계 밖(컨트롤러 또는 TransactionTemplate을 감싸는 서비스)에서 호출해야 합니다. 트랜잭션 안에서 재시도하면 롤백된 트랜잭션을 이어 쓰게 됩니다.
+ * 작업은 실패 시 아무것도 반영되지 않아야 합니다. (트랜잭션 전체 또는 autocommit 구문 1개)
+ * 
+ * 지표: lotto.retry (Counter, operation/outcome 태그)
+ * - retry: 재시도 1회, recovered: 재시도 후 성공, exhausted: 시도 횟수 소진, budget_exhausted: 예산 소진
+ */
+@Component
+@Slf4j
+public class TransientLockRetryTemplate {
+    private static final int ER_LOCK_DEADLOCK = 1213;
+    private static final int ER_LOCK_WAIT_TIMEOUT = 1205;
+    private static final long BUDGET_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final RetryProperties properties;
+    private final LottoMetrics lottoMetrics;
+    private final AtomicLong budgetWindowStartedAt = new AtomicLong(System.nanoTime());
+    private final AtomicInteger budgetUsed = new AtomicInteger();
+
+    public TransientLockRetryTemplate(RetryProperties properties, LottoMetrics lottoMetrics) {
+        this.properties = properties;
+        this.lottoMetrics = lottoMetrics;
+    }
+
+    /**
+     * 작업 실행 (일시적 잠금 실패 시 재시도)
+     * 
+     * @param operation 지표 태그용 작업 이름 (participate, check, draw)
+     * @param action 실행할 작업 (매 시도마다 새 트랜잭션으로 실행되어야 함)
+     * @return 작업 결과
+     * @throws ApiException 재시도를 모두 실패한 경우 SERVER_BUSY
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        int maxAttempts = properties.isEnabled() ? Math.max(1, properties.getMaxAttempts()) : 1;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = action.get();
+                if (attempt > 1) {
+                    lottoMetrics.retry(operation, LottoMetrics.RETRY_RECOVERED);
+                }
+                return result;
+            } catch (RuntimeException ex) {
+                if (!isTransientLockFailure(ex)) {
+                    throw ex;
+                }
+                if (attempt >= maxAttempts) {
+                    lottoMetrics.retry(operation, LottoMetrics.RETRY_EXHAUSTED);
+                    throw busy(operation, attempt, ex);
+                }
+                if (!tryAcquireBudget()) {
+                    lottoMetrics.retry(operation, LottoMetrics.RETRY_BUDGET_EXHAUSTED);
+                    throw busy(operation, attempt, ex);
+                }
+                lottoMetrics.retry(operation, LottoMetrics.RETRY);
+                backoff(attempt, ex);
+            }
+        }
+    }
+
+    /**
+     * 일시적 잠금 실패 여부 (원인 예외까지 확인)
+     */
+    static boolean isTransientLockFailure(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PessimisticLockingFailureException
+                || cause instanceof SQLTransactionRollbackException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException) {
+                int errorCode = sqlException.getErrorCode();
+                if (errorCode == ER_LOCK_DEADLOCK || errorCode == ER_LOCK_WAIT_TIMEOUT) {
+                    return true;
+                }
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 재시도 예산 1회 사용 (1초 단위 창)
+     */
+    private boolean tryAcquireBudget() {
+        long now = System.nanoTime();
+        long startedAt = budgetWindowStartedAt.get();
+        if (now - startedAt >= BUDGET_WINDOW_NANOS && budgetWindowStartedAt.compareAndSet(startedAt, now)) {
+            budgetUsed.set(0);
+        }
+        return budgetUsed.incrementAndGet() <= properties.getBudgetPerSecond();
+    }
+
+    private void backoff(int attempt, RuntimeException ex) {
+        long ceiling = Math.min(
+            properties.getMaxDelayMs(),
+            properties.getBaseDelayMs() << Math.min(attempt - 1, 20)
+        );
+        if (ceiling <= 0L) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw ex;
+        }
+    }
+
+    private ApiException busy(String operation, int attempts, RuntimeException ex) {
+        log.warn("잠금 경합으로 {} 재시도 소진 ({}회 시도)", operation, attempts, ex);
+        return new ApiException(ErrorCode.SERVER_BUSY, ex);
+    }
+}
@@ -0,0 +1,73 @@
+package com.otr.lotto.scan;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * keyset 페이지네이션 순회 도구
+ *
+ * "WHERE id > ? ORDER BY id LIMIT ?" 형태의 페이지 조회를 반복하여
+ * 전체 결과를 목록 하나로 만들지 않고 페이지 단위로 흘려보냅니다.
+ *
+ * 특징:
+ * - OFFSET 없이 직전 페이지의 마지막 키부터 조회 → 뒤 페이지도 인덱스 범위 스캔
+ * - 메모리에는 한 페이지만 유지
+ * - 페이지 사이에 커넥션/커서를 잡고 있지 않음 (페이지마다 독립 쿼리)
+ *
+ * 주의:
+ * - 페이지마다 별도 쿼리이므로 순회 중 추가/삭제된 행은 반영될 수도, 안 될 수도 있음
+ * - 키는 오름차순이며 중복이 없어야 함 (PK 사용)
+ */
+public final class KeysetPager {
+
+    private KeysetPager() {
+    }
+
+    /**
+     * 페이지 조회 함수
+     *
+     * @param <T> 행 타입
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+        /**
+         * @param afterKey 직전 페이지의 마지막 키 (처음이면 0)
+         * @param limit 페이지 크기
+         * @return 키 오름차순 페이지 (마지막이면 limit보다 적거나 비어 있음)
+         */
+        List<T> fetch(long afterKey, int limit);
+    }
+
+    /**
+     * 페이지 단위 순회
+     *
+     * @param fetcher 페이지 조회 함수
+     * @param keyOf 행의 키 추출 함수
+     * @param pageSize 페이지 크기
+     * @param consumer 페이지 처리 함수
+     * @return 전체 행 수
+     */
+    public static <T> long forEachPage(
+        PageFetcher<T> fetcher,
+        ToLongFunction<T> keyOf,
+        int pageSize,
+        Consumer<List<T>> consumer
+    ) {
+        int limit = Math.max(1, pageSize);
+        long afterKey = 0L;
+        long total = 0L;
+        while (true) {
+            List<T> page = fetcher.fetch(afterKey, limit);
+            if (page.isEmpty()) {
+                return total;
+            }
+            consumer.accept(page);
+            total += page.size();
+            if (page.size() < limit) {
+                return total;
+            }
+            afterKey = keyOf.applyAsLong(page.get(page.size() - 1));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.otr.lotto.scan;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.otr.lotto.domain.ParticipantResult;
+import com.otr.lotto.mapper.ParticipantMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이벤트 참여자 스캔
+ * 
+ * 참여자 전체를 읽는 배치 작업(인덱스 생성 등)은 목록 조회 대신 이 스캐너를 사용합니다.
+ * participant.id 기준 keyset 페이지(lotto.scan.page-size)로 조회하므로
+ * 참여자 수와 관계없이 메모리에는 한 페이지만 유지됩니다.
+ * 
+ * 필요한 컬럼(ID + phone_hash + rank)만 읽는 투영 조회를 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ParticipantScanner {
+
+    private final ParticipantMapper participantMapper;
+
+    @Value("${lotto.scan.page-size:1000}")
+    private int pageSize;
+
+    /**
+     * 참여자별 당첨 결과를 페이지 단위로 처리
+     * 
+     * @param eventId 이벤트 ID
+     * @param consumer 페이지 처리 함수
+     * @return 전체 참여자 수
+     */
+    public long forEachResultPage(Long eventId, Consumer<List<ParticipantResult>> consumer) {
+        return KeysetPager.forEachPage(
+            (afterId, limit) -> participantMapper.findResultEntriesAfter(eventId, afterId, limit),
+            ParticipantResult::getParticipantId,
+            pageSize,
+            consumer
+        );
+    }
+}
@@ -1,16 +1,21 @@
 package com.otr.lotto.scheduler;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.otr.lotto.common.ApiException;
 import com.otr.lotto.domain.Event;
 import com.otr.lotto.dto.ReminderResponse;
 import com.otr.lotto.mapper.EventMapper;
+import com.otr.lotto.service.JobLeaseService;
 import com.otr.lotto.service.ReminderService;
 
 import lombok.RequiredArgsConstructor;
@@ -21,15 +26,26 @@ import lombok.extern.slf4j.Slf4j;
  * 
  * 매일 자정(00:00)에 실행되어:
  * 1. 발표 시작일 + 10일이 오늘인 이벤트 찾기
- * 2. 해당 이벤트의 미확인 당첨자에게 알림 발송
+ * 2. 이벤트별 알림 발송 작업을 스케줄 스레드 풀에 나눠 병렬 실행
+ * 
+ * 트랜잭션은 이벤트별 발송 작업 안에서 청크 단위로만 사용하므로
+ * 한 이벤트의 실패가 다른 이벤트나 이미 커밋된 청크에 영향을 주지 않습니다.
+ * 
+ * 다중 노드 배포:
+ * - 모든 노드에서 스케줄이 실행되지만, 이벤트별 lease(reminder:{eventId}:{date})를
+ *   획득한 노드만 해당 이벤트를 처리
+ * - 노드마다 이벤트 순서를 섞어 여러 이벤트가 노드들에 나눠 처리되도록 함
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ReminderScheduler {
+    private static final Duration REMINDER_LEASE_TTL = Duration.ofMinutes(30);
 
     private final ReminderService reminderService;
     private final EventMapper eventMapper;
+    private final JobLeaseService jobLeaseService;
+    private final TaskScheduler taskScheduler;
     private final com.otr.lotto.common.CurrentDateProvider currentDateProvider;
 
     /**
@@ -39,10 +55,10 @@ public class ReminderScheduler {
      * Cron 표현식: "초 분 시 일 월 요일"
      * "0 0 0 * * ?" = 매일 자정
      * 
-     * @Transactional: 데이터베이스 일관성 보장
+     * 이벤트별 작업은 기다리지 않고 넘기므로(스케줄 스레드 점유 방지),
+     * 결과는 작업마다 로그로 남깁니다.
      */
     @Scheduled(cron = "0 0 0 * * ?")
-    @Transactional
     public void sendDailyReminders() {
         LocalDate today = currentDateProvider.today();
         log.info("=== 미확인 당첨자 알림 스케줄 시작 ({})", today);
@@ -57,44 +73,70 @@ public class ReminderScheduler {
             }
 
             log.info("알림 발송 대상 이벤트 {}개 발견", targetEvents.size());
+            jobLeaseService.purgeExpired();
 
-            // 2. 각 이벤트별로 미확인 당첨자 알림 발송
-            int totalSentCount = 0;
-            int totalFailedCount = 0;
-
-            for (Event event : targetEvents) {
-                try {
-                    log.info("  ├─ 이벤트 ID: {}, 이름: {}", event.getId(), event.getName());
+            // 2. 이벤트별 알림 발송 작업 실행 (스케줄 스레드 풀에서 병렬 처리, 노드별로 순서를 섞음)
+            List<Event> shuffledEvents = new ArrayList<>(targetEvents);
+            Collections.shuffle(shuffledEvents);
+            for (Event event : shuffledEvents) {
+                taskScheduler.schedule(() -> sendEventReminders(event, today), Instant.now());
+            }
 
-                    ReminderResponse result = reminderService.sendUnconfirmedWinnerReminders(event.getId());
+        } catch (Exception e) {
+            log.error("미확인 당첨자 알림 스케줄 중 예상치 못한 오류 발생", e);
+        }
+    }
 
-                    log.info(
-                        "  ├─ 발송 완료: {}명 발송, {}명 실패",
-                        result.getRemindersSent(),
-                        result.getRemindersFailed()
-                    );
+    /**
+     * 이벤트 1개 알림 발송
+     * 
+     * 이벤트/날짜별 lease를 획득한 노드만 실행합니다.
+     * 성공 시 lease는 만료될 때까지 유지하여 늦게 실행된 노드가 다시 처리하지 않게 하고,
+     * 실패 시 반납합니다.
+     * 중단되더라도 다음 실행(또는 관리자 API 호출) 시 체크포인트부터 이어서 처리됩니다.
+     * 
+     * @param event 대상 이벤트
+     * @param today 실행 기준 날짜
+     */
+    private void sendEventReminders(Event event, LocalDate today) {
+        String leaseKey = "reminder:" + event.getId() + ":" + today;
+        try {
+            if (!jobLeaseService.tryAcquire(leaseKey, REMINDER_LEASE_TTL)) {
+                log.info("  ├─ 이벤트 {} 알림은 다른 노드에서 처리 중", event.getId());
+                return;
+            }
+        } catch (Exception e) {
+            log.error("  ├─ 이벤트 {} 알림 lease 획득 실패: {}", event.getId(), e.getMessage());
+            return;
+        }
 
-                    totalSentCount += result.getRemindersSent();
-                    totalFailedCount += result.getRemindersFailed();
+        try {
+            log.info("  ├─ 이벤트 ID: {}, 이름: {}", event.getId(), event.getName());
 
-                } catch (ApiException e) {
-                    log.warn("  ├─ 이벤트 {} 알림 발송 실패: {}", event.getId(), e.getMessage());
-                    totalFailedCount++;
-                } catch (Exception e) {
-                    log.error("  ├─ 예상치 못한 오류 (이벤트 {}): {}", event.getId(), e.getMessage(), e);
-                    totalFailedCount++;
-                }
-            }
+            ReminderResponse result = reminderService.sendUnconfirmedWinnerReminders(event.getId());
 
-            log.info("🔔 === 미확인 당첨자 알림 스케줄 완료");
             log.info(
-                "통계: 총 {}명 발송, {}명 실패",
-                totalSentCount,
-                totalFailedCount
+                "  ├─ 이벤트 {} 발송 완료: {}명 발송, {}명 실패 (미확인 당첨자 {}명)",
+                event.getId(),
+                result.getRemindersSent(),
+                result.getRemindersFailed(),
+                result.getTotalUnconfirmedWinners()
             );
 
+        } catch (ApiException e) {
+            log.warn("  ├─ 이벤트 {} 알림 발송 실패: {}", event.getId(), e.getMessage());
+            releaseQuietly(leaseKey);
         } catch (Exception e) {
-            log.error("미확인 당첨자 알림 스케줄 중 예상치 못한 오류 발생", e);
+            log.error("  ├─ 예상치 못한 오류 (이벤트 {}): {}", event.getId(), e.getMessage(), e);
+            releaseQuietly(leaseKey);
+        }
+    }
+
+    private void releaseQuietly(String leaseKey) {
+        try {
+            jobLeaseService.release(leaseKey);
+        } catch (Exception e) {
+            log.warn("lease 반납 실패 ({}): {}", leaseKey, e.getMessage());
         }
     }
 }
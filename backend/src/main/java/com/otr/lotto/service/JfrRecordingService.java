@@ -0,0 +1,34 @@
+package com.otr.lotto.service;
+
+import com.otr.lotto.dto.JfrRecordingResponse;
+
+public interface JfrRecordingService {
+    /**
+     * JFR 기록 시작 (이미 기록 중이면 현재 상태 반환)
+     * 
+     * @param maxAgeMinutes 보관 시간 (분, null이면 기본값)
+     * @return 기록 상태
+     */
+    JfrRecordingResponse start(Integer maxAgeMinutes);
+
+    /**
+     * 현재까지의 기록을 파일로 저장 (기록은 계속됨)
+     * 
+     * @return 기록 상태 (저장 경로 포함)
+     */
+    JfrRecordingResponse dump();
+
+    /**
+     * JFR 기록 중지 (저장하지 않은 기록은 버림)
+     * 
+     * @return 기록 상태
+     */
+    JfrRecordingResponse stop();
+
+    /**
+     * 기록 상태 조회
+     * 
+     * @return 기록 상태
+     */
+    JfrRecordingResponse getStatus();
+}
@@ -0,0 +1,36 @@
+package com.otr.lotto.service;
+
+import java.time.Duration;
+
+public interface JobLeaseService {
+    /**
+     * 작업 실행권 획득 시도
+     * 
+     * 다른 노드가 유효한 lease를 보유 중이면 실패합니다.
+     * 이미 본인이 보유 중이면 만료 시각을 연장하고 성공합니다.
+     * 
+     * @param leaseKey 작업 키
+     * @param ttl 보유 시간 (노드가 죽으면 이 시간 후 다른 노드가 가져감)
+     * @return 획득 여부
+     */
+    boolean tryAcquire(String leaseKey, Duration ttl);
+
+    /**
+     * 작업 실행권 반납 (본인이 보유한 경우만)
+     * 
+     * @param leaseKey 작업 키
+     */
+    void release(String leaseKey);
+
+    /**
+     * 오래된 lease 정리
+     * 
+     * @return 삭제된 행 수
+     */
+    int purgeExpired();
+
+    /**
+     * 현재 노드 ID (호스트명:pid)
+     */
+    String getNodeId();
+}
@@ -1,5 +1,6 @@
 package com.otr.lotto.service;
 
+import com.otr.lotto.dto.ConfirmationRateResponse;
 import com.otr.lotto.dto.ReminderResponse;
 
 public interface ReminderService {
@@ -10,4 +11,12 @@ public interface ReminderService {
      * @return 안내 발송 결과
      */
     ReminderResponse sendUnconfirmedWinnerReminders(Long eventId);
+
+    /**
+     * 당첨자 결과 확인율 조회
+     * 
+     * @param eventId 이벤트 ID
+     * @return 전체/확인/미확인 당첨자 수와 확인율
+     */
+    ConfirmationRateResponse getConfirmationRate(Long eventId);
 }
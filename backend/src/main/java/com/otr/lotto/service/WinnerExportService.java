@@ -0,0 +1,19 @@
+package com.otr.lotto.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.otr.lotto.dto.WinnerExportFormat;
+
+public interface WinnerExportService {
+    /**
+     * 당첨자 목록 내보내기
+     * 
+     * 이벤트 검증은 즉시 수행하고, 실제 조회/출력은 반환된 본문이
+     * 응답 스트림에 쓰일 때 행 단위로 진행됩니다.
+     * 
+     * @param eventId 이벤트 ID
+     * @param format 내보내기 형식
+     * @return 응답 본문 (스트리밍)
+     */
+    StreamingResponseBody exportWinners(Long eventId, WinnerExportFormat format);
+}
@@ -1,20 +1,26 @@
 package com.otr.lotto.serviceImpl;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.otr.lotto.common.ApiException;
 import com.otr.lotto.common.ErrorCode;
 import com.otr.lotto.domain.Event;
-import com.otr.lotto.domain.Prize;
-import com.otr.lotto.domain.TicketPool;
+import com.otr.lotto.domain.RankCount;
 import com.otr.lotto.dto.DrawResponse;
+import com.otr.lotto.index.ResultIndexRegistry;
+import com.otr.lotto.index.WinnerBitmapRegistry;
+import com.otr.lotto.jfr.DrawEvent;
 import com.otr.lotto.mapper.EventMapper;
 import com.otr.lotto.mapper.PrizeMapper;
 import com.otr.lotto.mapper.TicketPoolMapper;
+import com.otr.lotto.mapper.UnconfirmedWinnerMapper;
+import com.otr.lotto.metrics.LottoMetrics;
+import com.otr.lotto.metrics.PhaseRecorder;
 import com.otr.lotto.service.DrawService;
 
 import lombok.RequiredArgsConstructor;
@@ -22,83 +28,175 @@ import lombok.RequiredArgsConstructor;
 /**
  * 로또 당첨 산정 서비스
  * 
- * 당첨 산정을 실행하는 서비스로, 사전 생성된 번호 풀에서
- * 당첨자(rank 정보 포함)를 읽어 Prize 레코드로 저장하는
+ * 당첨 산정을 실행하는 서비스로, 사전 생성된 번호 풀의
+ * 배정된 당첨 번호(rank 정보 포함)를 Prize 레코드로 옮기는
  * 단순한 매핑 역할을 수행합니다.
  * 
+ * 당첨자 행은 애플리케이션을 거치지 않고 DB 안에서
+ * INSERT ... SELECT 한 번으로 생성합니다.
+ * 
+ * 연속 산정 모드(lotto.draw.continuous)에서는 참여 시점에 당첨자가 이미
+ * 기록되어 있으므로, 당첨 산정은 개수 검증과 확정(event.drawn_at 기록)만 수행합니다.
+ * 
+ * 단계별 소요 시간은 lotto.phase(operation=draw)와 JFR com.otr.lotto.Draw에 기록합니다.
+ * 커밋 시간까지 담기 위해 트랜잭션은 TransactionTemplate으로 열고 JFR 이벤트는 커밋 후에 기록합니다.
+ * 
  * 중요 특징: 번호 당첨 로직은 모두 사전에 ticket_pool에서 모두 처리됩니다.
  */
 @Service
 @RequiredArgsConstructor
 public class DrawServiceImpl implements DrawService {
+    private static final String OUTCOME_SUCCESS = "SUCCESS";
 
     private final EventMapper eventMapper;
     private final PrizeMapper prizeMapper;
     private final TicketPoolMapper ticketPoolMapper;
+    private final UnconfirmedWinnerMapper unconfirmedWinnerMapper;
+    private final ResultIndexRegistry resultIndexRegistry;
+    private final WinnerBitmapRegistry winnerBitmapRegistry;
+    private final LottoMetrics lottoMetrics;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 당첨 산정 실행
      * 
-    * 당첨 산정으로 Prize 레코드를 대량 생성합니다.
+     * 당첨 산정으로 Prize 레코드를 대량 생성합니다.
      * 
      * 동작 로직:
-     * 1. 당첨 결과 슬롯 감지 (대상 1000명)
-     * 2. ticket_pool에서 당첨된 항목(rank ≥ 1) 검색
-     * 3. 각 항목에 대해 Prize 레코드 생성
-     * 4. 대량 삽입
+     * 1. event.drawn_at 기록으로 확정 선점 (이미 확정된 이벤트면 기존 결과 반환)
+     * 2. 당첨 번호(rank ≥ 1)가 모두 배정되었는지 개수로 확인
+     * 3. INSERT ... SELECT로 ticket_pool → prize 생성 (이미 기록된 당첨자는 제외)
+     * 4. prize 개수와 당첨 번호 개수 일치 검증
+     * 5. 미확인 당첨자 집합(unconfirmed_winner) 생성
+     * 6. 등수별 개수는 prize GROUP BY rank 집계로 구성
+     * 7. 커밋 후 결과 조회 인덱스/당첨자 비트맵 생성
+     * 
+     * drawn_at 갱신이 event 행을 잠그므로 동시에 호출되어도 한 번만 산정됩니다.
+     * 검증 실패 시 트랜잭션이 롤백되어 drawn_at도 되돌아갑니다.
      * 
      * @param eventId 당첨 산정을 실행할 이벤트 ID
-    * @return 당첨 산정 결과 (등수별 개수 포함)
+     * @return 당첨 산정 결과 (등수별 개수 포함)
      * @throws ApiException 당첨 대상 부족 또는 이벤트 미존재 시
      */
     @Override
-    @Transactional
     public DrawResponse executeDraw(Long eventId) {
-        long existingPrizeCount = prizeMapper.countByEvent(eventId);
-        if (existingPrizeCount >= 1000) {
-            return buildDrawResponse(eventId);
+        DrawEvent jfrEvent = new DrawEvent();
+        jfrEvent.begin();
+        jfrEvent.setEventId(eventId == null ? 0L : eventId);
+        PhaseRecorder phases = lottoMetrics.phases(LottoMetrics.DRAW);
+        try {
+            DrawResponse response = transactionTemplate.execute(status -> {
+                phases.mark("begin", jfrEvent::setBegin);
+                return doExecuteDraw(eventId, jfrEvent, phases);
+            });
+            phases.mark("commit", jfrEvent::setCommit);
+            jfrEvent.setOutcome(OUTCOME_SUCCESS);
+            jfrEvent.setTotalWinners(response.getTotalWinners() == null ? 0L : response.getTotalWinners());
+            return response;
+        } catch (ApiException ex) {
+            jfrEvent.setOutcome(ex.getCode());
+            throw ex;
+        } catch (RuntimeException ex) {
+            jfrEvent.setOutcome(ErrorCode.INTERNAL_ERROR.getCode());
+            throw ex;
+        } finally {
+            jfrEvent.commit();
         }
+    }
 
+    private DrawResponse doExecuteDraw(Long eventId, DrawEvent jfrEvent, PhaseRecorder phases) {
         Event event = eventMapper.findById(eventId);
         if (event == null) {
             throw new ApiException(ErrorCode.NOT_FOUND);
         }
 
-        List<TicketPool> assignedWinners = ticketPoolMapper.findAssignedWinners(eventId);
-        if (assignedWinners.size() < 1000) {
+        int marked = eventMapper.markDrawn(eventId);
+        phases.mark("lock", jfrEvent::setLock);
+        if (marked == 0) {
+            jfrEvent.setAlreadyDrawn(true);
+            DrawResponse response = buildDrawResponse(eventId);
+            phases.mark("result", jfrEvent::setResult);
+            return response;
+        }
+
+        long winningTickets = ticketPoolMapper.countWinningTickets(eventId);
+        long assignedWinners = ticketPoolMapper.countAssignedWinners(eventId);
+        if (winningTickets == 0 || assignedWinners < winningTickets) {
             throw new ApiException(ErrorCode.INVALID_REQUEST, "당첨 대상자가 부족합니다.");
         }
+        phases.mark("validate", jfrEvent::setValidate);
+
+        prizeMapper.insertFromTicketPool(eventId);
 
-        List<Prize> prizes = new ArrayList<>(assignedWinners.size());
-        for (TicketPool pool : assignedWinners) {
-            Prize prize = new Prize();
-            prize.setEventId(eventId);
-            prize.setParticipantId(pool.getAssignedParticipantId());
-            prize.setRank(pool.getRank());
-            prizes.add(prize);
+        long prizeCount = prizeMapper.countByEvent(eventId);
+        if (prizeCount != winningTickets) {
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "당첨자 수가 번호 풀과 일치하지 않습니다.");
         }
+        phases.mark("prize", jfrEvent::setPrize);
+
+        unconfirmedWinnerMapper.insertFromPrize(eventId);
+        phases.mark("unconfirmed", jfrEvent::setUnconfirmed);
+
+        rebuildResultIndexesAfterCommit(eventId);
+        DrawResponse response = buildDrawResponse(eventId);
+        phases.mark("result", jfrEvent::setResult);
+        return response;
+    }
 
-        if (!prizes.isEmpty()) {
-            prizeMapper.insertBatch(prizes);
+    /**
+     * 커밋 후 결과 조회 인덱스/당첨자 비트맵 생성
+     * 
+     * 당첨 결과가 확정(커밋)된 뒤에 만들어
+     * 롤백된 당첨 정보가 메모리에 남지 않도록 합니다.
+     * 
+     * @param eventId 당첨 이벤트 ID
+     */
+    private void rebuildResultIndexesAfterCommit(Long eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuildResultIndexes(eventId);
+            return;
         }
 
-        return buildDrawResponse(eventId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rebuildResultIndexes(eventId);
+            }
+        });
+    }
+
+    private void rebuildResultIndexes(Long eventId) {
+        resultIndexRegistry.rebuild(eventId);
+        winnerBitmapRegistry.rebuild(eventId);
     }
 
     /**
-    * 당첨 결과 응답 구성
+     * 당첨 결과 응답 구성
+     * 
+     * 등수별 개수는 prize 테이블의 GROUP BY rank 집계로 계산합니다.
      * 
      * @param eventId 당첨 이벤트 ID
      * @return 당첨 결과 DTO
      */
     private DrawResponse buildDrawResponse(Long eventId) {
+        int[] countsByRank = new int[5];
+        int totalWinners = 0;
+        for (RankCount rankCount : prizeMapper.countGroupByRank(eventId)) {
+            int rank = rankCount.getRank();
+            int count = rankCount.getCount().intValue();
+            if (rank >= 1 && rank <= 4) {
+                countsByRank[rank] = count;
+            }
+            totalWinners += count;
+        }
+
         DrawResponse response = new DrawResponse();
         response.setEventId(eventId);
-        response.setTotalWinners(1000);
-        response.setFirstPrizeCount(1);
-        response.setSecondPrizeCount(5);
-        response.setThirdPrizeCount(44);
-        response.setFourthPrizeCount(950);
+        response.setTotalWinners(totalWinners);
+        response.setFirstPrizeCount(countsByRank[1]);
+        response.setSecondPrizeCount(countsByRank[2]);
+        response.setThirdPrizeCount(countsByRank[3]);
+        response.setFourthPrizeCount(countsByRank[4]);
         return response;
     }
 }
@@ -0,0 +1,167 @@
+package com.otr.lotto.serviceImpl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.otr.lotto.common.ApiException;
+import com.otr.lotto.common.ErrorCode;
+import com.otr.lotto.dto.JfrRecordingResponse;
+import com.otr.lotto.jfr.DrawEvent;
+import com.otr.lotto.jfr.ParticipateEvent;
+import com.otr.lotto.jfr.PoolSwapEvent;
+import com.otr.lotto.jfr.ReminderBatchEvent;
+import com.otr.lotto.jfr.ResultCheckEvent;
+import com.otr.lotto.service.JfrRecordingService;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JFR 기록 관리 서비스
+ * 
+ * 운영 중인 노드에서 JFR 기록을 시작/저장/중지합니다.
+ * JDK 기본 이벤트(GC, 락, 소켓 등)와 함께 com.otr.lotto.* 업무 이벤트
+ * (참여, 결과 조회, 번호 풀 스왑, 당첨 산정, 알림 청크)를 기록하므로
+ * p99 급등 구간의 업무 처리와 JVM 이벤트를 같은 타임라인에서 볼 수 있습니다.
+ * 
+ * 특징:
+ * - 노드당 기록은 1개만 유지 (이미 기록 중이면 시작 요청은 현재 상태 반환)
+ * - 메모리 버퍼 + 보관 시간(maxAge) 기준으로 오래된 기록부터 버림
+ * - 저장 파일은 lotto.jfr.dump-dir 아래에 시각 기반 이름으로 생성 (요청에서 경로를 받지 않음)
+ * - 설정(lotto.jfr.settings)은 JDK 제공 default(저부하) 또는 profile
+ */
+@Service
+@Slf4j
+public class JfrRecordingServiceImpl implements JfrRecordingService {
+    private static final String RECORDING_NAME = "lotto";
+    private static final String STATE_NONE = "NONE";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final String settings;
+    private final long defaultMaxAgeMinutes;
+    private final Path dumpDir;
+
+    private Recording recording;
+    private LocalDateTime startedAt;
+    private String lastDumpPath;
+
+    public JfrRecordingServiceImpl(
+        @Value("${lotto.jfr.settings:default}") String settings,
+        @Value("${lotto.jfr.max-age-minutes:30}") long defaultMaxAgeMinutes,
+        @Value("${lotto.jfr.dump-dir:${java.io.tmpdir}/lotto-jfr}") String dumpDir
+    ) {
+        this.settings = settings;
+        this.defaultMaxAgeMinutes = defaultMaxAgeMinutes;
+        this.dumpDir = Paths.get(dumpDir);
+    }
+
+    @Override
+    public synchronized JfrRecordingResponse start(Integer maxAgeMinutes) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return toResponse();
+        }
+        closeRecording();
+
+        long maxAge = maxAgeMinutes != null && maxAgeMinutes > 0 ? maxAgeMinutes : defaultMaxAgeMinutes;
+        Recording newRecording;
+        try {
+            newRecording = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException ex) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST, "JFR 설정을 읽을 수 없습니다: " + settings);
+        }
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(Duration.ofMinutes(maxAge));
+        newRecording.enable(ParticipateEvent.class);
+        newRecording.enable(ResultCheckEvent.class);
+        newRecording.enable(PoolSwapEvent.class);
+        newRecording.enable(DrawEvent.class);
+        newRecording.enable(ReminderBatchEvent.class);
+        newRecording.start();
+
+        recording = newRecording;
+        startedAt = LocalDateTime.now();
+        lastDumpPath = null;
+        log.info("JFR 기록 시작: settings={}, maxAge={}분", settings, maxAge);
+        return toResponse();
+    }
+
+    @Override
+    public synchronized JfrRecordingResponse dump() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST, "실행 중인 JFR 기록이 없습니다.");
+        }
+
+        Path target = dumpDir.resolve("lotto-" + LocalDateTime.now().format(FILE_TIME) + ".jfr");
+        try {
+            Files.createDirectories(dumpDir);
+            recording.dump(target);
+        } catch (IOException ex) {
+            log.error("JFR 기록 저장 실패: {}", target, ex);
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "JFR 기록을 저장하지 못했습니다.");
+        }
+
+        lastDumpPath = target.toAbsolutePath().toString();
+        log.info("JFR 기록 저장: {}", lastDumpPath);
+        return toResponse();
+    }
+
+    @Override
+    public synchronized JfrRecordingResponse stop() {
+        if (recording != null) {
+            log.info("JFR 기록 중지");
+        }
+        closeRecording();
+        return toResponse();
+    }
+
+    @Override
+    public synchronized JfrRecordingResponse getStatus() {
+        return toResponse();
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        closeRecording();
+    }
+
+    private void closeRecording() {
+        if (recording == null) {
+            return;
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        recording.close();
+        recording = null;
+        startedAt = null;
+    }
+
+    private JfrRecordingResponse toResponse() {
+        JfrRecordingResponse response = new JfrRecordingResponse();
+        response.setSettings(settings);
+        response.setDumpPath(lastDumpPath);
+        if (recording == null) {
+            response.setState(STATE_NONE);
+            return response;
+        }
+        response.setState(recording.getState().name());
+        response.setName(recording.getName());
+        response.setStartedAt(startedAt);
+        response.setMaxAgeMinutes(recording.getMaxAge() == null ? null : recording.getMaxAge().toMinutes());
+        response.setSizeBytes(recording.getSize());
+        return response;
+    }
+}
@@ -0,0 +1,71 @@
+package com.otr.lotto.serviceImpl;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+
+import org.springframework.stereotype.Service;
+
+import com.otr.lotto.mapper.JobLeaseMapper;
+import com.otr.lotto.service.JobLeaseService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 테이블 기반 작업 실행권(lease) 서비스
+ * 
+ * 여러 노드에서 같은 스케줄이 동시에 실행될 때
+ * job_lease 테이블로 한 노드만 작업을 실행하도록 합니다.
+ * 
+ * 획득 방식:
+ * 1. INSERT IGNORE로 신규 생성 → 성공하면 획득
+ * 2. 이미 있으면 만료되었거나 본인 소유인 경우에만 UPDATE → 1행이면 획득
+ * 
+ * 시각은 DB의 NOW()를 기준으로 하여 노드 간 시계 차이에 영향받지 않습니다.
+ */
+@Service
+@Slf4j
+public class JobLeaseServiceImpl implements JobLeaseService {
+
+    private final JobLeaseMapper jobLeaseMapper;
+    private final String nodeId;
+
+    public JobLeaseServiceImpl(JobLeaseMapper jobLeaseMapper) {
+        this.jobLeaseMapper = jobLeaseMapper;
+        this.nodeId = resolveNodeId();
+    }
+
+    @Override
+    public boolean tryAcquire(String leaseKey, Duration ttl) {
+        long ttlSeconds = Math.max(1L, ttl.getSeconds());
+        if (jobLeaseMapper.insertIgnore(leaseKey, nodeId, ttlSeconds) == 1) {
+            return true;
+        }
+        return jobLeaseMapper.takeOver(leaseKey, nodeId, ttlSeconds) == 1;
+    }
+
+    @Override
+    public void release(String leaseKey) {
+        jobLeaseMapper.release(leaseKey, nodeId);
+    }
+
+    @Override
+    public int purgeExpired() {
+        return jobLeaseMapper.deleteExpired();
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private static String resolveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + ProcessHandle.current().pid();
+    }
+}
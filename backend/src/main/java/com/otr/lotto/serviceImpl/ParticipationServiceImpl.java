@@ -5,9 +5,10 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Objects;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.otr.lotto.common.ApiException;
 import com.otr.lotto.common.ErrorCode;
@@ -17,13 +18,20 @@ import com.otr.lotto.domain.SmsLog;
 import com.otr.lotto.domain.TicketPool;
 import com.otr.lotto.dto.ParticipateRequest;
 import com.otr.lotto.dto.ParticipateResponse;
+import com.otr.lotto.jfr.ParticipateEvent;
+import com.otr.lotto.jfr.PoolSwapEvent;
 import com.otr.lotto.mapper.EventMapper;
 import com.otr.lotto.mapper.ParticipantMapper;
+import com.otr.lotto.mapper.PrizeMapper;
 import com.otr.lotto.mapper.SmsLogMapper;
 import com.otr.lotto.mapper.TicketPoolMapper;
+import com.otr.lotto.metrics.LottoMetrics;
+import com.otr.lotto.metrics.PhaseRecorder;
+import com.otr.lotto.retry.TransientLockRetryTemplate;
 import com.otr.lotto.service.ParticipationService;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 로또 이벤트 참여 서비스
@@ -36,19 +44,44 @@ import lombok.RequiredArgsConstructor;
  * - 참여자에게 번호 풀 seq 기반 번호 배정
  * - 지정 휴대폰 1등 보장 (번호 스왑 로직)
  * - SMS 발송 이력 기록
+ * - 연속 산정 모드(lotto.draw.continuous)에서 당첨 번호 배정 시 당첨자 기록
+ * - 단계별 소요 시간 기록 (lotto.phase, operation=participate / JFR com.otr.lotto.Participate, 커밋 포함)
+ * 
+ * 번호 배정 방식 (lotto.participation.assignment-mode):
+ * - swap (기본): 이벤트 조회부터 SMS 이력 기록까지 하나의 트랜잭션
+ * - claim: 참여자/SMS 이력은 autocommit, 번호 잠금 조회 + 배정만 짧은 트랜잭션 (스왑 없음)
+ * 교착 상태/잠금 대기 시간 초과 시 위 트랜잭션만 다시 실행합니다. (claim 모드는 참여자 등록을 반복하지 않음)
+ *   번호를 받지 못한 참여자는 남겨 두고, 같은 휴대폰으로 다시 요청하면 그 참여자로 선점을 이어감
+ * 
+ * 번호 풀 seq는 participant.id로 정하지 않고 미배정 번호를 잠금 조회(SKIP LOCKED)해 정합니다.
+ * (중복 INSERT나 롤백으로 AUTO_INCREMENT 값이 건너뛰어도 배정되지 않고 남는 seq가 없음)
+ * 
+ * 해싱/정원 확인 헬퍼는 JMH 벤치마크(src/jmh)에서 직접 측정할 수 있도록 package-private입니다.
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ParticipationServiceImpl implements ParticipationService {
     private static final int DEFAULT_MAX_PARTICIPANTS = 10_000;
     private static final String SMS_TYPE_PARTICIPATION_NUMBER = "PARTICIPATION_NUMBER";
-    private static final String SMS_STATUS_SENT = "SENT";
+    private static final String OUTCOME_SUCCESS = "SUCCESS";
+    private static final String ASSIGNMENT_MODE_CLAIM = "claim";
 
     private final EventMapper eventMapper;
     private final ParticipantMapper participantMapper;
     private final SmsLogMapper smsLogMapper;
     private final TicketPoolMapper ticketPoolMapper;
+    private final PrizeMapper prizeMapper;
+    private final LottoMetrics lottoMetrics;
     private final com.otr.lotto.common.CurrentDateProvider currentDateProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final TransientLockRetryTemplate transientLockRetryTemplate;
+
+    @Value("${lotto.draw.continuous:false}")
+    private boolean continuousDraw;
+
+    @Value("${lotto.participation.assignment-mode:swap}")
+    private String assignmentMode;
 
     /**
      * 로또 이벤트 참여 처리
@@ -56,31 +89,108 @@ public class ParticipationServiceImpl implements ParticipationService {
      * 1. 현재 활성 이벤트 확인
      * 2. 정원 여부 확인
      * 3. 중복 참여 여부 검사 (휴대폰 번호 기반)
-     * 4. 참여자 정보 등록 (ID는 자동증가 = seq)
-     * 5. 번호 풀 seq 기반 번호 배정
-     * 6. 번호와 참여자 매핑 기록
-     * 7. SMS 발송 이력 저장
+     * 4. 참여자 정보 등록
+     * 5. 미배정 번호 중 seq가 가장 작은 번호를 잠가 배정
+     * 6. 번호와 참여자 매핑 기록 (연속 산정 모드면 당첨자도 기록)
+     * 7. SMS 발송 이력 저장 (PENDING, 실제 발송은 SmsDispatcher가 비동기 처리)
+     * 
+     * swap 모드는 1~7을 한 트랜잭션으로, claim 모드는 5~6만 짧은 트랜잭션으로 실행합니다.
      * 
      * @param request 휴대폰 번호를 포함한 참여 요청
      * @return 참여순번과 배정된 로또 번호
      * @throws ApiException 이벤트 미활성/정원 만석/중복 참여 시
      */
-    @Transactional
     @Override
     public ParticipateResponse participate(ParticipateRequest request) {
+        ParticipateEvent jfrEvent = new ParticipateEvent();
+        jfrEvent.begin();
+        PhaseRecorder phases = lottoMetrics.phases(LottoMetrics.PARTICIPATE);
+        try {
+            boolean claimMode = ASSIGNMENT_MODE_CLAIM.equalsIgnoreCase(assignmentMode);
+            ParticipateResponse response;
+            if (claimMode) {
+                response = doParticipate(request, jfrEvent, phases, true);
+            } else {
+                response = transientLockRetryTemplate.execute(
+                    LottoMetrics.PARTICIPATE,
+                    () -> transactionTemplate.execute(status -> {
+                        phases.mark("begin", jfrEvent::setBegin);
+                        return doParticipate(request, jfrEvent, phases, false);
+                    })
+                );
+                phases.mark("commit", jfrEvent::setCommit);
+            }
+            jfrEvent.setOutcome(OUTCOME_SUCCESS);
+            return response;
+        } catch (ApiException ex) {
+            jfrEvent.setOutcome(ex.getCode());
+            throw ex;
+        } catch (RuntimeException ex) {
+            jfrEvent.setOutcome(ErrorCode.INTERNAL_ERROR.getCode());
+            throw ex;
+        } finally {
+            jfrEvent.commit();
+        }
+    }
+
+    private ParticipateResponse doParticipate(
+        ParticipateRequest request,
+        ParticipateEvent jfrEvent,
+        PhaseRecorder phases,
+        boolean claimMode
+    ) {
         // 현재 활성화된 이벤트 자동 조회
         Event event = eventMapper.findActiveEvent(currentDateProvider.today());
         if (event == null) {
             throw new ApiException(ErrorCode.EVENT_NOT_ACTIVE);
         }
+        jfrEvent.setEventId(event.getId());
         validateCapacity(event);
+        phases.mark("event", jfrEvent::setEventLookup);
 
         String phoneHash = hashPhone(request.getPhone());
+        phases.mark("hash", jfrEvent::setHash);
+
         Participant existing = participantMapper.findByEventAndPhoneHash(event.getId(), phoneHash);
-        if (existing != null) {
+        phases.mark("duplicate_check", jfrEvent::setDuplicateCheck);
+        Participant participant;
+        if (existing == null) {
+            participant = insertParticipant(event, phoneHash);
+        } else if (claimMode && ticketPoolMapper.findByEventAndParticipantId(event.getId(), existing.getId()) == null) {
+            // 이전 요청이 참여자 등록 후 번호 선점에 실패함 → 같은 참여자로 선점 재시도
+            participant = existing;
+        } else {
             throw new ApiException(ErrorCode.DUPLICATE_PARTICIPATION);
         }
+        jfrEvent.setParticipantId(participant.getId());
+        phases.mark("insert", jfrEvent::setInsert);
+
+        String lottoNumber = claimMode
+            ? claimLottoNumber(event, participant, phoneHash, jfrEvent)
+            : assignLottoNumber(event, participant, phoneHash, jfrEvent, phases);
+        phases.mark("assign", jfrEvent::setAssign);
+
+        SmsLog smsLog = new SmsLog();
+        smsLog.setEventId(event.getId());
+        smsLog.setParticipantId(participant.getId());
+        smsLog.setPhoneHash(phoneHash);
+        smsLog.setType(SMS_TYPE_PARTICIPATION_NUMBER);
+        smsLog.setSentDate(currentDateProvider.today());
+        smsLog.setStatus(SmsLog.STATUS_PENDING);
+        if (claimMode) {
+            insertSmsLogAfterClaim(smsLog);
+        } else {
+            smsLogMapper.insert(smsLog);
+        }
+        phases.mark("sms", jfrEvent::setSms);
+
+        return new ParticipateResponse(participant.getId(), lottoNumber);
+    }
 
+    /**
+     * 참여자 등록 (같은 휴대폰의 동시 요청은 UNIQUE 제약으로 중복 참여 처리)
+     */
+    private Participant insertParticipant(Event event, String phoneHash) {
         Participant participant = new Participant();
         participant.setEventId(event.getId());
         participant.setPhoneHash(phoneHash);
@@ -94,30 +204,16 @@ public class ParticipationServiceImpl implements ParticipationService {
         if (participant.getId() == null) {
             throw new ApiException(ErrorCode.INTERNAL_ERROR);
         }
-
-        String lottoNumber = assignLottoNumber(event, participant, phoneHash);
-
-        SmsLog smsLog = new SmsLog();
-        smsLog.setEventId(event.getId());
-        smsLog.setParticipantId(participant.getId());
-        smsLog.setPhoneHash(phoneHash);
-        smsLog.setType(SMS_TYPE_PARTICIPATION_NUMBER);
-        smsLog.setSentDate(currentDateProvider.today());
-        smsLog.setStatus(SMS_STATUS_SENT);
-        smsLogMapper.insert(smsLog);
-
-        return new ParticipateResponse(participant.getId(), lottoNumber);
+        return participant;
     }
 
-
-
     /**
      * 이벤트 정원 여부 확인
      * 
      * @param event 이벤트 정보
      * @throws ApiException 정원이 가득 찬 경우
      */
-    private void validateCapacity(Event event) {
+    void validateCapacity(Event event) {
         long currentCount = participantMapper.countByEvent(event.getId());
         Integer maxParticipants = event.getMaxParticipants();
         int maxParticipantsValue = maxParticipants == null
@@ -132,37 +228,161 @@ public class ParticipationServiceImpl implements ParticipationService {
     /**
      * 참여자에게 번호 배정
      * 
-     * 참여순번(participant.id)을 기준으로 사전 생성된 번호 풀에서
-     * 해당 seq 데이터를 검색하여 배정합니다.
+     * 사전 생성된 번호 풀에서 미배정 번호 중 seq가 가장 작은 번호를 잠가 배정합니다.
+     * (다른 참여자가 잠근 번호는 건너뛰므로 동시 참여자는 서로 다른 seq를 받음)
      * 
      * 지정 휴대폰 1등 보장 처리:
      * - 지정 번호 참여 시 → 미배정 1등 번호 찾아서 현재 번호와 스왑
      * - 지정 번호 아닌데 1등 seq 배정 시 → 비당첨 번호와 스왑
      * 
+     * 스왑은 미배정 번호끼리만 일어나므로 배정된 번호의 rank는 이후 바뀌지 않습니다.
+     * 연속 산정 모드에서는 이 시점에 같은 트랜잭션으로 prize 행을 기록합니다.
+     * 
      * @param event 이벤트 정보
      * @param participant 참여자 정보
      * @param phoneHash 정규화된 휴대폰 번호 해시
+     * @param jfrEvent 참여 JFR 이벤트 (rank, 스왑 시간 기록)
+     * @param phases 단계 기록기 (스왑은 assign과 별도 구간)
      * @return 배정된 로또 번호 (CSV 형태: 3,11,22,33,41,45)
      * @throws ApiException 번호 풀 미준비 또는 배정 실패 시
      */
-    private String assignLottoNumber(Event event, Participant participant, String phoneHash) {
-        TicketPool pool = ticketPoolMapper.findByEventAndSeq(event.getId(), participant.getId());
+    private String assignLottoNumber(
+        Event event,
+        Participant participant,
+        String phoneHash,
+        ParticipateEvent jfrEvent,
+        PhaseRecorder phases
+    ) {
+        TicketPool pool = assignTicket(event, participant, phoneHash, jfrEvent, phases);
+        recordRank(event, participant, pool, jfrEvent);
+        return pool.getLottoNumber();
+    }
+
+    /**
+     * 참여자에게 번호 선점 배정 (claim 모드)
+     * 
+     * 짧은 트랜잭션에서 번호를 잠금 조회한 뒤 바로 배정합니다. (스왑 없음)
+     * - 1등 보장 휴대폰: 미배정 1등 번호 (다른 트랜잭션이 잠그고 있으면 대기)
+     * - 그 외: 1등을 제외한 미배정 번호 중 seq가 가장 작은 번호 (잠긴 번호는 건너뜀)
+     * 
+     * 교착 상태/잠금 대기 시간 초과 시 같은 참여자로 이 트랜잭션만 다시 실행합니다.
+     * 배정에 실패해도 참여자 행은 지우지 않습니다. 같은 휴대폰으로 다시 요청하면
+     * doParticipate가 이 참여자로 선점을 다시 시도합니다.
+     * 
+     * @param event 이벤트 정보
+     * @param participant 참여자 정보 (이미 커밋됨)
+     * @param phoneHash 정규화된 휴대폰 번호 해시
+     * @param jfrEvent 참여 JFR 이벤트 (rank 기록)
+     * @return 배정된 로또 번호
+     * @throws ApiException 배정할 번호가 없거나 같은 참여자의 다른 요청이 먼저 선점한 경우
+     */
+    private String claimLottoNumber(
+        Event event,
+        Participant participant,
+        String phoneHash,
+        ParticipateEvent jfrEvent
+    ) {
+        boolean firstPrize = isFirstPrizePhone(event, phoneHash);
+        TicketPool pool;
+        try {
+            pool = transientLockRetryTemplate.execute(
+                LottoMetrics.PARTICIPATE,
+                () -> transactionTemplate.execute(status -> claimTicket(event, participant, firstPrize, jfrEvent))
+            );
+        } catch (DuplicateKeyException ex) {
+            // uq_ticket_pool_event_participant: 같은 휴대폰의 동시 요청이 먼저 선점함
+            throw new ApiException(ErrorCode.DUPLICATE_PARTICIPATION);
+        }
+        return pool.getLottoNumber();
+    }
+
+    private TicketPool claimTicket(Event event, Participant participant, boolean firstPrize, ParticipateEvent jfrEvent) {
+        TicketPool pool = firstPrize
+            ? ticketPoolMapper.lockUnassignedByRank(event.getId(), 1, false)
+            : ticketPoolMapper.lockNextUnassigned(event.getId(), true);
+        if (pool == null) {
+            throw firstPrize
+                ? new ApiException(ErrorCode.INVALID_REQUEST, "1등 번호가 이미 배정되었습니다.")
+                : noTicketAvailable(event.getId());
+        }
+        if (ticketPoolMapper.assignParticipant(pool.getId(), participant.getId()) != 1) {
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "잠근 번호를 배정하지 못했습니다.");
+        }
+        recordRank(event, participant, pool, jfrEvent);
+        return pool;
+    }
+
+    /**
+     * 번호 선점 후 SMS 발송 이력 기록 (claim 모드)
+     * 
+     * 번호는 이미 배정되었으므로 이력 기록 실패로 참여를 실패시키지 않습니다.
+     * (실패 시 참여 문자가 발송되지 않으므로 로그로 남김)
+     */
+    private void insertSmsLogAfterClaim(SmsLog smsLog) {
+        try {
+            smsLogMapper.insert(smsLog);
+        } catch (RuntimeException ex) {
+            log.warn("참여 SMS 이력 기록 실패 (참여자 {}): {}", smsLog.getParticipantId(), ex.getMessage());
+        }
+    }
+
+    /**
+     * 다음 미배정 번호 잠금 조회 → 필요 시 스왑 → 참여자 배정
+     * 
+     * 번호 행과 스왑 상대 행을 모두 잠가 읽으므로 트랜잭션이 끝날 때까지
+     * 다른 참여자가 두 행의 rank/번호를 바꾸거나 배정하지 못합니다.
+     * 
+     * @return 배정된 번호 풀 항목
+     */
+    private TicketPool assignTicket(
+        Event event,
+        Participant participant,
+        String phoneHash,
+        ParticipateEvent jfrEvent,
+        PhaseRecorder phases
+    ) {
+        TicketPool pool = ticketPoolMapper.lockNextUnassigned(event.getId(), false);
         if (pool == null) {
-            throw new ApiException(ErrorCode.INVALID_REQUEST, "번호 풀이 준비되지 않았습니다.");
+            throw noTicketAvailable(event.getId());
         }
 
+        long swapStartedAt = phases.startNested();
         if (isFirstPrizePhone(event, phoneHash)) {
             pool = ensureFirstPrizeForParticipant(event.getId(), pool);
+            phases.markNested("swap", jfrEvent::setSwap, swapStartedAt);
         } else if (isRankOne(pool)) {
             pool = swapWithNonWinner(event.getId(), pool);
+            phases.markNested("swap", jfrEvent::setSwap, swapStartedAt);
         }
 
         int updated = ticketPoolMapper.assignParticipant(pool.getId(), participant.getId());
         if (updated != 1) {
-            throw new ApiException(ErrorCode.INVALID_REQUEST, "번호 배정에 실패했습니다.");
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "잠근 번호를 배정하지 못했습니다.");
+        }
+        return pool;
+    }
+
+    /**
+     * 잠글 수 있는 미배정 번호가 없을 때의 오류
+     * 
+     * 번호 풀이 비어 있으면 준비 전, 아니면 모든 번호가 배정(또는 배정 중)된 것으로 봅니다.
+     */
+    private ApiException noTicketAvailable(Long eventId) {
+        if (ticketPoolMapper.countByEvent(eventId) == 0) {
+            return new ApiException(ErrorCode.INVALID_REQUEST, "번호 풀이 준비되지 않았습니다.");
         }
+        return new ApiException(ErrorCode.CAPACITY_FULL);
+    }
 
-        return pool.getLottoNumber();
+    /**
+     * 배정된 rank 기록 (JFR, 연속 산정 모드면 prize 행)
+     */
+    private void recordRank(Event event, Participant participant, TicketPool pool, ParticipateEvent jfrEvent) {
+        int rank = normalizeRank(pool.getRank());
+        jfrEvent.setRank(rank);
+        if (continuousDraw && rank >= 1) {
+            prizeMapper.insert(event.getId(), participant.getId(), rank);
+        }
     }
 
     /**
@@ -187,12 +407,12 @@ public class ParticipationServiceImpl implements ParticipationService {
     /**
      * 지정 휴대폰에게 1등 번호 보장
      * 
-     * 현재 seq 번호가 1등이 아닌 경우,
+     * 잠근 번호가 1등이 아닌 경우,
      * 미배정 1등 번호를 찾아 현재 번호와 스왑합니다.
      * 이를 통해 지정 휴대폰은 항상 1등 번호를 받습니다.
      * 
      * @param eventId 이벤트 ID
-     * @param seqPool 현재 seq의 번호 풀 정보
+     * @param seqPool 잠근 번호 풀 정보
      * @return 1등 번호로 변경된 풀 정보
      * @throws ApiException 1등 번호가 모두 배정된 경우
      */
@@ -201,12 +421,7 @@ public class ParticipationServiceImpl implements ParticipationService {
             return seqPool;
         }
 
-        TicketPool firstPrizePool = ticketPoolMapper.findUnassignedByRank(eventId, 1);
-        if (firstPrizePool == null) {
-            throw new ApiException(ErrorCode.INVALID_REQUEST, "1등 번호가 이미 배정되었습니다.");
-        }
-
-        swapPoolEntries(seqPool, firstPrizePool);
+        swapWithUnassigned(eventId, seqPool, 1, "1등 번호가 이미 배정되었습니다.");
         return seqPool;
     }
 
@@ -223,23 +438,38 @@ public class ParticipationServiceImpl implements ParticipationService {
      * @throws ApiException 비당첨 번호가 없는 경우
      */
     private TicketPool swapWithNonWinner(Long eventId, TicketPool seqPool) {
-        TicketPool nonWinner = ticketPoolMapper.findUnassignedByRank(eventId, 0);
-        if (nonWinner == null) {
-            throw new ApiException(ErrorCode.INVALID_REQUEST, "번호 배정 가능 데이터가 없습니다.");
-        }
-
-        swapPoolEntries(seqPool, nonWinner);
+        swapWithUnassigned(eventId, seqPool, 0, "번호 배정 가능 데이터가 없습니다.");
         return seqPool;
     }
 
+    /**
+     * 특정 rank의 미배정 번호와 스왑
+     * 
+     * 스왑 상대도 잠금 조회(현재 커밋 값)로 고르므로, 고른 뒤에 다른 참여자가 배정하거나 바꿀 수 없습니다.
+     * 1등은 한 건뿐이라 다른 트랜잭션이 잠그고 있으면 기다리고, 그 외 rank는 잠긴 행을 건너뜁니다.
+     * 
+     * @param eventId 이벤트 ID
+     * @param seqPool 잠근 번호 풀 정보
+     * @param partnerRank 스왑 상대 rank
+     * @param notFoundMessage 미배정 상대가 없을 때 오류 메시지
+     * @throws ApiException 미배정 상대가 없는 경우
+     */
+    private void swapWithUnassigned(Long eventId, TicketPool seqPool, int partnerRank, String notFoundMessage) {
+        TicketPool partner = ticketPoolMapper.lockUnassignedByRank(eventId, partnerRank, partnerRank != 1);
+        if (partner == null) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST, notFoundMessage);
+        }
+        swapPoolEntries(seqPool, partner);
+    }
+
     /**
      * 번호 풀 항목 스왑
      * 
      * 두 ticket_pool 항목의 rank와 lotto_number를 서로 교환합니다.
      * 데이터베이스와 메모리의 객체 상태를 모두 업데이트합니다.
      * 
-     * @param left 변경할 풀 항목 1
-     * @param right 변경할 풀 항목 2
+     * @param left 변경할 풀 항목 1 (참여자가 잠근 번호)
+     * @param right 변경할 풀 항목 2 (잠근 스왑 상대)
      */
     private void swapPoolEntries(TicketPool left, TicketPool right) {
         int leftRank = normalizeRank(left.getRank());
@@ -247,8 +477,20 @@ public class ParticipationServiceImpl implements ParticipationService {
         String leftNumber = left.getLottoNumber();
         String rightNumber = right.getLottoNumber();
 
-        ticketPoolMapper.updateRankAndNumber(left.getId(), rightRank, rightNumber);
-        ticketPoolMapper.updateRankAndNumber(right.getId(), leftRank, leftNumber);
+        PoolSwapEvent jfrEvent = new PoolSwapEvent();
+        jfrEvent.begin();
+        if (ticketPoolMapper.updateRankAndNumber(left.getId(), rightRank, rightNumber) != 1
+            || ticketPoolMapper.updateRankAndNumber(right.getId(), leftRank, leftNumber) != 1) {
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "잠근 번호를 스왑하지 못했습니다.");
+        }
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.setEventId(left.getEventId() == null ? 0L : left.getEventId());
+            jfrEvent.setSeqPoolId(left.getId());
+            jfrEvent.setOtherPoolId(right.getId());
+            jfrEvent.setFromRank(leftRank);
+            jfrEvent.setToRank(rightRank);
+            jfrEvent.commit();
+        }
 
         left.setRank(rightRank);
         left.setLottoNumber(rightNumber);
@@ -286,7 +528,7 @@ public class ParticipationServiceImpl implements ParticipationService {
      * @param phone 원본 휴대폰 번호 (형식 무관)
      * @return SHA256 해시값 (16진수 문자열)
      */
-    private String hashPhone(String phone) {
+    String hashPhone(String phone) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             String normalized = normalizePhone(phone);
@@ -306,7 +548,7 @@ public class ParticipationServiceImpl implements ParticipationService {
      * @param phone 원본 휴대폰 번호
      * @return 정규화된 번호 (숫자만)
      */
-    private String normalizePhone(String phone) {
+    String normalizePhone(String phone) {
         if (phone == null) {
             return "";
         }
@@ -319,7 +561,7 @@ public class ParticipationServiceImpl implements ParticipationService {
      * @param bytes 바이트 배열
      * @return 16진수 문자열
      */
-    private String toHex(byte[] bytes) {
+    String toHex(byte[] bytes) {
         StringBuilder builder = new StringBuilder(bytes.length * 2);
         for (byte b : bytes) {
             builder.append(String.format("%02x", b));
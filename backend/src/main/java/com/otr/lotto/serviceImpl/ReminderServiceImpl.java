@@ -1,40 +1,73 @@
 package com.otr.lotto.serviceImpl;
 
 import java.time.LocalDate;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.otr.lotto.common.ApiException;
 import com.otr.lotto.common.ErrorCode;
 import com.otr.lotto.domain.Event;
-import com.otr.lotto.domain.Participant;
-import com.otr.lotto.domain.Prize;
+import com.otr.lotto.domain.ReminderCheckpoint;
+import com.otr.lotto.domain.ReminderTarget;
 import com.otr.lotto.domain.SmsLog;
+import com.otr.lotto.dto.ConfirmationRateResponse;
 import com.otr.lotto.dto.ReminderResponse;
+import com.otr.lotto.jfr.ReminderBatchEvent;
 import com.otr.lotto.mapper.EventMapper;
-import com.otr.lotto.mapper.ParticipantMapper;
 import com.otr.lotto.mapper.PrizeMapper;
+import com.otr.lotto.mapper.ReminderCheckpointMapper;
 import com.otr.lotto.mapper.SmsLogMapper;
+import com.otr.lotto.mapper.UnconfirmedWinnerMapper;
 import com.otr.lotto.service.ReminderService;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 미확인 당첨자 알림 서비스
+ * 
+ * 발표일로부터 10일이 지난 이벤트의 미확인 당첨자에게
+ * 알림 발송 이력을 기록합니다.
+ * 
+ * 특징:
+ * - 발송 대상은 미확인 당첨자 집합(unconfirmed_winner)에서 조회 (오늘 이미 발송된 대상 제외)
+ * - 미확인 당첨자 집합은 당첨 산정 시 생성되고 첫 조회 시 줄어들므로 남은 행만 읽음
+ * - participant_id keyset 기준 청크 단위로 처리, 청크마다 별도 트랜잭션으로 커밋
+ * - 청크 커밋 시 reminder_checkpoint에 진행 위치 기록 → 중단 후 재실행 시 이어서 처리
+ * - 발송 이력은 다건 INSERT IGNORE로 기록 (uq_sms_dedup으로 중복 방지)
+ * - 실제 발송은 SmsDispatcher가 트랜잭션 밖에서 비동기로 처리
+ */
 @Service
 @RequiredArgsConstructor
 public class ReminderServiceImpl implements ReminderService {
+    private static final String SMS_TYPE_UNCONFIRMED_WINNER_REMINDER = "UNCONFIRMED_WINNER_REMINDER";
 
     private final EventMapper eventMapper;
     private final PrizeMapper prizeMapper;
-    private final ParticipantMapper participantMapper;
     private final SmsLogMapper smsLogMapper;
+    private final UnconfirmedWinnerMapper unconfirmedWinnerMapper;
+    private final ReminderCheckpointMapper reminderCheckpointMapper;
+    private final TransactionTemplate transactionTemplate;
     private final com.otr.lotto.common.CurrentDateProvider currentDateProvider;
 
+    @Value("${lotto.reminder.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 미확인 당첨자 안내 발송
+     * 
+     * 전체를 하나의 트랜잭션으로 묶지 않고, 청크(lotto.reminder.chunk-size)마다
+     * 발송 이력 기록과 체크포인트 갱신을 함께 커밋합니다.
+     * 실패 시 이미 커밋된 청크는 유지되고, 다시 호출하면 체크포인트 다음부터 처리합니다.
+     * 
+     * @param eventId 이벤트 ID
+     * @return 안내 발송 결과 (remindersSent는 이번 호출에서 기록한 수)
+     */
     @Override
-    @Transactional
     public ReminderResponse sendUnconfirmedWinnerReminders(Long eventId) {
         // 1. Event 조회
         Event event = eventMapper.findById(eventId);
@@ -51,62 +84,108 @@ public class ReminderServiceImpl implements ReminderService {
             throw new ApiException(ErrorCode.INVALID_REQUEST);
         }
 
-        // 3. 미확인 당첨자 조회 (check_count = 0)
-        List<Prize> unconfirmedWinners = prizeMapper.findUnconfirmedWinners(eventId);
+        // 3. 미확인 당첨자 수
+        long totalUnconfirmedWinners = unconfirmedWinnerMapper.countByEvent(eventId);
 
-        // 4. 중복 발송 방지: 오늘 이미 발송된 대상자 확인
-        List<SmsLog> existingReminders = smsLogMapper.findExistingReminders(
-            eventId, 
-            today, 
-            "UNCONFIRMED_WINNER_REMINDER"
-        );
+        // 4. 오늘 진행 위치 확인 (없으면 생성)
+        reminderCheckpointMapper.insertIgnore(eventId, today);
+        ReminderCheckpoint checkpoint = reminderCheckpointMapper.find(eventId, today);
 
-        Set<Long> alreadySentParticipantIds = new HashSet<>();
-        for (SmsLog log : existingReminders) {
-            alreadySentParticipantIds.add(log.getParticipantId());
-        }
-
-        // 5. SMS 발송 대상 필터링 및 발송
+        // 5. 청크 단위 발송 이력 기록 (청크마다 커밋)
         int sentCount = 0;
-        int failedCount = 0;
-
-        for (Prize prize : unconfirmedWinners) {
-            Long participantId = prize.getParticipantId();
-
-            // 이미 오늘 발송된 경우 스킵
-            if (alreadySentParticipantIds.contains(participantId)) {
-                continue;
+        if (!ReminderCheckpoint.STATUS_COMPLETED.equals(checkpoint.getStatus())) {
+            int limit = Math.max(1, chunkSize);
+            long afterParticipantId = checkpoint.getLastParticipantId() == null ? 0L : checkpoint.getLastParticipantId();
+            while (true) {
+                List<ReminderTarget> targets = unconfirmedWinnerMapper.findReminderTargets(
+                    eventId,
+                    today,
+                    SMS_TYPE_UNCONFIRMED_WINNER_REMINDER,
+                    afterParticipantId,
+                    limit
+                );
+                if (targets.isEmpty()) {
+                    break;
+                }
+
+                sentCount += writeChunk(eventId, today, targets);
+                afterParticipantId = targets.get(targets.size() - 1).getParticipantId();
+
+                if (targets.size() < limit) {
+                    break;
+                }
             }
-
-            // Participant 정보 조회 (phone_hash 필요)
-            Participant participant = participantMapper.findById(participantId);
-
-            if (participant == null) {
-                failedCount++;
-                continue;
-            }
-
-            // SMS 발송 (실제로는 모킹)
-            SmsLog smsLog = new SmsLog();
-            smsLog.setEventId(eventId);
-            smsLog.setParticipantId(participantId);
-            smsLog.setPhoneHash(participant.getPhoneHash());
-            smsLog.setType("UNCONFIRMED_WINNER_REMINDER");
-            smsLog.setSentDate(today);
-            smsLog.setStatus("SENT");
-
-            smsLogMapper.insert(smsLog);
-            sentCount++;
+            reminderCheckpointMapper.complete(eventId, today);
         }
 
         // 6. 결과 반환
         ReminderResponse response = new ReminderResponse();
         response.setEventId(eventId);
         response.setTargetDate(targetDate);
-        response.setTotalUnconfirmedWinners(unconfirmedWinners.size());
+        response.setTotalUnconfirmedWinners((int) totalUnconfirmedWinners);
         response.setRemindersSent(sentCount);
-        response.setRemindersFailed(failedCount);
+        response.setRemindersFailed(0);
+
+        return response;
+    }
 
+    @Transactional(readOnly = true)
+    @Override
+    public ConfirmationRateResponse getConfirmationRate(Long eventId) {
+        Event event = eventMapper.findById(eventId);
+        if (event == null) {
+            throw new ApiException(ErrorCode.NOT_FOUND);
+        }
+
+        long totalWinners = prizeMapper.countByEvent(eventId);
+        long unconfirmedWinners = unconfirmedWinnerMapper.countByEvent(eventId);
+        long confirmedWinners = Math.max(0L, totalWinners - unconfirmedWinners);
+
+        ConfirmationRateResponse response = new ConfirmationRateResponse();
+        response.setEventId(eventId);
+        response.setTotalWinners(totalWinners);
+        response.setConfirmedWinners(confirmedWinners);
+        response.setUnconfirmedWinners(unconfirmedWinners);
+        response.setConfirmationRate(totalWinners == 0 ? 0.0 : (double) confirmedWinners / totalWinners);
         return response;
     }
+
+    /**
+     * 청크 1개 기록 (발송 이력 + 체크포인트를 한 트랜잭션으로 커밋)
+     * 
+     * 커밋까지의 시간을 JFR 이벤트(com.otr.lotto.ReminderBatch)로 남깁니다.
+     * 
+     * @return 실제 기록된 발송 이력 수
+     */
+    private int writeChunk(Long eventId, LocalDate today, List<ReminderTarget> targets) {
+        List<SmsLog> smsLogs = new ArrayList<>(targets.size());
+        for (ReminderTarget target : targets) {
+            SmsLog smsLog = new SmsLog();
+            smsLog.setEventId(eventId);
+            smsLog.setParticipantId(target.getParticipantId());
+            smsLog.setPhoneHash(target.getPhoneHash());
+            smsLog.setType(SMS_TYPE_UNCONFIRMED_WINNER_REMINDER);
+            smsLog.setSentDate(today);
+            smsLog.setStatus(SmsLog.STATUS_PENDING);
+            smsLogs.add(smsLog);
+        }
+        Long lastParticipantId = targets.get(targets.size() - 1).getParticipantId();
+
+        ReminderBatchEvent jfrEvent = new ReminderBatchEvent();
+        jfrEvent.begin();
+        Integer inserted = transactionTemplate.execute(status -> {
+            int count = smsLogMapper.insertIgnoreBatch(smsLogs);
+            reminderCheckpointMapper.advance(eventId, today, lastParticipantId, count);
+            return count;
+        });
+        int insertedCount = inserted == null ? 0 : inserted;
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.setEventId(eventId);
+            jfrEvent.setTargets(targets.size());
+            jfrEvent.setInserted(insertedCount);
+            jfrEvent.setLastParticipantId(lastParticipantId);
+            jfrEvent.commit();
+        }
+        return insertedCount;
+    }
 }
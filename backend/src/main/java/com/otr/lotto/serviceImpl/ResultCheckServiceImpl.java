@@ -6,8 +6,8 @@ import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.otr.lotto.buffer.CheckCountBuffer;
 import com.otr.lotto.common.ApiException;
 import com.otr.lotto.common.ErrorCode;
 import com.otr.lotto.domain.Event;
@@ -15,9 +15,18 @@ import com.otr.lotto.domain.Participant;
 import com.otr.lotto.domain.Prize;
 import com.otr.lotto.dto.ResultCheckRequest;
 import com.otr.lotto.dto.ResultCheckResponse;
+import com.otr.lotto.index.ParticipantBitmap;
+import com.otr.lotto.index.ResultIndex;
+import com.otr.lotto.index.ResultIndexRegistry;
+import com.otr.lotto.index.WinnerBitmapRegistry;
+import com.otr.lotto.jfr.ResultCheckEvent;
 import com.otr.lotto.mapper.EventMapper;
 import com.otr.lotto.mapper.ParticipantMapper;
 import com.otr.lotto.mapper.PrizeMapper;
+import com.otr.lotto.mapper.UnconfirmedWinnerMapper;
+import com.otr.lotto.metrics.LottoMetrics;
+import com.otr.lotto.metrics.PhaseRecorder;
+import com.otr.lotto.retry.TransientLockRetryTemplate;
 import com.otr.lotto.service.ResultCheckService;
 
 import lombok.RequiredArgsConstructor;
@@ -31,17 +40,30 @@ import lombok.RequiredArgsConstructor;
  * - 활성 발표 기간(announceStart ~ announceEnd)에만 조회 가능
  * - 첫 조회: rank 반환 (1~4 또는 null)
  * - 재조회: isWinner 반환 (true/false)
- * - 조회 횟수와 시간 기록
+ * - 조회 횟수와 시간 기록 (write-behind 버퍼에 누적 후 일괄 반영)
  * - 휴대폰 번호는 정규화(숫자만) 후 SHA256 해싱
+ * - 당첨 산정이 끝난 이벤트는 결과 조회 인덱스(메모리)에서 참여자/당첨 정보 확인
+ * - 재조회의 당첨 여부는 당첨자 비트맵으로 판단
+ * - 당첨자의 첫 조회 시 미확인 당첨자 집합(unconfirmed_winner)에서 제거
+ *   (조회 횟수가 이미 버퍼에 기록된 뒤이므로 조회 전체가 아닌 이 DELETE 1건만 잠금 실패 시 재시도)
+ * - 단계별 소요 시간 기록 (lotto.phase, operation=check / JFR com.otr.lotto.ResultCheck)
+ * - 트랜잭션 없이 실행 (복제본 라우팅 사용 시 이벤트/참여자/당첨 조회는 복제본에서 처리)
  */
 @Service
 @RequiredArgsConstructor
 public class ResultCheckServiceImpl implements ResultCheckService {
+    private static final String OUTCOME_SUCCESS = "SUCCESS";
 
     private final EventMapper eventMapper;
     private final ParticipantMapper participantMapper;
     private final PrizeMapper prizeMapper;
+    private final UnconfirmedWinnerMapper unconfirmedWinnerMapper;
+    private final ResultIndexRegistry resultIndexRegistry;
+    private final WinnerBitmapRegistry winnerBitmapRegistry;
+    private final CheckCountBuffer checkCountBuffer;
+    private final LottoMetrics lottoMetrics;
     private final com.otr.lotto.common.CurrentDateProvider currentDateProvider;
+    private final TransientLockRetryTemplate transientLockRetryTemplate;
 
     /**
      * 당첨 결과 조회
@@ -56,43 +78,117 @@ public class ResultCheckServiceImpl implements ResultCheckService {
      * @return 조회 결과 (rank 또는 isWinner, 조회 횟수)
      * @throws ApiException 발표 기간 미활성, 참여자 미조회, 기타 오류
      */
-    @Transactional
     @Override
     public ResultCheckResponse check(ResultCheckRequest request) {
+        ResultCheckEvent jfrEvent = new ResultCheckEvent();
+        jfrEvent.begin();
+        try {
+            ResultCheckResponse response = doCheck(request, jfrEvent);
+            jfrEvent.setOutcome(OUTCOME_SUCCESS);
+            return response;
+        } catch (ApiException ex) {
+            jfrEvent.setOutcome(ex.getCode());
+            throw ex;
+        } catch (RuntimeException ex) {
+            jfrEvent.setOutcome(ErrorCode.INTERNAL_ERROR.getCode());
+            throw ex;
+        } finally {
+            jfrEvent.commit();
+        }
+    }
+
+    private ResultCheckResponse doCheck(ResultCheckRequest request, ResultCheckEvent jfrEvent) {
+        PhaseRecorder phases = lottoMetrics.phases(LottoMetrics.CHECK);
+
         // 현재 발표 기간에 해당하는 이벤트 자동 조회
         Event event = eventMapper.findActiveAnnounceEvent(currentDateProvider.today());
         if (event == null) {
             throw new ApiException(ErrorCode.ANNOUNCE_NOT_ACTIVE);
         }
+        jfrEvent.setEventId(event.getId());
+        phases.mark("event", jfrEvent::setEventLookup);
 
         String phoneHash = hashPhone(request.getPhone());
-        Participant participant = participantMapper.findByEventAndPhoneHash(event.getId(), phoneHash);
-        if (participant == null) {
-            throw new ApiException(ErrorCode.NOT_FOUND);
-        }
+        phases.mark("hash", jfrEvent::setHash);
 
-        Integer storedCount = participant.getCheckCount();
-        int currentCount = storedCount == null ? 0 : storedCount;
-        Prize prize = prizeMapper.findByEventAndParticipantId(event.getId(), participant.getId());
-        boolean isWinner = prize != null;
+        Long participantId;
+        Integer storedCount;
+
+        ResultIndex index = resultIndexRegistry.get(event.getId());
+        int slot = index != null ? index.find(phoneHash) : ResultIndex.NOT_FOUND;
+        if (slot != ResultIndex.NOT_FOUND) {
+            // 인덱스 적중: 참여자 정보는 메모리에서 확인
+            participantId = index.participantIdAt(slot);
+            storedCount = null;
+        } else {
+            // 인덱스 미생성/미적중: DB에서 참여자 조회
+            Participant participant = participantMapper.findByEventAndPhoneHash(event.getId(), phoneHash);
+            if (participant == null) {
+                throw new ApiException(ErrorCode.NOT_FOUND);
+            }
+            participantId = participant.getId();
+            storedCount = participant.getCheckCount();
+        }
+        jfrEvent.setParticipantId(participantId);
+        jfrEvent.setIndexHit(slot != ResultIndex.NOT_FOUND);
+        phases.mark("lookup", jfrEvent::setLookup);
 
         LocalDateTime checkedAt = LocalDateTime.now();
-        participantMapper.updateCheckCountAndTimestamps(event.getId(), participant.getId(), checkedAt);
+        int currentCount = checkCountBuffer.record(event.getId(), participantId, storedCount, checkedAt);
+        phases.mark("record", jfrEvent::setRecord);
 
         ResultCheckResponse response = new ResultCheckResponse();
         response.setCheckCount(currentCount + 1);
 
         if (currentCount == 0) {
-            Integer rank = prize != null ? prize.getRank() : null;
+            Integer rank = findRank(event.getId(), participantId, index, slot);
+            if (rank != null) {
+                transientLockRetryTemplate.execute(
+                    LottoMetrics.CHECK,
+                    () -> unconfirmedWinnerMapper.delete(event.getId(), participantId)
+                );
+                jfrEvent.setRank(rank);
+            }
+            jfrEvent.setFirstCheck(true);
             response.setRank(rank);
         } else {
-            response.setIsWinner(isWinner);
+            response.setIsWinner(isWinner(event.getId(), participantId, index, slot));
         }
+        phases.mark("result", jfrEvent::setResult);
 
         return response;
     }
 
+    /**
+     * 당첨 순위 조회 (첫 조회용)
+     * 
+     * 결과 조회 인덱스에 있으면 메모리에서, 없으면 prize 테이블에서 조회합니다.
+     * 
+     * @return 순위 (1~4, 비당첨이면 null)
+     */
+    private Integer findRank(Long eventId, Long participantId, ResultIndex index, int slot) {
+        if (slot != ResultIndex.NOT_FOUND) {
+            int indexedRank = index.rankAt(slot);
+            return indexedRank > 0 ? indexedRank : null;
+        }
+        Prize prize = prizeMapper.findByEventAndParticipantId(eventId, participantId);
+        return prize != null ? prize.getRank() : null;
+    }
 
+    /**
+     * 당첨 여부 조회 (재조회용)
+     * 
+     * 당첨자 비트맵이 있으면 prize 행을 읽지 않고 판단합니다.
+     * 
+     * @return 당첨 여부
+     */
+    private boolean isWinner(Long eventId, Long participantId, ResultIndex index, int slot) {
+        ParticipantBitmap winners = winnerBitmapRegistry.get(eventId);
+        if (winners != null) {
+            return winners.contains(participantId);
+        }
+        return findRank(eventId, participantId, index, slot) != null;
+    }
 
     /**
      * 휴대폰 번호 해싱
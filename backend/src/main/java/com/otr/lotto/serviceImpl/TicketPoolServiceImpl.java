@@ -32,6 +32,8 @@ import lombok.RequiredArgsConstructor;
  * - rank 배분: 1등(1명), 2등(5명, seq 2000~7000), 3등(44명, seq 1000~8000), 4등(950명)
  * - 각 rank에 맞는 로또 번호 생성 (당첨번호 일치 개수 기준)
  * - 구간 제한 로직: 2등/3등은 특정 seq 범위에서만 생성
+ * 
+ * 번호 생성 헬퍼는 JMH 벤치마크(src/jmh)에서 직접 측정할 수 있도록 package-private입니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -131,7 +133,7 @@ public class TicketPoolServiceImpl implements TicketPoolService {
      * @return 선택된 seq 집합
      * @throws ApiException 범위 내 선택 가능 개수 부족 시
      */
-    private Set<Long> pickRandomSeqs(long start, long end, int count, Set<Long> exclude) {
+    Set<Long> pickRandomSeqs(long start, long end, int count, Set<Long> exclude) {
         List<Long> candidates = new ArrayList<>();
         for (long seq = start; seq <= end; seq++) {
             if (!exclude.contains(seq)) {
@@ -193,7 +195,7 @@ public class TicketPoolServiceImpl implements TicketPoolService {
      * @return 파싱된 당첨 번호 리스트
      * @throws ApiException 검증 실패 시
      */
-    private List<Integer> parseWinningNumbers(String value) {
+    List<Integer> parseWinningNumbers(String value) {
         if (value == null || value.trim().isEmpty()) {
             throw new ApiException(ErrorCode.INVALID_REQUEST, "이벤트 당첨 번호가 설정되지 않았습니다.");
         }
@@ -235,7 +237,7 @@ public class TicketPoolServiceImpl implements TicketPoolService {
      * @param rank 순위
      * @return 생성된 로또 번호 (CSV 형식)
      */
-    private String generateNumberForRank(List<Integer> winningNumbers, int rank) {
+    String generateNumberForRank(List<Integer> winningNumbers, int rank) {
         return switch (rank) {
             case 1 -> formatNumbers(winningNumbers);
             case 2 -> generateVariantNumbers(winningNumbers, 5);
@@ -255,7 +257,7 @@ public class TicketPoolServiceImpl implements TicketPoolService {
      * @param matchCount 일치시킬 개수 (2, 3, 4, 5)
      * @return 생성된 로또 번호 (CSV 형식)
      */
-    private String generateVariantNumbers(List<Integer> winningNumbers, int matchCount) {
+    String generateVariantNumbers(List<Integer> winningNumbers, int matchCount) {
         List<Integer> winningPool = new ArrayList<>(winningNumbers);
         Collections.shuffle(winningPool);
         List<Integer> matches = new ArrayList<>(winningPool.subList(0, matchCount));
@@ -288,7 +290,7 @@ public class TicketPoolServiceImpl implements TicketPoolService {
      * @return 생성된 로또 번호 (CSV 형식)
      * @throws ApiException 1000번 시도 후에도 실패 시
      */
-    private String generateNonWinningNumbers(List<Integer> winningNumbers, int maxMatch) {
+    String generateNonWinningNumbers(List<Integer> winningNumbers, int maxMatch) {
         for (int attempt = 0; attempt < 1000; attempt++) {
             List<Integer> numbers = generateRandomNumbers();
             if (countMatchingNumbers(winningNumbers, numbers) <= maxMatch) {
@@ -345,7 +347,7 @@ public class TicketPoolServiceImpl implements TicketPoolService {
      * @param numbers 번호 리스트
      * @return CSV 형식의 번호 문자열
      */
-    private String formatNumbers(List<Integer> numbers) {
+    String formatNumbers(List<Integer> numbers) {
         List<Integer> sorted = new ArrayList<>(numbers);
         Collections.sort(sorted);
         StringBuilder builder = new StringBuilder();
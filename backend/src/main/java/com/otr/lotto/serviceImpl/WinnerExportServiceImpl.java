@@ -0,0 +1,164 @@
+package com.otr.lotto.serviceImpl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.otr.lotto.buffer.CheckCountBuffer;
+import com.otr.lotto.common.ApiException;
+import com.otr.lotto.common.ErrorCode;
+import com.otr.lotto.domain.Event;
+import com.otr.lotto.domain.WinnerExportRow;
+import com.otr.lotto.dto.WinnerExportFormat;
+import com.otr.lotto.mapper.EventMapper;
+import com.otr.lotto.mapper.PrizeMapper;
+import com.otr.lotto.service.WinnerExportService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 당첨자 목록 내보내기 서비스
+ * 
+ * prize JOIN participant JOIN ticket_pool 결과를 MyBatis ResultHandler로
+ * 한 행씩 받아 응답 스트림에 바로 씁니다.
+ * 
+ * 특징:
+ * - 조회 결과를 목록으로 모으지 않음 (당첨자 수와 무관하게 일정한 메모리 사용)
+ * - fetchSize 단위로 DB에서 읽음 (PrizeMapper.streamWinners)
+ * - CSV: 헤더 1행 + 당첨자 행, NDJSON: 당첨자 1명당 JSON 1줄
+ * - 당첨 산정이 확정된(drawn_at 존재) 이벤트만 내보냄
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WinnerExportServiceImpl implements WinnerExportService {
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER =
+        "participant_id,rank,lotto_number,phone_hash,check_count,first_checked_at,last_checked_at";
+
+    private final EventMapper eventMapper;
+    private final PrizeMapper prizeMapper;
+    private final CheckCountBuffer checkCountBuffer;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public StreamingResponseBody exportWinners(Long eventId, WinnerExportFormat format) {
+        Event event = eventMapper.findById(eventId);
+        if (event == null) {
+            throw new ApiException(ErrorCode.NOT_FOUND);
+        }
+        if (event.getDrawnAt() == null) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST, "당첨 산정이 확정되지 않았습니다.");
+        }
+
+        return outputStream -> {
+            // 조회 횟수가 최신 값으로 나가도록 메모리 누적분 먼저 반영
+            checkCountBuffer.flush();
+
+            Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            if (format == WinnerExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            RowWriter rowWriter = new RowWriter(writer, format);
+            try {
+                prizeMapper.streamWinners(eventId, rowWriter);
+            } catch (UncheckedIOException e) {
+                // 클라이언트 연결 종료 등 출력 실패 → 조회 중단
+                log.warn("이벤트 {} 당첨자 내보내기 중단 ({}행 출력): {}", eventId, rowWriter.count, e.getMessage());
+                throw e.getCause();
+            }
+            writer.flush();
+            log.info("이벤트 {} 당첨자 내보내기 완료: {}행 ({})", eventId, rowWriter.count, format);
+        };
+    }
+
+    /**
+     * 당첨자 1행씩 출력하는 ResultHandler
+     */
+    private final class RowWriter implements ResultHandler<WinnerExportRow> {
+        private final Writer writer;
+        private final WinnerExportFormat format;
+        private long count;
+
+        private RowWriter(Writer writer, WinnerExportFormat format) {
+            this.writer = writer;
+            this.format = format;
+        }
+
+        @Override
+        public void handleResult(ResultContext<? extends WinnerExportRow> context) {
+            WinnerExportRow row = context.getResultObject();
+            try {
+                if (format == WinnerExportFormat.CSV) {
+                    writeCsv(row);
+                } else {
+                    writeJson(row);
+                }
+                writer.write('\n');
+                count++;
+            } catch (IOException e) {
+                context.stop();
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeCsv(WinnerExportRow row) throws IOException {
+            writer.write(String.valueOf(row.getParticipantId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getRank()));
+            writer.write(',');
+            writer.write(csvField(row.getLottoNumber()));
+            writer.write(',');
+            writer.write(csvField(row.getPhoneHash()));
+            writer.write(',');
+            writer.write(row.getCheckCount() == null ? "0" : String.valueOf(row.getCheckCount()));
+            writer.write(',');
+            writer.write(dateField(row.getFirstCheckedAt()));
+            writer.write(',');
+            writer.write(dateField(row.getLastCheckedAt()));
+        }
+
+        private void writeJson(WinnerExportRow row) throws IOException {
+            try {
+                writer.write(objectMapper.writeValueAsString(row));
+            } catch (JsonProcessingException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * CSV 필드 이스케이프
+     * 
+     * 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감쌉니다.
+     * (로또 번호는 "3,11,22,33,41,45" 형태이므로 항상 감싸짐)
+     */
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String dateField(LocalDateTime value) {
+        return value == null ? "" : value.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.otr.lotto.sms;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 스텁 SMS 발송기
+ * 
+ * 실제 외부 연동 없이 로그만 남깁니다. (lotto.sms.provider=local, 기본값)
+ * lotto.sms.local-latency-ms로 배치당 발송 지연을 흉내낼 수 있습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "lotto.sms", name = "provider", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class LocalSmsSender implements SmsSender {
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final SmsProperties smsProperties;
+
+    @Override
+    public String getProvider() {
+        return "local";
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    @Override
+    public void send(List<SmsMessage> messages) {
+        long latencyMs = smsProperties.getLocalLatencyMs();
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("SMS 발송 중단", e);
+            }
+        }
+        log.debug("SMS 발송(mock): {}건", messages.size());
+    }
+}
@@ -0,0 +1,299 @@
+package com.otr.lotto.sms;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.otr.lotto.domain.SmsLog;
+import com.otr.lotto.dto.SmsDispatchStatsResponse;
+import com.otr.lotto.mapper.SmsLogMapper;
+import com.otr.lotto.service.JobLeaseService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SMS 비동기 발송기
+ * 
+ * sms_log를 발송 대기열(outbox)로 사용합니다.
+ * 참여/알림 처리는 트랜잭션 안에서 PENDING 행만 기록하고,
+ * 이 컴포넌트가 별도 스레드에서 SmsSender로 발송한 뒤 상태를 갱신합니다.
+ * 
+ * 동작:
+ * - 주기적으로(lotto.sms.poll-interval-ms) 발송 가능한 PENDING 행을 배치 단위로 가져감
+ * - 가져간 행은 next_attempt_at을 lease 만료 시각으로 미뤄 중복 발송 방지
+ *   (노드가 죽어 결과가 기록되지 않으면 lease 만료 후 다시 발송 대상)
+ * - 발송 대상 선점은 노드 간 lease(sms:claim)를 잡은 상태에서만 수행 (다중 노드 중복 발송 방지)
+ * - 동시에 발송 중인 배치 수는 lotto.sms.max-concurrency 이하로 제한
+ * - 성공 → SENT, 실패 → 지수 백오프(+지터) 후 재시도, 최대 시도 초과 → FAILED
+ * 
+ * 발송 업체 지연은 이 컴포넌트의 스레드에서만 발생하므로
+ * 요청 스레드나 DB 트랜잭션 시간에 영향을 주지 않습니다.
+ */
+@Component
+@Slf4j
+public class SmsDispatcher {
+    private static final int MAX_ERROR_LENGTH = 255;
+    private static final String CLAIM_LEASE_KEY = "sms:claim";
+    private static final Duration CLAIM_LEASE_TTL = Duration.ofSeconds(30);
+
+    private final SmsLogMapper smsLogMapper;
+    private final SmsSender smsSender;
+    private final SmsProperties smsProperties;
+    private final JobLeaseService jobLeaseService;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int batchSize;
+
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder retriedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder totalBatchLatencyMs = new LongAdder();
+    private final AtomicLong maxBatchLatencyMs = new AtomicLong();
+
+    public SmsDispatcher(
+            SmsLogMapper smsLogMapper,
+            SmsSender smsSender,
+            SmsProperties smsProperties,
+            JobLeaseService jobLeaseService) {
+        this.smsLogMapper = smsLogMapper;
+        this.smsSender = smsSender;
+        this.smsProperties = smsProperties;
+        this.jobLeaseService = jobLeaseService;
+
+        int concurrency = Math.max(1, smsProperties.getMaxConcurrency());
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "sms-dispatch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.permits = new Semaphore(concurrency);
+        this.batchSize = Math.max(1, Math.min(smsProperties.getBatchSize(), smsSender.getMaxBatchSize()));
+    }
+
+    /**
+     * 발송 대기 행을 가져가 발송 스레드에 배치 단위로 넘김
+     * 
+     * 빈 발송 슬롯이 있는 만큼만 가져가므로, 발송이 밀리면 DB에 대기 상태로 남습니다.
+     * 선점 구간만 노드 간 lease로 직렬화하고, 실제 발송은 노드별로 병렬 진행합니다.
+     */
+    @Scheduled(fixedDelayString = "${lotto.sms.poll-interval-ms:1000}")
+    public void dispatchPending() {
+        if (permits.availablePermits() == 0) {
+            return;
+        }
+
+        try {
+            if (!jobLeaseService.tryAcquire(CLAIM_LEASE_KEY, CLAIM_LEASE_TTL)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("SMS 발송 lease 획득 실패: {}", e.getMessage());
+            return;
+        }
+
+        try {
+            claimAndSubmit();
+        } finally {
+            try {
+                jobLeaseService.release(CLAIM_LEASE_KEY);
+            } catch (Exception e) {
+                log.warn("SMS 발송 lease 반납 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void claimAndSubmit() {
+        while (permits.tryAcquire()) {
+            List<SmsLog> batch;
+            try {
+                batch = claimBatch();
+            } catch (Exception e) {
+                permits.release();
+                log.warn("SMS 발송 대상 조회 실패: {}", e.getMessage());
+                return;
+            }
+
+            if (batch.isEmpty()) {
+                permits.release();
+                return;
+            }
+
+            try {
+                executor.execute(() -> {
+                    try {
+                        sendBatch(batch);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중: 가져간 행은 lease 만료 후 다시 발송 대상이 됨
+                permits.release();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 발송 통계 조회
+     */
+    public SmsDispatchStatsResponse getStats() {
+        long sent = sentCount.sum();
+        long batches = batchCount.sum();
+        double elapsedSeconds = Math.max(1L, Duration.between(startedAt, LocalDateTime.now()).getSeconds());
+
+        SmsDispatchStatsResponse response = new SmsDispatchStatsResponse();
+        response.setProvider(smsSender.getProvider());
+        response.setStartedAt(startedAt);
+        response.setSentCount(sent);
+        response.setFailedCount(failedCount.sum());
+        response.setRetriedCount(retriedCount.sum());
+        response.setBatchCount(batches);
+        response.setSentPerSecond(sent / elapsedSeconds);
+        response.setAverageBatchLatencyMs(batches == 0 ? 0.0 : (double) totalBatchLatencyMs.sum() / batches);
+        response.setMaxBatchLatencyMs(maxBatchLatencyMs.get());
+        response.setInFlightBatches(Math.max(1, smsProperties.getMaxConcurrency()) - permits.availablePermits());
+        response.setPendingCount(smsLogMapper.countByStatus(SmsLog.STATUS_PENDING));
+        return response;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("SMS 발송 스레드 종료 대기 시간 초과 (미완료 배치는 lease 만료 후 재발송)");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 발송 가능한 PENDING 행을 가져가고 lease 설정
+     */
+    private List<SmsLog> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SmsLog> candidates = smsLogMapper.findDispatchable(now, batchSize);
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        LocalDateTime leaseUntil = now.plus(Duration.ofMillis(smsProperties.getLeaseTimeoutMs()));
+        smsLogMapper.claimForDispatch(idsOf(candidates), leaseUntil);
+        return candidates;
+    }
+
+    private void sendBatch(List<SmsLog> batch) {
+        List<SmsMessage> messages = new ArrayList<>(batch.size());
+        for (SmsLog smsLog : batch) {
+            messages.add(new SmsMessage(
+                smsLog.getId(),
+                smsLog.getEventId(),
+                smsLog.getParticipantId(),
+                smsLog.getPhoneHash(),
+                smsLog.getType()
+            ));
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            smsSender.send(messages);
+        } catch (Exception e) {
+            recordLatency(startNanos);
+            handleFailure(batch, e);
+            return;
+        }
+        recordLatency(startNanos);
+
+        try {
+            smsLogMapper.markSent(idsOf(batch));
+            sentCount.add(batch.size());
+        } catch (Exception e) {
+            // 발송은 완료되었으나 상태 기록 실패 → lease 만료 후 재발송될 수 있음 (최소 1회 발송)
+            log.error("SMS 발송 결과 기록 실패 ({}건): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 발송 실패 처리
+     * 
+     * 시도 횟수가 남은 행은 지수 백오프 후 재시도, 초과한 행은 FAILED로 기록합니다.
+     */
+    private void handleFailure(List<SmsLog> batch, Exception cause) {
+        String error = truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> exhaustedIds = new ArrayList<>();
+
+        try {
+            for (SmsLog smsLog : batch) {
+                // claimForDispatch에서 증가한 시도 횟수 반영
+                int attempts = (smsLog.getAttemptCount() == null ? 0 : smsLog.getAttemptCount()) + 1;
+                if (attempts >= smsProperties.getMaxAttempts()) {
+                    exhaustedIds.add(smsLog.getId());
+                } else {
+                    LocalDateTime nextAttemptAt = now.plus(Duration.ofMillis(retryDelayMs(attempts)));
+                    smsLogMapper.markRetry(smsLog.getId(), nextAttemptAt, error);
+                    retriedCount.increment();
+                }
+            }
+            if (!exhaustedIds.isEmpty()) {
+                smsLogMapper.markFailed(exhaustedIds, error);
+                failedCount.add(exhaustedIds.size());
+            }
+        } catch (Exception e) {
+            log.error("SMS 발송 실패 기록 실패 ({}건): {}", batch.size(), e.getMessage());
+        }
+
+        log.warn("SMS 배치 발송 실패 ({}건, 최종 실패 {}건): {}", batch.size(), exhaustedIds.size(), error);
+    }
+
+    /**
+     * 재시도 대기 시간: base * 2^(attempts-1), 최대값 제한 후 50~100% 지터
+     */
+    private long retryDelayMs(int attempts) {
+        long base = Math.max(1L, smsProperties.getRetryBaseDelayMs());
+        long max = Math.max(base, smsProperties.getRetryMaxDelayMs());
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        long delay = Math.min(max, base << shift);
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private void recordLatency(long startNanos) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        batchCount.increment();
+        totalBatchLatencyMs.add(elapsedMs);
+        maxBatchLatencyMs.accumulateAndGet(elapsedMs, Math::max);
+    }
+
+    private static List<Long> idsOf(List<SmsLog> batch) {
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (SmsLog smsLog : batch) {
+            ids.add(smsLog.getId());
+        }
+        return ids;
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= MAX_ERROR_LENGTH ? value : value.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,30 @@
+package com.otr.lotto.sms;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 발송할 SMS 1건
+ * 
+ * sms_log 행 하나에 대응합니다.
+ * 휴대폰 번호 원본은 저장하지 않으므로 수신자는 phone_hash로 전달되며,
+ * 실제 발송기는 별도 번호 저장소에서 phone_hash로 번호를 찾아야 합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class SmsMessage {
+    /** sms_log ID */
+    private final Long smsLogId;
+
+    /** 이벤트 ID */
+    private final Long eventId;
+
+    /** 참여자 ID */
+    private final Long participantId;
+
+    /** 수신자 휴대폰 번호 SHA256 해시 */
+    private final String phoneHash;
+
+    /** SMS 유형 (PARTICIPATION_NUMBER / UNCONFIRMED_WINNER_REMINDER) */
+    private final String type;
+}
@@ -0,0 +1,43 @@
+package com.otr.lotto.sms;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * SMS 발송 설정 (lotto.sms.*)
+ * 
+ * 기본값은 로컬 스텁 발송기 기준입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lotto.sms")
+public class SmsProperties {
+    /** 발송기 종류 (local = 로그만 남기는 스텁) */
+    private String provider = "local";
+
+    /** 발송 대기 이력 조회 주기 (ms) */
+    private long pollIntervalMs = 1000;
+
+    /** 동시에 발송 중일 수 있는 배치 수 */
+    private int maxConcurrency = 4;
+
+    /** 배치 1건의 최대 메시지 수 (발송기 한도와 작은 값 사용) */
+    private int batchSize = 100;
+
+    /** 최대 발송 시도 횟수 (초과 시 FAILED) */
+    private int maxAttempts = 5;
+
+    /** 재시도 기본 대기 시간 (ms, 시도마다 2배) */
+    private long retryBaseDelayMs = 1000;
+
+    /** 재시도 최대 대기 시간 (ms) */
+    private long retryMaxDelayMs = 60_000;
+
+    /** 발송을 가져간 뒤 결과가 기록되지 않으면 다시 발송 대상이 되는 시간 (ms) */
+    private long leaseTimeoutMs = 60_000;
+
+    /** 로컬 스텁 발송기의 배치당 지연 시간 (ms, 부하 시험용) */
+    private long localLatencyMs = 0;
+}
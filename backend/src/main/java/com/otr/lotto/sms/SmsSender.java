@@ -0,0 +1,32 @@
+package com.otr.lotto.sms;
+
+import java.util.List;
+
+/**
+ * SMS 발송기 SPI
+ * 
+ * 발송 업체별 구현을 빈으로 등록하면 SmsDispatcher가 사용합니다.
+ * 
+ * 규칙:
+ * - send()는 배치 전체를 발송하거나, 실패 시 예외를 던짐 (배치 단위 재시도)
+ * - 요청 스레드/DB 트랜잭션 밖(SmsDispatcher 스레드)에서만 호출됨
+ */
+public interface SmsSender {
+    /**
+     * 발송기 이름 (통계/로그용)
+     */
+    String getProvider();
+
+    /**
+     * 한 번에 보낼 수 있는 최대 메시지 수
+     */
+    int getMaxBatchSize();
+
+    /**
+     * 메시지 배치 발송
+     * 
+     * @param messages 발송할 메시지 (1건 이상, getMaxBatchSize() 이하)
+     * @throws RuntimeException 발송 실패 시 (배치 전체 재시도 대상)
+     */
+    void send(List<SmsMessage> messages);
+}
@@ -0,0 +1,259 @@
+package com.otr.lotto.buffer;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.otr.lotto.domain.CheckCountDelta;
+import com.otr.lotto.mapper.ParticipantMapper;
+
+@DisplayName("결과 조회 횟수 write-behind 버퍼 테스트")
+class CheckCountBufferTest {
+    private static final Long EVENT_ID = 1L;
+    private static final LocalDateTime T1 = LocalDateTime.of(2025, 4, 5, 10, 0, 0);
+    private static final LocalDateTime T2 = LocalDateTime.of(2025, 4, 5, 10, 0, 5);
+    private static final LocalDateTime T3 = LocalDateTime.of(2025, 4, 5, 10, 0, 9);
+
+    private final StubParticipantMapper db = new StubParticipantMapper();
+    private final CheckCountBuffer buffer = new CheckCountBuffer(db.proxy(), new NoOpTransactionManager());
+
+    @Test
+    @DisplayName("버퍼링 - 조회 횟수는 메모리에 누적, flush 전에는 UPDATE 없음")
+    void testRecord_BuffersUntilFlush() {
+        // Given: DB check_count = 0
+        db.checkCounts.put(10L, 0);
+
+        // When
+        int first = buffer.record(EVENT_ID, 10L, null, T1);
+        int second = buffer.record(EVENT_ID, 10L, null, T2);
+        int third = buffer.record(EVENT_ID, 10L, null, T3);
+
+        // Then: 누적 전 조회 횟수 반환, DB는 처음 한 번만 읽고 쓰지 않음
+        assertEquals(0, first, "첫 조회");
+        assertEquals(1, second);
+        assertEquals(2, third);
+        assertEquals(1, db.findCheckCountCalls.get());
+        assertTrue(db.updates.isEmpty());
+
+        // When: flush
+        buffer.flush();
+
+        // Then: 증분 3, 첫/마지막 조회 시간을 UPDATE 1회로 반영
+        assertEquals(1, db.updates.size());
+        CheckCountDelta delta = db.updates.get(0);
+        assertEquals(10L, delta.getParticipantId());
+        assertEquals(3, delta.getIncrement());
+        assertEquals(T1, delta.getFirstCheckedAt());
+        assertEquals(T3, delta.getLastCheckedAt());
+        assertEquals(3, db.checkCounts.get(10L));
+    }
+
+    @Test
+    @DisplayName("호출자가 읽은 check_count가 있으면 DB 조회 없이 기준값으로 사용")
+    void testRecord_UsesStoredCount() {
+        // When
+        int previous = buffer.record(EVENT_ID, 20L, 4, T1);
+
+        // Then
+        assertEquals(4, previous);
+        assertEquals(0, db.findCheckCountCalls.get());
+    }
+
+    @Test
+    @DisplayName("반영 실패 - 증분을 되돌려 다음 flush에 다시 반영")
+    void testFlush_FailureRetriedNextFlush() {
+        // Given
+        buffer.record(EVENT_ID, 30L, 0, T1);
+        buffer.record(EVENT_ID, 30L, 0, T2);
+        db.failNextUpdate.set(true);
+
+        // When: 첫 flush 실패
+        buffer.flush();
+
+        // Then: 반영되지 않았고, 누적 값은 유지
+        assertTrue(db.updates.isEmpty());
+        assertEquals(2, buffer.record(EVENT_ID, 30L, null, T3));
+
+        // When: 다음 flush
+        buffer.flush();
+
+        // Then: 실패분 + 새 조회를 함께 반영
+        assertEquals(1, db.updates.size());
+        assertEquals(3, db.updates.get(0).getIncrement());
+        assertEquals(T1, db.updates.get(0).getFirstCheckedAt());
+        assertEquals(T3, db.updates.get(0).getLastCheckedAt());
+    }
+
+    @Test
+    @DisplayName("반영 완료 후 한 주기 동안 조회가 없던 카운터는 제거, 다음 조회는 DB 값으로 이어감")
+    void testFlush_EvictsIdleCounters() {
+        // Given: 참여자 2명 조회 후 반영
+        db.checkCounts.put(40L, 0);
+        db.checkCounts.put(41L, 0);
+        buffer.record(EVENT_ID, 40L, null, T1);
+        buffer.record(EVENT_ID, 41L, null, T1);
+        buffer.flush();
+        assertEquals(2, buffer.bufferedCount(), "방금 반영한 카운터는 유지");
+
+        // When: 40번만 다시 조회 후 flush
+        buffer.record(EVENT_ID, 40L, null, T2);
+        buffer.flush();
+
+        // Then: 조회가 없던 41번만 제거
+        assertEquals(1, buffer.bufferedCount());
+
+        // When: 다음 flush까지 조회 없음 → 40번도 제거
+        buffer.flush();
+        assertEquals(0, buffer.bufferedCount());
+
+        // Then: 제거된 참여자의 다음 조회는 DB에 반영된 값부터 이어감
+        int callsBefore = db.findCheckCountCalls.get();
+        assertEquals(2, buffer.record(EVENT_ID, 40L, null, T3));
+        assertEquals(1, buffer.record(EVENT_ID, 41L, null, T3));
+        assertEquals(callsBefore + 2, db.findCheckCountCalls.get());
+    }
+
+    @Test
+    @DisplayName("주기 반영 - lotto.result-check.flush-interval-ms마다 스케줄러가 flush")
+    void testFlush_OnInterval() throws InterruptedException {
+        // Given: 반영 주기 50ms
+        try (AnnotationConfigApplicationContext context = newContext(db, 50L, true)) {
+            CheckCountBuffer scheduled = context.getBean(CheckCountBuffer.class);
+
+            // When: 조회 후 flush를 직접 호출하지 않고 대기
+            scheduled.record(EVENT_ID, 50L, 0, T1);
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (db.updates.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // Then
+            assertEquals(1, db.updates.size(), "주기 반영이 실행되어야 함");
+            assertEquals(50L, db.updates.get(0).getParticipantId());
+        }
+    }
+
+    @Test
+    @DisplayName("종료 반영 - 컨텍스트 종료 시 남은 증분 반영")
+    void testFlush_OnShutdown() {
+        // Given: 스케줄러 없음 (주기 반영이 끼어들지 않음)
+        AnnotationConfigApplicationContext context = newContext(db, 60_000L, false);
+        CheckCountBuffer managed = context.getBean(CheckCountBuffer.class);
+        managed.record(EVENT_ID, 60L, 0, T1);
+        managed.record(EVENT_ID, 60L, 0, T2);
+        assertTrue(db.updates.isEmpty());
+
+        // When
+        context.close();
+
+        // Then
+        assertEquals(1, db.updates.size());
+        assertEquals(2, db.updates.get(0).getIncrement());
+    }
+
+    private static AnnotationConfigApplicationContext newContext(
+        StubParticipantMapper db,
+        long flushIntervalMs,
+        boolean scheduling
+    ) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource(
+            "test",
+            Map.of("lotto.result-check.flush-interval-ms", String.valueOf(flushIntervalMs))
+        ));
+        context.registerBean(ParticipantMapper.class, db::proxy);
+        context.registerBean(PlatformTransactionManager.class, NoOpTransactionManager::new);
+        context.register(CheckCountBuffer.class);
+        if (scheduling) {
+            context.register(SchedulingConfig.class);
+        }
+        context.refresh();
+        return context;
+    }
+
+    @Configuration
+    @EnableScheduling
+    static class SchedulingConfig {
+    }
+
+    /**
+     * participant 테이블 대신 메모리 값을 쓰는 ParticipantMapper (사용하는 메서드만 구현)
+     */
+    private static final class StubParticipantMapper {
+        private final Map<Long, Integer> checkCounts = new HashMap<>();
+        private final List<CheckCountDelta> updates = new CopyOnWriteArrayList<>();
+        private final AtomicInteger findCheckCountCalls = new AtomicInteger();
+        private final AtomicBoolean failNextUpdate = new AtomicBoolean();
+
+        @SuppressWarnings("unchecked")
+        private ParticipantMapper proxy() {
+            return (ParticipantMapper) Proxy.newProxyInstance(
+                ParticipantMapper.class.getClassLoader(),
+                new Class<?>[] {ParticipantMapper.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findCheckCount":
+                            findCheckCountCalls.incrementAndGet();
+                            synchronized (checkCounts) {
+                                return checkCounts.get((Long) args[1]);
+                            }
+                        case "updateCheckCountsBatch":
+                            if (failNextUpdate.getAndSet(false)) {
+                                throw new IllegalStateException("DB 반영 실패");
+                            }
+                            List<CheckCountDelta> deltas = new ArrayList<>((List<CheckCountDelta>) args[1]);
+                            synchronized (checkCounts) {
+                                for (CheckCountDelta delta : deltas) {
+                                    checkCounts.merge(delta.getParticipantId(), delta.getIncrement(), Integer::sum);
+                                }
+                            }
+                            updates.addAll(deltas);
+                            return deltas.size();
+                        case "toString":
+                            return "StubParticipantMapper";
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                }
+            );
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
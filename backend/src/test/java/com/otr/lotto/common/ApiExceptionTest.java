@@ -0,0 +1,51 @@
+package com.otr.lotto.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ApiException 테스트")
+class ApiExceptionTest {
+
+    @Test
+    @DisplayName("기본 메시지 - 스택 트레이스 없이 ErrorCode 메시지 유지")
+    void testDefaultMessage_Stackless() {
+        // When
+        ApiException ex = new ApiException(ErrorCode.DUPLICATE_PARTICIPATION);
+
+        // Then
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals(ErrorCode.DUPLICATE_PARTICIPATION.getMessage(), ex.getMessage());
+        assertEquals(ErrorCode.DUPLICATE_PARTICIPATION.getCode(), ex.getCode());
+        assertNull(ex.getCustomMessage());
+    }
+
+    @Test
+    @DisplayName("사용자 정의 메시지 - 스택 트레이스/suppressed 없이 메시지 유지")
+    void testCustomMessage_Stackless() {
+        // When
+        ApiException ex = new ApiException(ErrorCode.INVALID_REQUEST, "사용자 정의 에러 메시지입니다.");
+        ex.addSuppressed(new IllegalStateException("무시되어야 함"));
+
+        // Then
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals(0, ex.getSuppressed().length);
+        assertEquals("사용자 정의 에러 메시지입니다.", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("서버 오류 - 불변식 위반 추적을 위해 스택 트레이스 유지")
+    void testInternalError_KeepsStackTrace() {
+        // When
+        ApiException ex = new ApiException(ErrorCode.INTERNAL_ERROR, "당첨자 수가 번호 풀과 일치하지 않습니다.");
+
+        // Then
+        assertTrue(ex.getStackTrace().length > 0);
+        assertEquals("당첨자 수가 번호 풀과 일치하지 않습니다.", ex.getMessage());
+        assertFalse(ErrorCode.INTERNAL_ERROR.isClientError());
+        assertTrue(ErrorCode.CAPACITY_FULL.isClientError());
+    }
+}
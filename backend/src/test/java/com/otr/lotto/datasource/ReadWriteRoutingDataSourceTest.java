@@ -0,0 +1,228 @@
+package com.otr.lotto.datasource;
+
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("읽기/쓰기 라우팅 DataSource 테스트")
+class ReadWriteRoutingDataSourceTest {
+
+    private final StubDataSource primary = new StubDataSource();
+    private final StubDataSource replica = new StubDataSource();
+    private final AtomicBoolean replicaUsable = new AtomicBoolean(true);
+    private final ReadWriteRoutingDataSource routing =
+            new ReadWriteRoutingDataSource(primary, replica, replicaUsable::get);
+
+    @AfterEach
+    void tearDown() {
+        ReplicaReadContext.restore(false);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 일반 구문 - primary")
+    void testRoute_DefaultPrimary() throws Exception {
+        // When
+        routing.getConnection();
+
+        // Then
+        assertEquals(1, primary.connections.get());
+        assertEquals(0, replica.connections.get());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 지정 구문 - replica, 종료 후 primary")
+    void testRoute_DesignatedStatement() throws Exception {
+        // When
+        boolean previous = ReplicaReadContext.enter();
+        routing.getConnection();
+        ReplicaReadContext.restore(previous);
+        routing.getConnection();
+
+        // Then
+        assertEquals(1, replica.connections.get());
+        assertEquals(1, primary.connections.get());
+        assertEquals(1L, routing.getReplicaRoutes());
+        assertEquals(1L, routing.getPrimaryRoutes());
+    }
+
+    @Test
+    @DisplayName("복제본 사용 불가 - 지정 구문도 primary")
+    void testRoute_ReplicaUnusable() throws Exception {
+        // Given
+        replicaUsable.set(false);
+
+        // When
+        ReplicaReadContext.enter();
+        routing.getConnection();
+
+        // Then
+        assertEquals(1, primary.connections.get());
+        assertEquals(0, replica.connections.get());
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션 - replica, 읽기/쓰기 트랜잭션 안 지정 구문 - primary")
+    void testRoute_Transactions() {
+        // Given: 트랜잭션 매니저는 지연 커넥션 프록시를 사용
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        // 기본 자동 커밋/격리 수준 확인용 커넥션 1회 (primary)
+        int probeConnections = primaryConnectionsAfterWarmUp(dataSource);
+
+        // When
+        readOnly.executeWithoutResult(status -> useConnection(transactionManager));
+        readWrite.executeWithoutResult(status -> {
+            boolean previous = ReplicaReadContext.enter();
+            try {
+                useConnection(transactionManager);
+            } finally {
+                ReplicaReadContext.restore(previous);
+            }
+        });
+
+        // Then
+        assertEquals(1, replica.connections.get());
+        assertEquals(probeConnections + 1, primary.connections.get());
+    }
+
+    @Test
+    @DisplayName("복제 지연 감시 - 허용 지연 이내만 사용 가능, 회복 시 재사용")
+    void testLagMonitor() {
+        // Given
+        AtomicReference<Object> lag = new AtomicReference<>();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(() -> {
+            Object value = lag.get();
+            if (value instanceof Exception e) {
+                throw e;
+            }
+            return (Long) value;
+        }, 5);
+
+        // When & Then: 첫 측정 전에는 사용 불가
+        assertFalse(monitor.getAsBoolean());
+
+        lag.set(2L);
+        monitor.check();
+        assertTrue(monitor.getAsBoolean());
+        assertEquals(2L, monitor.getLastLagSeconds());
+
+        lag.set(10L);
+        monitor.check();
+        assertFalse(monitor.getAsBoolean());
+
+        lag.set(null);
+        monitor.check();
+        assertFalse(monitor.getAsBoolean());
+        assertNull(monitor.getLastLagSeconds());
+
+        lag.set(new SQLException("replica down"));
+        monitor.check();
+        assertFalse(monitor.getAsBoolean());
+
+        lag.set(0L);
+        monitor.check();
+        assertTrue(monitor.getAsBoolean());
+    }
+
+    private int primaryConnectionsAfterWarmUp(LazyConnectionDataSourceProxy dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return primary.connections.get();
+    }
+
+    private void useConnection(DataSourceTransactionManager transactionManager) {
+        try {
+            DataSourceUtils.getConnection(transactionManager.getDataSource()).createStatement();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 커넥션 획득 횟수만 세는 DataSource (커넥션 메서드는 기본값 반환)
+     */
+    private static final class StubDataSource implements DataSource {
+        private final AtomicInteger connections = new AtomicInteger();
+
+        @Override
+        public Connection getConnection() {
+            connections.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        Class<?> type = method.getReturnType();
+                        if (type == boolean.class) {
+                            return method.getName().equals("getAutoCommit");
+                        }
+                        if (type == int.class) {
+                            return Connection.TRANSACTION_READ_COMMITTED;
+                        }
+                        return null;
+                    });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return null;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) {
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) {
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return 0;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            return Logger.getGlobal();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            throw new SQLException("not a wrapper");
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return false;
+        }
+    }
+}
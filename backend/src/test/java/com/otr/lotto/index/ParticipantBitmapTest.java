@@ -0,0 +1,43 @@
+package com.otr.lotto.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("참여자 비트맵 테스트")
+class ParticipantBitmapTest {
+
+    @Test
+    @DisplayName("포함 여부 - 범위 밖/경계 ID 처리")
+    void testContains() {
+        // Given
+        ParticipantBitmap bitmap = ParticipantBitmap.of(Arrays.asList(64L, 65L, 127L, 128L, 10_000L));
+
+        // When & Then
+        assertTrue(bitmap.contains(64L));
+        assertTrue(bitmap.contains(127L));
+        assertTrue(bitmap.contains(128L));
+        assertTrue(bitmap.contains(10_000L));
+        assertFalse(bitmap.contains(1L));
+        assertFalse(bitmap.contains(66L));
+        assertFalse(bitmap.contains(10_001L));
+        assertEquals(5, bitmap.cardinality());
+    }
+
+    @Test
+    @DisplayName("null/0 이하 ID 무시, 빈 목록은 빈 비트맵")
+    void testOf_IgnoresInvalidIds() {
+        // Given
+        ParticipantBitmap bitmap = ParticipantBitmap.of(Arrays.asList(null, 0L, -3L, 5L));
+
+        // When & Then
+        assertEquals(1, bitmap.cardinality());
+        assertTrue(bitmap.contains(5L));
+        assertEquals(0, ParticipantBitmap.of(new ArrayList<>()).cardinality());
+    }
+}
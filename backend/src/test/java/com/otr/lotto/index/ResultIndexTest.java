@@ -0,0 +1,118 @@
+package com.otr.lotto.index;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("결과 조회 인덱스 테스트")
+class ResultIndexTest {
+
+    private Long eventId = 1L;
+
+    @Test
+    @DisplayName("등록된 phone_hash - 참여자 ID와 rank 반환")
+    void testFind_Registered() throws Exception {
+        // Given
+        ResultIndex index = ResultIndex.builder(eventId, 3)
+                .add(sha256("01011111111"), 1L, 0)
+                .add(sha256("01022222222"), 2L, 4)
+                .add(sha256("01012345678"), 3L, 1)
+                .build();
+
+        // When
+        int slot = index.find(sha256("01012345678"));
+
+        // Then
+        assertNotEquals(ResultIndex.NOT_FOUND, slot);
+        assertEquals(3L, index.participantIdAt(slot));
+        assertEquals(1, index.rankAt(slot));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("미등록/잘못된 phone_hash - NOT_FOUND")
+    void testFind_Missing() throws Exception {
+        // Given
+        ResultIndex index = ResultIndex.builder(eventId, 1)
+                .add(sha256("01011111111"), 1L, null)
+                .build();
+
+        // When & Then
+        assertEquals(ResultIndex.NOT_FOUND, index.find(sha256("01099999999")));
+        assertEquals(ResultIndex.NOT_FOUND, index.find("not-a-hash"));
+        assertEquals(ResultIndex.NOT_FOUND, index.find(null));
+    }
+
+    @Test
+    @DisplayName("대문자 16진수 - 같은 키로 인식")
+    void testFind_UpperCaseHex() throws Exception {
+        // Given
+        String hash = sha256("01033333333");
+        ResultIndex index = ResultIndex.builder(eventId, 1)
+                .add(hash.toUpperCase(), 7L, 2)
+                .build();
+
+        // When
+        int slot = index.find(hash);
+
+        // Then
+        assertEquals(7L, index.participantIdAt(slot));
+        assertEquals(2, index.rankAt(slot));
+    }
+
+    @Test
+    @DisplayName("10,000명 인덱스 - 전원 조회, rank 보존")
+    void testFind_FullEvent() throws Exception {
+        // Given: 예상 크기보다 많이 추가해도 빌더가 확장되어야 함
+        ResultIndex.Builder builder = ResultIndex.builder(eventId, 16);
+        for (long id = 1; id <= 10_000; id++) {
+            builder.add(sha256(phoneOf(id)), id, (int) (id % 5));
+        }
+        ResultIndex index = builder.build();
+
+        // When & Then
+        assertEquals(10_000, index.size());
+        for (long id = 1; id <= 10_000; id++) {
+            int slot = index.find(sha256(phoneOf(id)));
+            assertEquals(id, index.participantIdAt(slot));
+            assertEquals((int) (id % 5), index.rankAt(slot));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 phone_hash 중복 추가 - 마지막 값 유지")
+    void testBuild_DuplicateKey() throws Exception {
+        // Given
+        String hash = sha256("01044444444");
+        ResultIndex index = ResultIndex.builder(eventId, 2)
+                .add(hash, 10L, 0)
+                .add(hash, 11L, 3)
+                .build();
+
+        // When
+        int slot = index.find(hash);
+
+        // Then
+        assertEquals(1, index.size());
+        assertEquals(11L, index.participantIdAt(slot));
+        assertEquals(3, index.rankAt(slot));
+    }
+
+    private String phoneOf(long id) {
+        return String.format("010%08d", id);
+    }
+
+    private String sha256(String value) throws NoSuchAlgorithmException {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        StringBuilder builder = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+}
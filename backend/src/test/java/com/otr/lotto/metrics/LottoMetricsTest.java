@@ -0,0 +1,79 @@
+package com.otr.lotto.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.otr.lotto.common.ErrorCode;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("참여/결과 조회 지표 테스트")
+class LottoMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LottoMetrics metrics = new LottoMetrics(registry);
+
+    @Test
+    @DisplayName("단계 기록 - operation/phase 태그별 Timer, 같은 구간을 JFR 필드에도 기록")
+    void testPhases_Mark() {
+        // Given
+        PhaseRecorder participate = metrics.phases(LottoMetrics.PARTICIPATE);
+        PhaseRecorder check = metrics.phases(LottoMetrics.CHECK);
+        List<Long> jfrHash = new ArrayList<>();
+
+        // When
+        participate.mark("hash", jfrHash::add);
+        participate.mark("hash", jfrHash::add);
+        check.mark("lookup", elapsed -> { });
+
+        // Then
+        Timer hash = registry.get("lotto.phase")
+                .tags("operation", LottoMetrics.PARTICIPATE, "phase", "hash")
+                .timer();
+        assertEquals(2L, hash.count());
+        assertEquals(2, jfrHash.size());
+        assertEquals(jfrHash.get(0) + jfrHash.get(1), (long) hash.totalTime(TimeUnit.NANOSECONDS));
+        assertEquals(1L, registry.get("lotto.phase").tags("operation", LottoMetrics.CHECK).timer().count());
+    }
+
+    @Test
+    @DisplayName("하위 구간 - 바깥 구간에서 제외 (assign은 swap 제외)")
+    void testPhases_NestedExcludedFromOuter() throws InterruptedException {
+        // Given
+        PhaseRecorder phases = metrics.phases(LottoMetrics.PARTICIPATE);
+        long[] swap = new long[1];
+        long[] assign = new long[1];
+
+        // When: assign 구간 안에서 20ms 스왑
+        long swapStartedAt = phases.startNested();
+        Thread.sleep(20);
+        phases.markNested("swap", elapsed -> swap[0] = elapsed, swapStartedAt);
+        phases.mark("assign", elapsed -> assign[0] = elapsed);
+
+        // Then
+        assertTrue(swap[0] >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertTrue(assign[0] < TimeUnit.MILLISECONDS.toNanos(20), "assign에 swap 시간이 포함되면 안 됨");
+        assertEquals(1L, registry.get("lotto.phase").tags("phase", "swap").timer().count());
+        assertEquals(1L, registry.get("lotto.phase").tags("phase", "assign").timer().count());
+    }
+
+    @Test
+    @DisplayName("오류 코드 - 모든 코드가 0으로 등록, 발생 시 해당 코드만 증가")
+    void testError() {
+        // When
+        metrics.error(ErrorCode.DUPLICATE_PARTICIPATION);
+        metrics.error(ErrorCode.DUPLICATE_PARTICIPATION);
+
+        // Then
+        assertEquals(ErrorCode.values().length, registry.get("lotto.errors").counters().size());
+        assertEquals(2.0, registry.get("lotto.errors").tag("code", "DUPLICATE_PARTICIPATION").counter().count());
+        assertEquals(0.0, registry.get("lotto.errors").tag("code", "CAPACITY_FULL").counter().count());
+    }
+}
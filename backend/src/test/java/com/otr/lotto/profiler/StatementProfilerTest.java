@@ -0,0 +1,105 @@
+package com.otr.lotto.profiler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.otr.lotto.dto.ProfilerStatsResponse;
+
+@DisplayName("매퍼 구문 프로파일러 테스트")
+class StatementProfilerTest {
+
+    private static final String FIND_UNASSIGNED = "com.otr.lotto.mapper.TicketPoolMapper.lockUnassignedByRank";
+    private static final String COUNT_BY_EVENT = "com.otr.lotto.mapper.ParticipantMapper.countByEvent";
+
+    private final StatementProfiler profiler = new StatementProfiler(new ProfilerProperties());
+
+    @Test
+    @DisplayName("구문별 호출 수/행 수/오류 수 누적, 누적 시간 내림차순 정렬")
+    void testRecord_PerStatement() {
+        // When
+        profiler.record(FIND_UNASSIGNED, ms(3), 1, false);
+        profiler.record(FIND_UNASSIGNED, ms(7), 1, false);
+        profiler.record(COUNT_BY_EVENT, ms(1), 1, false);
+        profiler.record(COUNT_BY_EVENT, ms(1), 0, true);
+
+        // Then
+        ProfilerStatsResponse stats = profiler.getStats();
+        assertEquals(2, stats.getStatements().size());
+
+        ProfilerStatsResponse.StatementStat first = stats.getStatements().get(0);
+        assertEquals("TicketPoolMapper.lockUnassignedByRank", first.getStatement());
+        assertEquals(2L, first.getCalls());
+        assertEquals(2L, first.getRows());
+        assertEquals(0L, first.getErrors());
+        assertEquals(5.0, first.getAverageMs(), 0.001);
+        assertEquals(7.0, first.getMaxMs(), 0.001);
+
+        ProfilerStatsResponse.StatementStat second = stats.getStatements().get(1);
+        assertEquals("ParticipantMapper.countByEvent", second.getStatement());
+        assertEquals(1L, second.getErrors());
+    }
+
+    @Test
+    @DisplayName("백분위 - 구간 상한값으로 추정, 최대값을 넘지 않음")
+    void testPercentile() {
+        // Given: 98건 1ms 이하, 2건 40ms
+        StatementStats stats = new StatementStats();
+        for (int i = 0; i < 98; i++) {
+            stats.record(ms(1) / 2, 1, false);
+        }
+        stats.record(ms(40), 1, false);
+        stats.record(ms(40), 1, false);
+
+        // When & Then
+        assertEquals(1.0, stats.percentileMs(0.50), 0.001);
+        assertEquals(1.0, stats.percentileMs(0.95), 0.001);
+        assertEquals(40.0, stats.percentileMs(0.99), 0.001);
+        assertEquals(98L, stats.histogram().get("le_1ms"));
+        assertEquals(2L, stats.histogram().get("le_50ms"));
+    }
+
+    @Test
+    @DisplayName("요청당 구문 수 - 요청 구간 밖의 구문은 제외")
+    void testRequestStatements() {
+        // Given
+        profiler.record(COUNT_BY_EVENT, ms(1), 1, false);
+
+        // When
+        profiler.beginRequest();
+        profiler.record(COUNT_BY_EVENT, ms(1), 1, false);
+        profiler.record(FIND_UNASSIGNED, ms(1), 1, false);
+        int first = profiler.endRequest("POST /api/participations");
+
+        profiler.beginRequest();
+        profiler.record(COUNT_BY_EVENT, ms(1), 1, false);
+        int second = profiler.endRequest("POST /api/participations");
+
+        // Then
+        assertEquals(2, first);
+        assertEquals(1, second);
+        ProfilerStatsResponse.RequestStat request = profiler.getStats().getRequests().get(0);
+        assertEquals("POST /api/participations", request.getRequest());
+        assertEquals(2L, request.getRequests());
+        assertEquals(1.5, request.getAverageStatements(), 0.001);
+        assertEquals(2L, request.getMaxStatements());
+    }
+
+    @Test
+    @DisplayName("초기화 - 누적 통계 제거")
+    void testReset() {
+        // Given
+        profiler.record(COUNT_BY_EVENT, ms(1), 1, false);
+
+        // When
+        profiler.reset();
+
+        // Then
+        assertTrue(profiler.getStats().getStatements().isEmpty());
+    }
+
+    private long ms(long millis) {
+        return millis * 1_000_000L;
+    }
+}
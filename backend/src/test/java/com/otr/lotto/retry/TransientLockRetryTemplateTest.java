@@ -0,0 +1,146 @@
+package com.otr.lotto.retry;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.otr.lotto.common.ApiException;
+import com.otr.lotto.common.ErrorCode;
+import com.otr.lotto.metrics.LottoMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("잠금 실패 재시도 테스트")
+class TransientLockRetryTemplateTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RetryProperties properties = new RetryProperties();
+    private TransientLockRetryTemplate retryTemplate;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxAttempts(3);
+        properties.setBaseDelayMs(1);
+        properties.setMaxDelayMs(2);
+        retryTemplate = new TransientLockRetryTemplate(properties, new LottoMetrics(registry));
+    }
+
+    @Test
+    @DisplayName("교착 상태 2회 후 성공 - 결과 반환, 재시도 2회/복구 1회 기록")
+    void testExecute_RecoversAfterDeadlock() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = retryTemplate.execute(LottoMetrics.PARTICIPATE, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new CannotAcquireLockException("Deadlock found when trying to get lock");
+            }
+            return "ok";
+        });
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, retryCount(LottoMetrics.PARTICIPATE, LottoMetrics.RETRY));
+        assertEquals(1.0, retryCount(LottoMetrics.PARTICIPATE, LottoMetrics.RETRY_RECOVERED));
+    }
+
+    @Test
+    @DisplayName("잠금 대기 시간 초과 계속 발생 - 최대 시도 후 SERVER_BUSY")
+    void testExecute_Exhausted() {
+        // Given: 드라이버 예외(1205)가 다른 예외로 감싸진 경우
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        ApiException exception = assertThrows(ApiException.class, () ->
+            retryTemplate.execute(LottoMetrics.CHECK, () -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException(new SQLException("Lock wait timeout exceeded", "HY000", 1205));
+            })
+        );
+
+        // Then
+        assertEquals(ErrorCode.SERVER_BUSY, exception.getErrorCode());
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, retryCount(LottoMetrics.CHECK, LottoMetrics.RETRY));
+        assertEquals(1.0, retryCount(LottoMetrics.CHECK, LottoMetrics.RETRY_EXHAUSTED));
+    }
+
+    @Test
+    @DisplayName("잠금 실패가 아닌 예외 - 재시도 없이 그대로 전달")
+    void testExecute_NonTransientNotRetried() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        ApiException duplicate = new ApiException(ErrorCode.DUPLICATE_PARTICIPATION);
+
+        // When & Then
+        ApiException thrown = assertThrows(ApiException.class, () ->
+            retryTemplate.execute(LottoMetrics.PARTICIPATE, () -> {
+                attempts.incrementAndGet();
+                throw duplicate;
+            })
+        );
+        assertSame(duplicate, thrown);
+        assertThrows(DataIntegrityViolationException.class, () ->
+            retryTemplate.execute(LottoMetrics.PARTICIPATE, () -> {
+                attempts.incrementAndGet();
+                throw new DataIntegrityViolationException("Duplicate entry");
+            })
+        );
+        assertEquals(2, attempts.get());
+        assertEquals(0, registry.find("lotto.retry").counters().size());
+    }
+
+    @Test
+    @DisplayName("재시도 예산 소진 - 남은 시도가 있어도 SERVER_BUSY")
+    void testExecute_BudgetExhausted() {
+        // Given: 1초에 재시도 1회만 허용
+        properties.setMaxAttempts(5);
+        properties.setBudgetPerSecond(1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        ApiException exception = assertThrows(ApiException.class, () ->
+            retryTemplate.execute(LottoMetrics.DRAW, () -> {
+                attempts.incrementAndGet();
+                throw new CannotAcquireLockException("Deadlock found when trying to get lock");
+            })
+        );
+
+        // Then
+        assertEquals(ErrorCode.SERVER_BUSY, exception.getErrorCode());
+        assertEquals(2, attempts.get());
+        assertEquals(1.0, retryCount(LottoMetrics.DRAW, LottoMetrics.RETRY));
+        assertEquals(1.0, retryCount(LottoMetrics.DRAW, LottoMetrics.RETRY_BUDGET_EXHAUSTED));
+    }
+
+    @Test
+    @DisplayName("재시도 비활성화 - 첫 실패에서 SERVER_BUSY")
+    void testExecute_Disabled() {
+        // Given
+        properties.setEnabled(false);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThrows(ApiException.class, () ->
+            retryTemplate.execute(LottoMetrics.PARTICIPATE, () -> {
+                attempts.incrementAndGet();
+                throw new CannotAcquireLockException("Deadlock found when trying to get lock");
+            })
+        );
+        assertEquals(1, attempts.get());
+    }
+
+    private double retryCount(String operation, String outcome) {
+        return registry.get("lotto.retry").tags("operation", operation, "outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,75 @@
+package com.otr.lotto.scan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("keyset 페이지 순회 테스트")
+class KeysetPagerTest {
+
+    /** 1 ~ 20 중 홀수 ID만 있는 테이블 (ID가 연속되지 않아도 누락/중복 없어야 함) */
+    private final List<Long> table = LongStream.rangeClosed(1, 20)
+            .filter(id -> id % 2 == 1)
+            .boxed()
+            .collect(Collectors.toList());
+
+    private final List<Long> requestedAfterKeys = new ArrayList<>();
+
+    private List<Long> fetch(long afterKey, int limit) {
+        requestedAfterKeys.add(afterKey);
+        return table.stream()
+                .filter(id -> id > afterKey)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("페이지 순회 - 전체 행을 순서대로 한 번씩 전달")
+    void testForEachPage_AllRowsInOrder() {
+        // Given
+        List<Long> scanned = new ArrayList<>();
+
+        // When
+        long total = KeysetPager.forEachPage(this::fetch, Long::longValue, 3, scanned::addAll);
+
+        // Then: 10건 / 페이지 3 → 4페이지 (마지막 페이지가 limit 미만이면 추가 조회 없음)
+        assertEquals(10L, total);
+        assertEquals(table, scanned);
+        assertEquals(List.of(0L, 5L, 11L, 17L), requestedAfterKeys);
+    }
+
+    @Test
+    @DisplayName("페이지 순회 - 마지막 페이지가 가득 차면 빈 페이지로 종료")
+    void testForEachPage_ExactMultiple() {
+        // Given
+        List<Integer> pageSizes = new ArrayList<>();
+
+        // When
+        long total = KeysetPager.forEachPage(this::fetch, Long::longValue, 5, page -> pageSizes.add(page.size()));
+
+        // Then
+        assertEquals(10L, total);
+        assertEquals(List.of(5, 5), pageSizes);
+        assertEquals(List.of(0L, 9L, 19L), requestedAfterKeys);
+    }
+
+    @Test
+    @DisplayName("빈 테이블 - 조회 1회 후 종료, 페이지 전달 없음")
+    void testForEachPage_Empty() {
+        // Given
+        List<List<Long>> pages = new ArrayList<>();
+
+        // When
+        long total = KeysetPager.forEachPage((afterKey, limit) -> List.<Long>of(), Long::longValue, 3, pages::add);
+
+        // Then
+        assertEquals(0L, total);
+        assertTrue(pages.isEmpty());
+    }
+}
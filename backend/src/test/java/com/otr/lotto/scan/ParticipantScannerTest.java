@@ -0,0 +1,121 @@
+package com.otr.lotto.scan;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.otr.lotto.domain.Participant;
+import com.otr.lotto.domain.ParticipantResult;
+import com.otr.lotto.mapper.ParticipantMapper;
+import com.otr.lotto.mapper.PrizeMapper;
+import com.otr.lotto.support.TestDateConfig;
+import com.otr.lotto.support.TestEventData;
+
+/**
+ * 참여자 keyset 스캔 테스트 (DB)
+ *
+ * 페이지 크기를 3으로 줄여 여러 페이지에 걸친 keyset 조회를 실제 쿼리로 확인합니다.
+ */
+@SpringBootTest(properties = "lotto.scan.page-size=3")
+@Transactional
+@Import(TestDateConfig.class)
+@DisplayName("참여자 keyset 스캔 테스트")
+class ParticipantScannerTest {
+
+    @Autowired
+    private ParticipantScanner participantScanner;
+
+    @Autowired
+    private ParticipantMapper participantMapper;
+
+    @Autowired
+    private PrizeMapper prizeMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long eventId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        TestEventData.clearCommitted(transactionManager, jdbcTemplate, eventId);
+    }
+
+    @Test
+    @DisplayName("결과 페이지 순회 - 여러 페이지에 걸쳐 전체 참여자를 ID 순서로 한 번씩, 당첨 rank 포함")
+    void testForEachResultPage_AllParticipantsAcrossPages() {
+        // Given: 참여자 8명 (페이지 3 → 3페이지 이상), 그 중 2명 당첨
+        List<Long> insertedIds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Participant participant = new Participant();
+            participant.setEventId(eventId);
+            participant.setPhoneHash(String.format("scan-test-hash-%02d", i));
+            participantMapper.insert(participant);
+            insertedIds.add(participant.getId());
+        }
+        prizeMapper.insert(eventId, insertedIds.get(1), 2);
+        prizeMapper.insert(eventId, insertedIds.get(6), 4);
+
+        // When
+        List<ParticipantResult> scanned = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        long total = participantScanner.forEachResultPage(eventId, page -> {
+            pageSizes.add(page.size());
+            scanned.addAll(page);
+        });
+
+        // Then: 이벤트 참여자 전체를 누락/중복 없이 ID 오름차순으로 조회
+        assertEquals(participantMapper.countByEvent(eventId), total);
+        assertEquals(total, scanned.size());
+        for (int i = 1; i < scanned.size(); i++) {
+            assertTrue(
+                scanned.get(i - 1).getParticipantId() < scanned.get(i).getParticipantId(),
+                "ID 오름차순이어야 함"
+            );
+        }
+        assertTrue(pageSizes.size() >= 3, "페이지 크기 3으로 여러 페이지 조회");
+        assertTrue(pageSizes.stream().allMatch(size -> size <= 3), "페이지는 lotto.scan.page-size 이하");
+
+        // Then: 새 참여자의 phone_hash/rank (prize 없으면 0)
+        Map<Long, ParticipantResult> byId = new HashMap<>();
+        for (ParticipantResult entry : scanned) {
+            byId.put(entry.getParticipantId(), entry);
+        }
+        for (int i = 0; i < insertedIds.size(); i++) {
+            ParticipantResult entry = byId.get(insertedIds.get(i));
+            assertEquals(String.format("scan-test-hash-%02d", i), entry.getPhoneHash());
+            int expectedRank = i == 1 ? 2 : i == 6 ? 4 : 0;
+            assertEquals(expectedRank, entry.getRank());
+        }
+    }
+
+    @Test
+    @DisplayName("참여자 없는 이벤트 - 0건, 페이지 전달 없음")
+    void testForEachResultPage_NoParticipants() {
+        // Given
+        List<List<ParticipantResult>> pages = new ArrayList<>();
+
+        // When
+        long total = participantScanner.forEachResultPage(Long.MAX_VALUE, pages::add);
+
+        // Then
+        assertEquals(0L, total);
+        assertTrue(pages.isEmpty());
+    }
+}
@@ -0,0 +1,18 @@
+package com.otr.lotto.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import com.otr.lotto.support.TestDateConfig;
+
+/**
+ * 번호 배정 동시성 스트레스 테스트 - claim 모드 (./gradlew stressTest)
+ *
+ * ParticipationStressTest와 같은 시나리오/검증을 lotto.participation.assignment-mode=claim으로 실행합니다.
+ */
+@SpringBootTest(properties = "lotto.participation.assignment-mode=claim")
+@Import(TestDateConfig.class)
+@DisplayName("번호 배정 동시성 스트레스 테스트 (claim 모드)")
+class ClaimModeParticipationStressTest extends ParticipationStressTest {
+}
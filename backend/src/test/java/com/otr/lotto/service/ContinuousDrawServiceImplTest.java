@@ -0,0 +1,155 @@
+package com.otr.lotto.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.otr.lotto.domain.Participant;
+import com.otr.lotto.domain.Prize;
+import com.otr.lotto.domain.TicketPool;
+import com.otr.lotto.dto.DrawResponse;
+import com.otr.lotto.dto.ParticipateRequest;
+import com.otr.lotto.dto.ParticipateResponse;
+import com.otr.lotto.mapper.EventMapper;
+import com.otr.lotto.mapper.ParticipantMapper;
+import com.otr.lotto.mapper.PrizeMapper;
+import com.otr.lotto.mapper.TicketPoolMapper;
+import com.otr.lotto.serviceImpl.DrawServiceImpl;
+import com.otr.lotto.serviceImpl.ParticipationServiceImpl;
+import com.otr.lotto.serviceImpl.TicketPoolServiceImpl;
+import com.otr.lotto.support.TestDateConfig;
+import com.otr.lotto.support.TestEventData;
+
+/**
+ * 연속 산정 모드 당첨 산정 테스트 (DB, lotto.draw.continuous=true)
+ *
+ * 참여 서비스와 산정 서비스 모두 이 설정으로 만든 컨텍스트의 빈을 사용합니다.
+ * 테스트 트랜잭션에 참여하므로 참여/산정 결과와 drawn_at은 테스트 후 롤백됩니다.
+ */
+@SpringBootTest(properties = "lotto.draw.continuous=true")
+@Transactional
+@Import(TestDateConfig.class)
+@DisplayName("당첨 산정 서비스 테스트 (연속 산정 모드)")
+class ContinuousDrawServiceImplTest {
+    private static final String FIXED_FIRST_PHONE = "010-1234-5678";
+
+    @Autowired
+    private DrawServiceImpl drawService;
+
+    @Autowired
+    private ParticipationServiceImpl participationService;
+
+    @Autowired
+    private EventMapper eventMapper;
+
+    @Autowired
+    private ParticipantMapper participantMapper;
+
+    @Autowired
+    private TicketPoolMapper ticketPoolMapper;
+
+    @Autowired
+    private PrizeMapper prizeMapper;
+
+    @Autowired
+    private TicketPoolServiceImpl ticketPoolService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long eventId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        TestDateConfig.setFixedDate(java.time.LocalDate.of(2025, 2, 15));
+        // 다른 테스트가 커밋한 참여/당첨/확정 데이터 초기화
+        TestEventData.clearCommitted(transactionManager, jdbcTemplate, eventId);
+        if (ticketPoolMapper.countByEvent(eventId) == 0) {
+            ticketPoolService.preparePool(eventId);
+        }
+    }
+
+    @Test
+    @DisplayName("참여 시점에 당첨자 기록, 산정은 누락분만 보충하고 확정")
+    void testExecuteDraw_ContinuousMode() {
+        // Given: 1등 보장 휴대폰 + 비당첨 번호가 나올 때까지 참여 (참여 시점에 prize 기록)
+        List<ParticipateResponse> responses = new ArrayList<>();
+        responses.add(participate(FIXED_FIRST_PHONE));
+        int nonWinners = 0;
+        for (int i = 0; i < 20 && nonWinners == 0; i++) {
+            ParticipateResponse response = participate(String.format("010-4000-%04d", i));
+            responses.add(response);
+            if (rankOf(response) == 0) {
+                nonWinners++;
+            }
+        }
+        assertEquals(1, nonWinners, "비당첨 번호 배정 사례 필요");
+
+        // Then: 당첨 번호를 받은 참여자만 같은 rank로 prize 기록
+        long winnersAtParticipation = 0;
+        for (ParticipateResponse response : responses) {
+            int rank = rankOf(response);
+            Prize prize = prizeMapper.findByEventAndParticipantId(eventId, response.getParticipantId());
+            assertEquals(rank >= 1, prize != null, "참여자 " + response.getParticipantId() + " rank " + rank);
+            if (rank >= 1) {
+                assertEquals(rank, prize.getRank());
+                winnersAtParticipation++;
+            }
+        }
+        assertEquals(1, prizeMapper.findByEventAndParticipantId(eventId, responses.get(0).getParticipantId()).getRank());
+        assertEquals(winnersAtParticipation, prizeMapper.countByEvent(eventId));
+
+        // When: 나머지 당첨 번호 배정 후 산정
+        assignRemainingWinningTickets();
+        DrawResponse response = drawService.executeDraw(eventId);
+
+        // Then: 기존 prize는 중복 생성 없이 유지, 전체 1,000건으로 확정
+        assertEquals(1_000, response.getTotalWinners());
+        assertEquals(1, response.getFirstPrizeCount());
+        assertEquals(1_000L, prizeMapper.countByEvent(eventId));
+        assertNotNull(eventMapper.findById(eventId).getDrawnAt());
+    }
+
+    private ParticipateResponse participate(String phone) {
+        ParticipateRequest request = new ParticipateRequest();
+        request.setPhone(phone);
+        return participationService.participate(request);
+    }
+
+    private int rankOf(ParticipateResponse response) {
+        TicketPool pool = ticketPoolMapper.findByEventAndParticipantId(eventId, response.getParticipantId());
+        return pool.getRank() == null ? 0 : pool.getRank();
+    }
+
+    /**
+     * 아직 배정되지 않은 당첨 번호를 새 참여자에게 직접 배정
+     */
+    private void assignRemainingWinningTickets() {
+        List<Long> poolIds = jdbcTemplate.queryForList(
+            "SELECT id FROM ticket_pool WHERE event_id = ? AND rank >= 1 AND assigned_participant_id IS NULL ORDER BY id",
+            Long.class, eventId
+        );
+        for (int i = 0; i < poolIds.size(); i++) {
+            Participant participant = new Participant();
+            participant.setEventId(eventId);
+            participant.setPhoneHash(String.format("%064d", 800_000 + i));
+            participantMapper.insert(participant);
+            assertEquals(1, ticketPoolMapper.assignParticipant(poolIds.get(i), participant.getId()));
+        }
+        assertEquals(ticketPoolMapper.countWinningTickets(eventId), ticketPoolMapper.countAssignedWinners(eventId));
+    }
+}
@@ -0,0 +1,160 @@
+package com.otr.lotto.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.otr.lotto.common.ApiException;
+import com.otr.lotto.common.ErrorCode;
+import com.otr.lotto.domain.Participant;
+import com.otr.lotto.dto.DrawResponse;
+import com.otr.lotto.mapper.EventMapper;
+import com.otr.lotto.mapper.ParticipantMapper;
+import com.otr.lotto.mapper.PrizeMapper;
+import com.otr.lotto.mapper.TicketPoolMapper;
+import com.otr.lotto.mapper.UnconfirmedWinnerMapper;
+import com.otr.lotto.serviceImpl.DrawServiceImpl;
+import com.otr.lotto.serviceImpl.TicketPoolServiceImpl;
+import com.otr.lotto.support.TestDateConfig;
+import com.otr.lotto.support.TestEventData;
+
+/**
+ * 당첨 산정 서비스 테스트 (DB)
+ *
+ * 당첨 번호(rank ≥ 1) 1,000개를 모두 배정한 뒤 산정합니다.
+ * 테스트 트랜잭션에 참여하므로 산정 결과와 drawn_at은 테스트 후 롤백됩니다.
+ * (커밋 후 인덱스 생성은 실행되지 않음)
+ * 연속 산정 모드는 설정이 다른 컨텍스트가 필요하므로 ContinuousDrawServiceImplTest에서 확인합니다.
+ */
+@SpringBootTest
+@Transactional
+@Import(TestDateConfig.class)
+@DisplayName("당첨 산정 서비스 테스트")
+class DrawServiceImplTest {
+
+    @Autowired
+    private DrawServiceImpl drawService;
+
+    @Autowired
+    private EventMapper eventMapper;
+
+    @Autowired
+    private ParticipantMapper participantMapper;
+
+    @Autowired
+    private TicketPoolMapper ticketPoolMapper;
+
+    @Autowired
+    private PrizeMapper prizeMapper;
+
+    @Autowired
+    private UnconfirmedWinnerMapper unconfirmedWinnerMapper;
+
+    @Autowired
+    private TicketPoolServiceImpl ticketPoolService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long eventId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        TestDateConfig.setFixedDate(java.time.LocalDate.of(2025, 2, 15));
+        // 다른 테스트가 커밋한 참여/당첨/확정 데이터 초기화
+        TestEventData.clearCommitted(transactionManager, jdbcTemplate, eventId);
+        if (ticketPoolMapper.countByEvent(eventId) == 0) {
+            ticketPoolService.preparePool(eventId);
+        }
+    }
+
+    @Test
+    @DisplayName("당첨 산정 - 등수별 1/5/44/950명, prize/미확인 당첨자 1,000건, drawn_at 기록")
+    void testExecuteDraw_PrizeCounts() {
+        // Given: 당첨 번호 전부 배정
+        assignRemainingWinningTickets();
+
+        // When
+        DrawResponse response = drawService.executeDraw(eventId);
+
+        // Then
+        assertEquals(eventId, response.getEventId());
+        assertEquals(1_000, response.getTotalWinners());
+        assertEquals(1, response.getFirstPrizeCount());
+        assertEquals(5, response.getSecondPrizeCount());
+        assertEquals(44, response.getThirdPrizeCount());
+        assertEquals(950, response.getFourthPrizeCount());
+        assertEquals(1_000L, prizeMapper.countByEvent(eventId));
+        assertEquals(1_000L, unconfirmedWinnerMapper.countByEvent(eventId));
+        assertNotNull(eventMapper.findById(eventId).getDrawnAt(), "확정 시간 기록");
+    }
+
+    @Test
+    @DisplayName("확정 후 재산정 - drawn_at 봉인으로 다시 산정하지 않고 기존 결과만 반환")
+    void testExecuteDraw_SealRejectsSecondDraw() {
+        // Given: 산정 완료 후 prize 1건을 지움 (재산정이 일어나면 다시 생성됨)
+        assignRemainingWinningTickets();
+        drawService.executeDraw(eventId);
+        Long removedWinner = jdbcTemplate.queryForObject(
+            "SELECT participant_id FROM prize WHERE event_id = ? AND rank = 4 ORDER BY id LIMIT 1",
+            Long.class, eventId
+        );
+        jdbcTemplate.update("DELETE FROM prize WHERE event_id = ? AND participant_id = ?", eventId, removedWinner);
+
+        // When
+        DrawResponse second = drawService.executeDraw(eventId);
+
+        // Then: prize를 다시 만들지 않음 (현재 prize 집계만 반환)
+        assertNull(prizeMapper.findByEventAndParticipantId(eventId, removedWinner));
+        assertEquals(999L, prizeMapper.countByEvent(eventId));
+        assertEquals(999, second.getTotalWinners());
+        assertEquals(949, second.getFourthPrizeCount());
+        assertEquals(1_000L, unconfirmedWinnerMapper.countByEvent(eventId), "미확인 당첨자 집합도 다시 만들지 않음");
+    }
+
+    @Test
+    @DisplayName("당첨 번호 미배정 - INVALID_REQUEST, prize 미생성")
+    void testExecuteDraw_NotAllWinnersAssigned() {
+        // Given: 당첨 번호 배정 없음
+        assertTrue(ticketPoolMapper.countAssignedWinners(eventId) < ticketPoolMapper.countWinningTickets(eventId));
+
+        // When & Then
+        ApiException exception = assertThrows(ApiException.class, () -> drawService.executeDraw(eventId));
+        assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+        assertEquals(0L, prizeMapper.countByEvent(eventId));
+    }
+
+    /**
+     * 아직 배정되지 않은 당첨 번호를 새 참여자에게 직접 배정
+     */
+    private void assignRemainingWinningTickets() {
+        List<Long> poolIds = jdbcTemplate.queryForList(
+            "SELECT id FROM ticket_pool WHERE event_id = ? AND rank >= 1 AND assigned_participant_id IS NULL ORDER BY id",
+            Long.class, eventId
+        );
+        for (int i = 0; i < poolIds.size(); i++) {
+            Participant participant = new Participant();
+            participant.setEventId(eventId);
+            participant.setPhoneHash(String.format("%064d", 800_000 + i));
+            participantMapper.insert(participant);
+            assertEquals(1, ticketPoolMapper.assignParticipant(poolIds.get(i), participant.getId()));
+        }
+        assertEquals(ticketPoolMapper.countWinningTickets(eventId), ticketPoolMapper.countAssignedWinners(eventId));
+    }
+}
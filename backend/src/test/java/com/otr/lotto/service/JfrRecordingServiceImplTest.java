@@ -0,0 +1,93 @@
+package com.otr.lotto.service;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.otr.lotto.common.ApiException;
+import com.otr.lotto.dto.JfrRecordingResponse;
+import com.otr.lotto.jfr.ParticipateEvent;
+import com.otr.lotto.serviceImpl.JfrRecordingServiceImpl;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@DisplayName("JFR 기록 관리 서비스 테스트")
+class JfrRecordingServiceImplTest {
+
+    @TempDir
+    private Path dumpDir;
+
+    private JfrRecordingServiceImpl jfrRecordingService;
+
+    @AfterEach
+    void tearDown() {
+        if (jfrRecordingService != null) {
+            jfrRecordingService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("시작 → 업무 이벤트 기록 → 저장 파일에 포함 → 중지")
+    void testStartDumpStop() throws Exception {
+        // Given
+        jfrRecordingService = new JfrRecordingServiceImpl("default", 5, dumpDir.toString());
+        JfrRecordingResponse started = jfrRecordingService.start(null);
+        assertEquals("RUNNING", started.getState());
+        assertEquals(5L, started.getMaxAgeMinutes());
+
+        // When
+        ParticipateEvent event = new ParticipateEvent();
+        event.begin();
+        event.setEventId(1L);
+        event.setOutcome("SUCCESS");
+        event.setRank(3);
+        event.commit();
+        JfrRecordingResponse dumped = jfrRecordingService.dump();
+
+        // Then
+        assertNotNull(dumped.getDumpPath());
+        List<RecordedEvent> recorded = RecordingFile.readAllEvents(Path.of(dumped.getDumpPath()));
+        assertTrue(recorded.stream().anyMatch(e ->
+                e.getEventType().getName().equals("com.otr.lotto.Participate")
+                        && e.getLong("eventId") == 1L
+                        && e.getInt("rank") == 3
+                        && "SUCCESS".equals(e.getString("outcome"))));
+
+        assertEquals("NONE", jfrRecordingService.stop().getState());
+    }
+
+    @Test
+    @DisplayName("기록 중 시작 요청 - 기존 기록 유지")
+    void testStart_AlreadyRunning() {
+        // Given
+        jfrRecordingService = new JfrRecordingServiceImpl("default", 5, dumpDir.toString());
+        JfrRecordingResponse first = jfrRecordingService.start(10);
+
+        // When
+        JfrRecordingResponse second = jfrRecordingService.start(20);
+
+        // Then
+        assertEquals(first.getStartedAt(), second.getStartedAt());
+        assertEquals(10L, second.getMaxAgeMinutes());
+    }
+
+    @Test
+    @DisplayName("기록 없이 저장 요청 - 예외")
+    void testDump_NotRunning() {
+        // Given
+        jfrRecordingService = new JfrRecordingServiceImpl("default", 5, dumpDir.toString());
+
+        // When & Then
+        assertThrows(ApiException.class, () -> jfrRecordingService.dump());
+        assertEquals("NONE", jfrRecordingService.getStatus().getState());
+    }
+}
@@ -0,0 +1,114 @@
+package com.otr.lotto.service;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.otr.lotto.domain.JobLease;
+import com.otr.lotto.mapper.JobLeaseMapper;
+import com.otr.lotto.serviceImpl.JobLeaseServiceImpl;
+import com.otr.lotto.support.TestEventData;
+
+@SpringBootTest
+@Transactional
+@DisplayName("작업 실행권(lease) 서비스 테스트")
+class JobLeaseServiceImplTest {
+
+    @Autowired
+    private JobLeaseServiceImpl jobLeaseService;
+
+    @Autowired
+    private JobLeaseMapper jobLeaseMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String leaseKey = "test:lease";
+    private Duration ttl = Duration.ofMinutes(5);
+
+    @BeforeEach
+    void setUp() {
+        // 다른 실행이 커밋하고 남긴 테스트 lease 초기화
+        TestEventData.clearLeases(transactionManager, jdbcTemplate, "test:");
+    }
+
+    @Test
+    @DisplayName("신규 lease - 획득 성공, 현재 노드 소유")
+    void testTryAcquire_New() {
+        // When
+        boolean acquired = jobLeaseService.tryAcquire(leaseKey, ttl);
+
+        // Then
+        assertTrue(acquired);
+        JobLease lease = jobLeaseMapper.findByKey(leaseKey);
+        assertEquals(jobLeaseService.getNodeId(), lease.getOwner());
+    }
+
+    @Test
+    @DisplayName("본인 보유 lease - 재획득(연장) 성공")
+    void testTryAcquire_Renew() {
+        // Given
+        jobLeaseService.tryAcquire(leaseKey, ttl);
+
+        // When & Then
+        assertTrue(jobLeaseService.tryAcquire(leaseKey, ttl));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보유한 유효 lease - 획득 실패")
+    void testTryAcquire_HeldByOtherNode() {
+        // Given
+        jobLeaseMapper.insertIgnore(leaseKey, "other-node:1", 300);
+
+        // When
+        boolean acquired = jobLeaseService.tryAcquire(leaseKey, ttl);
+
+        // Then
+        assertFalse(acquired);
+        assertEquals("other-node:1", jobLeaseMapper.findByKey(leaseKey).getOwner());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 만료된 lease - 가져오기 성공")
+    void testTryAcquire_ExpiredLease() {
+        // Given: 이미 만료된 lease
+        jobLeaseMapper.insertIgnore(leaseKey, "other-node:1", -10);
+
+        // When
+        boolean acquired = jobLeaseService.tryAcquire(leaseKey, ttl);
+
+        // Then
+        assertTrue(acquired);
+        assertEquals(jobLeaseService.getNodeId(), jobLeaseMapper.findByKey(leaseKey).getOwner());
+    }
+
+    @Test
+    @DisplayName("반납 - 본인 lease만 삭제")
+    void testRelease() {
+        // Given
+        jobLeaseService.tryAcquire(leaseKey, ttl);
+        jobLeaseMapper.insertIgnore("test:other", "other-node:1", 300);
+
+        // When
+        jobLeaseService.release(leaseKey);
+        jobLeaseService.release("test:other");
+
+        // Then
+        assertNull(jobLeaseMapper.findByKey(leaseKey));
+        assertEquals("other-node:1", jobLeaseMapper.findByKey("test:other").getOwner());
+    }
+}
@@ -1,5 +1,9 @@
 package com.otr.lotto.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -10,6 +14,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.otr.lotto.common.ApiException;
@@ -23,6 +30,7 @@ import com.otr.lotto.mapper.TicketPoolMapper;
 import com.otr.lotto.serviceImpl.ParticipationServiceImpl;
 import com.otr.lotto.serviceImpl.TicketPoolServiceImpl;
 import com.otr.lotto.support.TestDateConfig;
+import com.otr.lotto.support.TestEventData;
 
 @SpringBootTest
 @Transactional
@@ -42,13 +50,19 @@ class ParticipationServiceImplTest {
     @Autowired
     private TicketPoolServiceImpl ticketPoolService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private Long eventId = 1L;
 
     @BeforeEach
     void setUp() {
         TestDateConfig.setFixedDate(java.time.LocalDate.of(2025, 2, 15));
-        // 테스트 격리: 참가자 초기화
-        participantMapper.deleteByEvent(eventId);
+        // 테스트 격리: 다른 테스트가 커밋한 참여 데이터 초기화
+        TestEventData.clearCommitted(transactionManager, jdbcTemplate, eventId);
         if (ticketPoolMapper.countByEvent(eventId) == 0) {
             ticketPoolService.preparePool(eventId);
         }
@@ -130,8 +144,8 @@ class ParticipationServiceImplTest {
         // When
         ParticipateResponse response = participationService.participate(request);
 
-        // Then: 받은 번호가 ticket_pool의 seq 1번과 매핑되어야 함
-        TicketPool pool = ticketPoolMapper.findByEventAndSeq(eventId, response.getParticipantId());
+        // Then: 받은 번호가 참여자에게 배정된 ticket_pool 항목과 일치해야 함
+        TicketPool pool = ticketPoolMapper.findByEventAndParticipantId(eventId, response.getParticipantId());
         assertNotNull(pool);
         assertEquals(response.getLottoNumber(), pool.getLottoNumber());
         assertEquals(response.getParticipantId(), pool.getAssignedParticipantId());
@@ -154,7 +168,107 @@ class ParticipationServiceImplTest {
         ParticipateResponse response = participationService.participate(request);
 
         // Then: 배정된 번호의 rank를 확인 (1등이어야 함)
-        TicketPool assignedPool = ticketPoolMapper.findByEventAndSeq(eventId, response.getParticipantId());
+        TicketPool assignedPool = ticketPoolMapper.findByEventAndParticipantId(eventId, response.getParticipantId());
         assertEquals(1, assignedPool.getRank(), "특정 휴대폰은 1등 번호를 받아야 함");
     }
+
+    @Test
+    @DisplayName("참여자 ID가 건너뛰어도 가장 작은 미배정 seq 배정")
+    void testParticipate_SeqIndependentOfParticipantId() {
+        // Given: 번호 없이 ID만 쓴 참여자 3명 (롤백/중복 INSERT로 AUTO_INCREMENT 값이 건너뛴 상황)
+        for (int i = 1; i <= 3; i++) {
+            Participant skipped = new Participant();
+            skipped.setEventId(eventId);
+            skipped.setPhoneHash(String.format("%064d", 600_000 + i));
+            participantMapper.insert(skipped);
+        }
+        Long lowestUnassignedSeq = jdbcTemplate.queryForObject(
+            "SELECT MIN(seq) FROM ticket_pool WHERE event_id = ? AND assigned_participant_id IS NULL",
+            Long.class, eventId
+        );
+
+        ParticipateRequest request = new ParticipateRequest();
+        request.setPhone("010-3333-4444");
+
+        // When
+        ParticipateResponse response = participationService.participate(request);
+
+        // Then: 참여자 ID와 무관하게 비어 있는 첫 seq를 받음
+        TicketPool pool = ticketPoolMapper.findByEventAndParticipantId(eventId, response.getParticipantId());
+        assertEquals(lowestUnassignedSeq, pool.getSeq());
+    }
+
+    @Test
+    @DisplayName("선점(claim) 모드 - 미배정 번호 배정, 1등 보장 유지")
+    void testParticipate_ClaimMode() {
+        // Given: 번호 선점 모드
+        ReflectionTestUtils.setField(participationService, "assignmentMode", "claim");
+        try {
+            ParticipateRequest request = new ParticipateRequest();
+            request.setPhone("010-7777-8888");
+
+            // When
+            ParticipateResponse response = participationService.participate(request);
+
+            // Then: 미배정 번호가 배정되고, 1등 번호는 받지 않아야 함
+            TicketPool pool = ticketPoolMapper.findByEventAndParticipantId(eventId, response.getParticipantId());
+            assertEquals(response.getLottoNumber(), pool.getLottoNumber());
+            assertEquals(response.getParticipantId(), pool.getAssignedParticipantId());
+            assertTrue(pool.getRank() == null || pool.getRank() != 1);
+
+            // 1등 보장 휴대폰은 선점 모드에서도 1등 번호를 받아야 함
+            ParticipateRequest winnerRequest = new ParticipateRequest();
+            winnerRequest.setPhone("010-1234-5678");
+            ParticipateResponse winnerResponse = participationService.participate(winnerRequest);
+            TicketPool winnerPool = ticketPoolMapper.findByEventAndParticipantId(eventId, winnerResponse.getParticipantId());
+            assertEquals(1, winnerPool.getRank());
+            assertEquals(winnerResponse.getParticipantId(), winnerPool.getAssignedParticipantId());
+
+            // 중복 참여는 그대로 차단
+            ApiException exception = assertThrows(ApiException.class, () -> participationService.participate(request));
+            assertEquals(ErrorCode.DUPLICATE_PARTICIPATION, exception.getErrorCode());
+        } finally {
+            ReflectionTestUtils.setField(participationService, "assignmentMode", "swap");
+        }
+    }
+
+    @Test
+    @DisplayName("선점(claim) 모드 - 번호 없이 남은 참여자는 같은 휴대폰 재요청 시 그 참여자로 선점")
+    void testParticipate_ClaimModeResumesParticipantWithoutTicket() throws NoSuchAlgorithmException {
+        // Given: 참여자 등록 후 번호 선점에 실패한 상태 (참여자만 있고 번호 없음)
+        ReflectionTestUtils.setField(participationService, "assignmentMode", "claim");
+        try {
+            Participant stranded = new Participant();
+            stranded.setEventId(eventId);
+            stranded.setPhoneHash(sha256("01055556666"));
+            participantMapper.insert(stranded);
+
+            ParticipateRequest request = new ParticipateRequest();
+            request.setPhone("010-5555-6666");
+
+            // When
+            ParticipateResponse response = participationService.participate(request);
+
+            // Then: 새 참여자를 만들지 않고 남아 있던 참여자에게 번호 배정
+            assertEquals(stranded.getId(), response.getParticipantId());
+            TicketPool pool = ticketPoolMapper.findByEventAndParticipantId(eventId, stranded.getId());
+            assertNotNull(pool);
+            assertEquals(response.getLottoNumber(), pool.getLottoNumber());
+
+            // 번호를 받은 뒤에는 중복 참여
+            ApiException exception = assertThrows(ApiException.class, () -> participationService.participate(request));
+            assertEquals(ErrorCode.DUPLICATE_PARTICIPATION, exception.getErrorCode());
+        } finally {
+            ReflectionTestUtils.setField(participationService, "assignmentMode", "swap");
+        }
+    }
+
+    private String sha256(String value) throws NoSuchAlgorithmException {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        StringBuilder builder = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
 }
@@ -0,0 +1,266 @@
+package com.otr.lotto.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.otr.lotto.common.ApiException;
+import com.otr.lotto.dto.ParticipateRequest;
+import com.otr.lotto.dto.ParticipateResponse;
+import com.otr.lotto.metrics.LottoMetrics;
+import com.otr.lotto.serviceImpl.ParticipationServiceImpl;
+import com.otr.lotto.serviceImpl.TicketPoolServiceImpl;
+import com.otr.lotto.support.TestDateConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 번호 배정 동시성 스트레스 테스트 (./gradlew stressTest)
+ *
+ * 정원 10,000명 + 중복 요청을 동시에 참여시켜 번호 배정의 불변 조건을 확인합니다.
+ * - 한 번호가 두 참여자에게 배정되지 않음 / 참여자마다 번호 정확히 1개
+ * - 지정 휴대폰(010-1234-5678)이 유일한 1등 번호를 받음
+ * - 스왑 후에도 rank별 개수(1/5/44/950/9,000) 유지
+ *
+ * 트랜잭션을 커밋하므로 @Transactional을 쓰지 않고, 전후로 이벤트 1번 데이터를 지웁니다.
+ * 로컬 DB에서만 실행하세요.
+ *
+ * 요청은 컨트롤러와 같이 서비스를 직접 호출하므로 데드락(1213)/잠금 대기 시간 초과(1205)는
+ * 서비스 안에서 lotto.retry.* 설정대로 재시도되고, 소진되면 SERVER_BUSY로 집계됩니다.
+ * 중복 INSERT/롤백으로 participant.id가 건너뛰어도 배정할 번호가 남아야 하므로
+ * 신규 번호는 모두 성공하고 중복 요청은 모두 DUPLICATE_PARTICIPATION이어야 합니다.
+ *
+ * swap 모드(기본)로 실행하며, claim 모드는 ClaimModeParticipationStressTest에서 같은 시나리오로 실행합니다.
+ */
+@Tag("stress")
+@SpringBootTest
+@Import(TestDateConfig.class)
+@DisplayName("번호 배정 동시성 스트레스 테스트")
+class ParticipationStressTest {
+    private static final Logger log = LoggerFactory.getLogger(ParticipationStressTest.class);
+    private static final String FIXED_FIRST_PHONE = "010-1234-5678";
+
+    private final int threads = Integer.getInteger("stress.threads", 64);
+    private final int participants = Integer.getInteger("stress.participants", 10_000);
+    private final int duplicates = Integer.getInteger("stress.duplicates", 500);
+
+    @Autowired
+    private ParticipationServiceImpl participationService;
+
+    @Autowired
+    private TicketPoolServiceImpl ticketPoolService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${lotto.participation.assignment-mode:swap}")
+    private String assignmentMode;
+
+    private Long eventId = 1L;
+
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final Map<String, ParticipateResponse> assignedByPhone = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        TestDateConfig.setFixedDate(java.time.LocalDate.of(2025, 2, 15));
+        clearEvent();
+        ticketPoolService.preparePool(eventId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearEvent();
+        ticketPoolService.preparePool(eventId);
+    }
+
+    @Test
+    @DisplayName("동시 참여 - 중복 배정 없음, 지정 휴대폰 1등, rank별 개수 유지")
+    void testConcurrentParticipation_Invariants() throws Exception {
+        // Given: 신규 번호(지정 휴대폰 포함) + 중복 요청을 섞은 순서
+        List<String> phones = new ArrayList<>(participants + duplicates);
+        phones.add(FIXED_FIRST_PHONE);
+        for (int i = 1; i < participants; i++) {
+            phones.add(String.format("010-9%03d-%04d", i / 10_000, i % 10_000));
+        }
+        Random random = new Random(20250215L);
+        for (int i = 0; i < duplicates; i++) {
+            phones.add(phones.get(random.nextInt(participants)));
+        }
+        Collections.shuffle(phones, random);
+
+        // When: 시작 신호 후 동시에 참여
+        Map<String, Double> retriesBefore = retryCounts();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(phones.size());
+        for (String phone : phones) {
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                participate(phone);
+                return null;
+            }));
+        }
+        long startedAt = System.nanoTime();
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+        printSummary(phones.size(), elapsedNanos, retriesBefore);
+
+        // Then: 신규 번호는 모두 성공, 중복 요청은 모두 중복 참여로 거절
+        assertEquals(participants, outcomeCount("SUCCESS"), "성공 건수: " + outcomes);
+        assertEquals(duplicates, outcomeCount("DUPLICATE_PARTICIPATION"), "중복 참여 건수: " + outcomes);
+
+        // Then: 번호 1개에 참여자 1명, 참여자마다 번호 1개
+        long participantCount = count("SELECT COUNT(*) FROM participant WHERE event_id = ?");
+        long assignedCount = count("SELECT COUNT(*) FROM ticket_pool WHERE event_id = ? AND assigned_participant_id IS NOT NULL");
+        long distinctAssigned = count("SELECT COUNT(DISTINCT assigned_participant_id) FROM ticket_pool WHERE event_id = ?");
+        long participantsWithoutTicket = count(
+            "SELECT COUNT(*) FROM participant p "
+                + "LEFT JOIN ticket_pool t ON t.event_id = p.event_id AND t.assigned_participant_id = p.id "
+                + "WHERE p.event_id = ? AND t.id IS NULL"
+        );
+        assertEquals(participantCount, assignedCount);
+        assertEquals(assignedCount, distinctAssigned);
+        assertEquals(0L, participantsWithoutTicket);
+        assertEquals(assignedByPhone.size(), (int) participantCount);
+
+        // Then: 응답으로 받은 번호가 그 참여자에게 배정된 번호와 일치
+        for (ParticipateResponse response : assignedByPhone.values()) {
+            String lottoNumber = jdbcTemplate.queryForObject(
+                "SELECT lotto_number FROM ticket_pool WHERE event_id = ? AND assigned_participant_id = ?",
+                String.class, eventId, response.getParticipantId()
+            );
+            assertEquals(response.getLottoNumber(), lottoNumber);
+        }
+
+        // Then: 지정 휴대폰이 유일한 1등 번호 보유
+        assertTrue(assignedByPhone.containsKey(FIXED_FIRST_PHONE), "지정 휴대폰 참여 실패");
+        Integer fixedRank = jdbcTemplate.queryForObject(
+            "SELECT t.rank FROM ticket_pool t "
+                + "JOIN participant p ON p.id = t.assigned_participant_id "
+                + "JOIN event e ON e.id = p.event_id AND e.fixed_first_phone_hash = p.phone_hash "
+                + "WHERE t.event_id = ?",
+            Integer.class, eventId
+        );
+        assertEquals(1, fixedRank);
+
+        // Then: rank별 개수 유지 (스왑은 rank/번호를 맞바꾸기만 함)
+        assertEquals(1L, countRank(1));
+        assertEquals(5L, countRank(2));
+        assertEquals(44L, countRank(3));
+        assertEquals(950L, countRank(4));
+        assertEquals(9_000L, countRank(0));
+    }
+
+    /**
+     * 참여 1건 (잠금 실패 재시도는 서비스 안에서 처리)
+     */
+    private void participate(String phone) {
+        try {
+            ParticipateResponse response = participationService.participate(new ParticipateRequest(phone));
+            assignedByPhone.put(phone, response);
+            outcome("SUCCESS");
+        } catch (ApiException ex) {
+            outcome(ex.getCode());
+        } catch (RuntimeException ex) {
+            outcome(ex.getClass().getSimpleName());
+        }
+    }
+
+    private void outcome(String key) {
+        outcomes.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    private long outcomeCount(String key) {
+        LongAdder count = outcomes.get(key);
+        return count == null ? 0L : count.sum();
+    }
+
+    /**
+     * 참여 재시도 지표 (outcome별 누적값)
+     */
+    private Map<String, Double> retryCounts() {
+        Map<String, Double> counts = new TreeMap<>();
+        for (Counter counter : meterRegistry.find("lotto.retry").tag("operation", LottoMetrics.PARTICIPATE).counters()) {
+            counts.put(counter.getId().getTag("outcome"), counter.count());
+        }
+        return counts;
+    }
+
+    private void printSummary(int requests, long elapsedNanos, Map<String, Double> retriesBefore) {
+        double seconds = elapsedNanos / 1e9;
+        Map<String, Long> sorted = new TreeMap<>();
+        outcomes.forEach((key, count) -> sorted.put(key, count.sum()));
+        Map<String, Long> retries = new TreeMap<>();
+        retryCounts().forEach((outcome, count) ->
+            retries.put(outcome, Math.round(count - retriesBefore.getOrDefault(outcome, 0.0)))
+        );
+
+        log.info(
+            "=== 번호 배정 스트레스 테스트 ({}): 요청 {}건, 스레드 {}, {}초 ===",
+            assignmentMode, requests, threads, String.format("%.2f", seconds)
+        );
+        log.info(
+            "처리율: {} 요청/초, 성공 {}건/초",
+            String.format("%.1f", requests / seconds),
+            String.format("%.1f", sorted.getOrDefault("SUCCESS", 0L) / seconds)
+        );
+        log.info("결과: {}", sorted);
+        log.info("잠금 실패 재시도 (lotto.retry): {}", retries);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class, eventId);
+    }
+
+    private long countRank(int rank) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM ticket_pool WHERE event_id = ? AND rank = ?", Long.class, eventId, rank
+        );
+    }
+
+    /**
+     * 이벤트 1번 참여 데이터 삭제
+     */
+    private void clearEvent() {
+        jdbcTemplate.update("DELETE FROM unconfirmed_winner WHERE event_id = ?", eventId);
+        jdbcTemplate.update("DELETE FROM prize WHERE event_id = ?", eventId);
+        jdbcTemplate.update("DELETE FROM sms_log WHERE event_id = ?", eventId);
+        jdbcTemplate.update("DELETE FROM ticket_pool WHERE event_id = ?", eventId);
+        jdbcTemplate.update("DELETE FROM participant WHERE event_id = ?", eventId);
+    }
+}
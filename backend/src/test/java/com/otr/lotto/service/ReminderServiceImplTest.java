@@ -0,0 +1,162 @@
+package com.otr.lotto.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.otr.lotto.common.ApiException;
+import com.otr.lotto.common.ErrorCode;
+import com.otr.lotto.domain.Participant;
+import com.otr.lotto.domain.ReminderCheckpoint;
+import com.otr.lotto.dto.ConfirmationRateResponse;
+import com.otr.lotto.dto.ReminderResponse;
+import com.otr.lotto.mapper.ParticipantMapper;
+import com.otr.lotto.mapper.PrizeMapper;
+import com.otr.lotto.mapper.ReminderCheckpointMapper;
+import com.otr.lotto.mapper.UnconfirmedWinnerMapper;
+import com.otr.lotto.serviceImpl.ReminderServiceImpl;
+import com.otr.lotto.support.TestDateConfig;
+import com.otr.lotto.support.TestEventData;
+
+@SpringBootTest
+@Transactional
+@Import(TestDateConfig.class)
+@DisplayName("미확인 당첨자 알림 서비스 테스트")
+class ReminderServiceImplTest {
+
+    @Autowired
+    private ReminderServiceImpl reminderService;
+
+    @Autowired
+    private ParticipantMapper participantMapper;
+
+    @Autowired
+    private PrizeMapper prizeMapper;
+
+    @Autowired
+    private ReminderCheckpointMapper reminderCheckpointMapper;
+
+    @Autowired
+    private UnconfirmedWinnerMapper unconfirmedWinnerMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long eventId = 1L;
+    private LocalDate reminderDate = LocalDate.of(2025, 4, 11); // 발표 시작일 + 10일
+    private List<Long> winnerIds;
+
+    @BeforeEach
+    void setUp() {
+        TestDateConfig.setFixedDate(reminderDate);
+        // 청크 경계를 확인하기 위해 작은 청크 크기 사용
+        ReflectionTestUtils.setField(reminderService, "chunkSize", 2);
+
+        // 다른 테스트가 커밋한 참여/당첨 데이터 초기화 후 미확인 당첨자 5명 생성
+        TestEventData.clearCommitted(transactionManager, jdbcTemplate, eventId);
+        winnerIds = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            Participant participant = new Participant();
+            participant.setEventId(eventId);
+            participant.setPhoneHash(String.format("%064d", 900_000 + i));
+            participantMapper.insert(participant);
+            winnerIds.add(participant.getId());
+            prizeMapper.insert(eventId, participant.getId(), 4);
+        }
+        unconfirmedWinnerMapper.insertFromPrize(eventId);
+    }
+
+    @Test
+    @DisplayName("청크 단위 발송 - 전원 기록 후 체크포인트 완료")
+    void testSend_AllChunks() {
+        // When
+        ReminderResponse response = reminderService.sendUnconfirmedWinnerReminders(eventId);
+
+        // Then
+        assertEquals(5, response.getTotalUnconfirmedWinners());
+        assertEquals(5, response.getRemindersSent());
+
+        ReminderCheckpoint checkpoint = reminderCheckpointMapper.find(eventId, reminderDate);
+        assertEquals(ReminderCheckpoint.STATUS_COMPLETED, checkpoint.getStatus());
+        assertEquals(5, checkpoint.getSentCount());
+        assertEquals(winnerIds.get(4), checkpoint.getLastParticipantId());
+    }
+
+    @Test
+    @DisplayName("같은 날 재실행 - 추가 발송 없음")
+    void testSend_SameDayAgain() {
+        // Given
+        reminderService.sendUnconfirmedWinnerReminders(eventId);
+
+        // When
+        ReminderResponse response = reminderService.sendUnconfirmedWinnerReminders(eventId);
+
+        // Then
+        assertEquals(0, response.getRemindersSent());
+    }
+
+    @Test
+    @DisplayName("중단 후 재실행 - 체크포인트 다음 참여자부터 발송")
+    void testSend_ResumeFromCheckpoint() {
+        // Given: 세 번째 당첨자까지 처리된 상태
+        reminderCheckpointMapper.insertIgnore(eventId, reminderDate);
+        reminderCheckpointMapper.advance(eventId, reminderDate, winnerIds.get(2), 3);
+
+        // When
+        ReminderResponse response = reminderService.sendUnconfirmedWinnerReminders(eventId);
+
+        // Then: 남은 2명만 기록
+        assertEquals(2, response.getRemindersSent());
+        ReminderCheckpoint checkpoint = reminderCheckpointMapper.find(eventId, reminderDate);
+        assertEquals(5, checkpoint.getSentCount());
+        assertEquals(ReminderCheckpoint.STATUS_COMPLETED, checkpoint.getStatus());
+    }
+
+    @Test
+    @DisplayName("확인한 당첨자 - 발송 대상/확인율에 반영")
+    void testConfirmedWinner_ExcludedAndCounted() {
+        // Given: 첫 번째 당첨자가 결과 확인 (첫 조회 시 미확인 집합에서 제거됨)
+        unconfirmedWinnerMapper.delete(eventId, winnerIds.get(0));
+
+        // When
+        ReminderResponse response = reminderService.sendUnconfirmedWinnerReminders(eventId);
+        ConfirmationRateResponse rate = reminderService.getConfirmationRate(eventId);
+
+        // Then
+        assertEquals(4, response.getTotalUnconfirmedWinners());
+        assertEquals(4, response.getRemindersSent());
+        assertEquals(5L, rate.getTotalWinners());
+        assertEquals(1L, rate.getConfirmedWinners());
+        assertEquals(4L, rate.getUnconfirmedWinners());
+        assertEquals(0.2, rate.getConfirmationRate(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("발표 10일 전 - 발송 불가")
+    void testSend_BeforeTargetDate() {
+        // Given
+        TestDateConfig.setFixedDate(LocalDate.of(2025, 4, 5));
+
+        // When & Then
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            reminderService.sendUnconfirmedWinnerReminders(eventId);
+        });
+        assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+    }
+}
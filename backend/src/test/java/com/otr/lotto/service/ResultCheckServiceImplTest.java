@@ -1,7 +1,5 @@
 package com.otr.lotto.service;
 
-import java.util.List;
-
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -13,18 +11,21 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.otr.lotto.domain.Prize;
 import com.otr.lotto.dto.ParticipateRequest;
 import com.otr.lotto.dto.ResultCheckRequest;
 import com.otr.lotto.dto.ResultCheckResponse;
 import com.otr.lotto.mapper.PrizeMapper;
 import com.otr.lotto.mapper.TicketPoolMapper;
+import com.otr.lotto.mapper.UnconfirmedWinnerMapper;
 import com.otr.lotto.serviceImpl.ParticipationServiceImpl;
 import com.otr.lotto.serviceImpl.ResultCheckServiceImpl;
 import com.otr.lotto.serviceImpl.TicketPoolServiceImpl;
 import com.otr.lotto.support.TestDateConfig;
+import com.otr.lotto.support.TestEventData;
 
 @SpringBootTest
 @Transactional
@@ -44,16 +45,25 @@ class ResultCheckServiceImplTest {
     @Autowired
     private TicketPoolMapper ticketPoolMapper;
 
+    @Autowired
+    private UnconfirmedWinnerMapper unconfirmedWinnerMapper;
+
     @Autowired
     private TicketPoolServiceImpl ticketPoolService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private Long eventId = 1L;
 
     @BeforeEach
     void setUp() {
         setAnnounceDate();
-        // 당첨자 초기화
-        prizeMapper.deleteByEvent(eventId);
+        // 다른 테스트가 커밋한 참여/당첨 데이터 초기화
+        TestEventData.clearCommitted(transactionManager, jdbcTemplate, eventId);
         if (ticketPoolMapper.countByEvent(eventId) == 0) {
             ticketPoolService.preparePool(eventId);
         }
@@ -123,11 +133,7 @@ class ResultCheckServiceImplTest {
         participateReq.setPhone("010-1234-5678"); // fixed_first_phone_hash
         var participateRes = participationService.participate(participateReq);
 
-        Prize prize = new Prize();
-        prize.setEventId(eventId);
-        prize.setParticipantId(participateRes.getParticipantId());
-        prize.setRank(1);
-        prizeMapper.insertBatch(List.of(prize));
+        prizeMapper.insert(eventId, participateRes.getParticipantId(), 1);
 
         // When
         setAnnounceDate();
@@ -141,6 +147,29 @@ class ResultCheckServiceImplTest {
         assertEquals(1, rank, "당첨자는 1등으로 설정됨");
     }
 
+    @Test
+    @DisplayName("당첨자 첫 조회 - 미확인 당첨자 집합에서 제거")
+    void testCheck_WinnerRemovedFromUnconfirmed() {
+        // Given: 당첨자 1명과 미확인 당첨자 집합
+        setEventDate();
+        ParticipateRequest participateReq = new ParticipateRequest();
+        participateReq.setPhone("010-1234-5678");
+        var participateRes = participationService.participate(participateReq);
+
+        prizeMapper.insert(eventId, participateRes.getParticipantId(), 1);
+        unconfirmedWinnerMapper.insertFromPrize(eventId);
+        assertEquals(1L, unconfirmedWinnerMapper.countByEvent(eventId));
+
+        // When
+        setAnnounceDate();
+        ResultCheckRequest checkReq = new ResultCheckRequest();
+        checkReq.setPhone("010-1234-5678");
+        resultCheckService.check(checkReq);
+
+        // Then
+        assertEquals(0L, unconfirmedWinnerMapper.countByEvent(eventId));
+    }
+
     @Test
     @DisplayName("미당첨자 확인 - rank가 null 또는 isWinner=false")
     void testCheck_NonWinnerRank() {
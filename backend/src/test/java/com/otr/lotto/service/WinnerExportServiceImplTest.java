@@ -0,0 +1,196 @@
+package com.otr.lotto.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.otr.lotto.common.ApiException;
+import com.otr.lotto.common.ErrorCode;
+import com.otr.lotto.domain.Participant;
+import com.otr.lotto.domain.TicketPool;
+import com.otr.lotto.dto.WinnerExportFormat;
+import com.otr.lotto.mapper.ParticipantMapper;
+import com.otr.lotto.mapper.PrizeMapper;
+import com.otr.lotto.mapper.TicketPoolMapper;
+import com.otr.lotto.serviceImpl.TicketPoolServiceImpl;
+import com.otr.lotto.serviceImpl.WinnerExportServiceImpl;
+import com.otr.lotto.support.TestDateConfig;
+import com.otr.lotto.support.TestEventData;
+
+/**
+ * 당첨자 내보내기 서비스 테스트 (DB)
+ *
+ * 당첨자 3명(1등 1명, 4등 2명)과 비당첨 참여자 1명을 만든 뒤
+ * 응답 스트림에 쓰인 행 수/순서/형식을 확인합니다.
+ */
+@SpringBootTest
+@Transactional
+@Import(TestDateConfig.class)
+@DisplayName("당첨자 내보내기 서비스 테스트")
+class WinnerExportServiceImplTest {
+
+    @Autowired
+    private WinnerExportServiceImpl winnerExportService;
+
+    @Autowired
+    private ParticipantMapper participantMapper;
+
+    @Autowired
+    private TicketPoolMapper ticketPoolMapper;
+
+    @Autowired
+    private PrizeMapper prizeMapper;
+
+    @Autowired
+    private TicketPoolServiceImpl ticketPoolService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long eventId = 1L;
+
+    /** 내보내기 순서(rank, participant_id)대로 정렬된 당첨자 */
+    private List<Participant> winners;
+
+    /** winners와 같은 순서의 배정 번호 */
+    private List<TicketPool> winnerTickets;
+
+    @BeforeEach
+    void setUp() {
+        TestDateConfig.setFixedDate(LocalDate.of(2025, 4, 5));
+        TestEventData.clearCommitted(transactionManager, jdbcTemplate, eventId);
+        if (ticketPoolMapper.countByEvent(eventId) == 0) {
+            ticketPoolService.preparePool(eventId);
+        }
+
+        // 1등 1명, 4등 2명 + 비당첨 1명
+        winners = new ArrayList<>();
+        winnerTickets = new ArrayList<>();
+        int[] ranks = {1, 4, 4};
+        for (int i = 0; i < ranks.length; i++) {
+            Participant participant = newParticipant(i + 1);
+            TicketPool ticket = ticketPoolMapper.lockUnassignedByRank(eventId, ranks[i], false);
+            assertEquals(1, ticketPoolMapper.assignParticipant(ticket.getId(), participant.getId()));
+            prizeMapper.insert(eventId, participant.getId(), ranks[i]);
+            winners.add(participant);
+            winnerTickets.add(ticket);
+        }
+        Participant loser = newParticipant(4);
+        TicketPool loserTicket = ticketPoolMapper.lockUnassignedByRank(eventId, 0, false);
+        ticketPoolMapper.assignParticipant(loserTicket.getId(), loser.getId());
+
+        // 1등 당첨자만 결과 조회 3회
+        jdbcTemplate.update(
+            "UPDATE participant SET check_count = 3, first_checked_at = ?, last_checked_at = ? WHERE id = ?",
+            "2025-04-05 10:00:05", "2025-04-05 11:30:09", winners.get(0).getId()
+        );
+        jdbcTemplate.update("UPDATE event SET drawn_at = NOW() WHERE id = ?", eventId);
+    }
+
+    @Test
+    @DisplayName("CSV - 헤더 1행 + 당첨자 행, rank/참여자 순, 비당첨자 제외")
+    void testExport_Csv() throws IOException {
+        // When
+        List<String> lines = export(WinnerExportFormat.CSV);
+
+        // Then
+        assertEquals(4, lines.size(), "헤더 + 당첨자 3행");
+        assertEquals("participant_id,rank,lotto_number,phone_hash,check_count,first_checked_at,last_checked_at",
+            lines.get(0));
+        assertEquals(
+            winners.get(0).getId() + ",1,\"" + winnerTickets.get(0).getLottoNumber() + "\","
+                + winners.get(0).getPhoneHash() + ",3,2025-04-05T10:00:05,2025-04-05T11:30:09",
+            lines.get(1)
+        );
+        for (int i = 1; i < winners.size(); i++) {
+            assertEquals(
+                winners.get(i).getId() + ",4,\"" + winnerTickets.get(i).getLottoNumber() + "\","
+                    + winners.get(i).getPhoneHash() + ",0,,",
+                lines.get(i + 1),
+                "조회하지 않은 당첨자는 조회 횟수 0, 조회 시간 빈 값"
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("NDJSON - 당첨자 1명당 JSON 1줄")
+    void testExport_Ndjson() throws IOException {
+        // When
+        List<String> lines = export(WinnerExportFormat.NDJSON);
+
+        // Then
+        assertEquals(winners.size(), lines.size());
+        for (int i = 0; i < winners.size(); i++) {
+            JsonNode node = objectMapper.readTree(lines.get(i));
+            assertEquals(winners.get(i).getId().longValue(), node.get("participantId").asLong());
+            assertEquals(i == 0 ? 1 : 4, node.get("rank").asInt());
+            assertEquals(winnerTickets.get(i).getLottoNumber(), node.get("lottoNumber").asText());
+            assertEquals(winners.get(i).getPhoneHash(), node.get("phoneHash").asText());
+        }
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(3, first.get("checkCount").asInt());
+        assertEquals("2025-04-05T10:00:05", first.get("firstCheckedAt").asText());
+        assertTrue(objectMapper.readTree(lines.get(1)).get("firstCheckedAt").isNull());
+    }
+
+    @Test
+    @DisplayName("당첨 산정 미확정 - INVALID_REQUEST")
+    void testExport_NotDrawn() {
+        // Given
+        jdbcTemplate.update("UPDATE event SET drawn_at = NULL WHERE id = ?", eventId);
+
+        // When & Then
+        ApiException exception = assertThrows(ApiException.class,
+            () -> winnerExportService.exportWinners(eventId, WinnerExportFormat.CSV));
+        assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 이벤트 - NOT_FOUND")
+    void testExport_EventNotFound() {
+        // When & Then
+        ApiException exception = assertThrows(ApiException.class,
+            () -> winnerExportService.exportWinners(999_999L, WinnerExportFormat.NDJSON));
+        assertEquals(ErrorCode.NOT_FOUND, exception.getErrorCode());
+    }
+
+    private List<String> export(WinnerExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        winnerExportService.exportWinners(eventId, format).writeTo(out);
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertTrue(body.endsWith("\n"), "모든 행은 줄바꿈으로 끝남");
+        return List.of(body.split("\n"));
+    }
+
+    private Participant newParticipant(int index) {
+        Participant participant = new Participant();
+        participant.setEventId(eventId);
+        participant.setPhoneHash(String.format("%064d", 700_000 + index));
+        participantMapper.insert(participant);
+        return participant;
+    }
+}
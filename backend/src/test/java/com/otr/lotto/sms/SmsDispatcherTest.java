@@ -0,0 +1,302 @@
+package com.otr.lotto.sms;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.otr.lotto.domain.SmsLog;
+import com.otr.lotto.dto.SmsDispatchStatsResponse;
+import com.otr.lotto.mapper.SmsLogMapper;
+import com.otr.lotto.service.JobLeaseService;
+
+@DisplayName("SMS 비동기 발송기 테스트")
+class SmsDispatcherTest {
+    private static final long LEASE_TIMEOUT_MS = 60_000L;
+
+    private final OutboxStub outbox = new OutboxStub();
+    private final RecordingSender sender = new RecordingSender(2);
+    private final StubJobLease jobLease = new StubJobLease();
+
+    @Test
+    @DisplayName("선점 → 발송 → SENT 기록, 배치는 발송기 한도 이하로 분할")
+    void testDispatch_ClaimSubmitMarkSent() {
+        // Given: PENDING 5건, 발송기 한도 2건
+        for (long id = 1; id <= 5; id++) {
+            outbox.add(id, 0);
+        }
+        SmsDispatcher dispatcher = newDispatcher(4);
+
+        // When
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatchPending();
+        dispatcher.shutdown();
+        LocalDateTime after = LocalDateTime.now();
+
+        // Then: 5건 모두 한 번씩 발송, 배치 2/2/1
+        List<Long> sentIds = new ArrayList<>();
+        for (List<SmsMessage> batch : sender.batches) {
+            assertTrue(batch.size() <= 2, "배치 크기는 발송기 한도 이하");
+            for (SmsMessage message : batch) {
+                sentIds.add(message.getSmsLogId());
+                assertEquals("hash-" + message.getSmsLogId(), message.getPhoneHash());
+                assertEquals("PARTICIPATION_NUMBER", message.getType());
+            }
+        }
+        sentIds.sort(null);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), sentIds);
+
+        // Then: 선점 시 시도 횟수 증가 + lease 만료 시각 설정, 발송 후 SENT
+        for (SmsLog row : outbox.rows.values()) {
+            assertEquals(SmsLog.STATUS_SENT, row.getStatus());
+            assertEquals(1, row.getAttemptCount());
+            LocalDateTime leaseUntil = outbox.leaseUntilById.get(row.getId());
+            assertNotNull(leaseUntil);
+            assertFalse(leaseUntil.isBefore(before.plus(Duration.ofMillis(LEASE_TIMEOUT_MS))));
+            assertFalse(leaseUntil.isAfter(after.plus(Duration.ofMillis(LEASE_TIMEOUT_MS))));
+        }
+
+        // Then: 노드 간 lease는 선점 구간에만 보유
+        assertEquals(1, jobLease.acquired.get());
+        assertEquals(1, jobLease.released.get());
+        assertEquals(5L, dispatcher.getStats().getSentCount());
+    }
+
+    @Test
+    @DisplayName("선점한 행은 lease 만료 전까지 다시 가져가지 않음")
+    void testDispatch_ClaimedRowsNotReclaimed() {
+        // Given: 발송 결과 기록 전 상태 (선점만 된 행)
+        outbox.add(1L, 0);
+        outbox.failMarkSent = true;
+        SmsDispatcher dispatcher = newDispatcher(1);
+
+        // When: 두 번 폴링
+        dispatcher.dispatchPending();
+        dispatcher.dispatchPending();
+        dispatcher.shutdown();
+
+        // Then: 결과 기록에 실패해도 lease 동안은 한 번만 발송
+        assertEquals(1, sender.batches.size());
+        assertEquals(SmsLog.STATUS_PENDING, outbox.rows.get(1L).getStatus());
+    }
+
+    @Test
+    @DisplayName("발송 실패 - 시도 횟수가 남으면 재시도 예약, 최대 시도 도달 시 FAILED")
+    void testDispatch_FailureRetryOrFail() {
+        // Given: 첫 시도 행 + 마지막 시도 행 (max-attempts 5)
+        outbox.add(1L, 0);
+        outbox.add(2L, 4);
+        sender.fail = true;
+        SmsDispatcher dispatcher = newDispatcher(1);
+
+        // When
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatchPending();
+        dispatcher.shutdown();
+
+        // Then
+        SmsLog retried = outbox.rows.get(1L);
+        assertEquals(SmsLog.STATUS_PENDING, retried.getStatus());
+        assertTrue(retried.getNextAttemptAt().isAfter(before), "백오프 후 재시도");
+        assertTrue(retried.getLastError().contains("발송 업체 오류"));
+
+        SmsLog failed = outbox.rows.get(2L);
+        assertEquals(SmsLog.STATUS_FAILED, failed.getStatus());
+
+        SmsDispatchStatsResponse stats = dispatcher.getStats();
+        assertEquals(0L, stats.getSentCount());
+        assertEquals(1L, stats.getRetriedCount());
+        assertEquals(1L, stats.getFailedCount());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발송 lease 보유 중이면 선점하지 않음")
+    void testDispatch_LeaseHeldElsewhere() {
+        // Given
+        outbox.add(1L, 0);
+        jobLease.available = false;
+        SmsDispatcher dispatcher = newDispatcher(1);
+
+        // When
+        dispatcher.dispatchPending();
+        dispatcher.shutdown();
+
+        // Then
+        assertTrue(sender.batches.isEmpty());
+        assertNull(outbox.leaseUntilById.get(1L));
+        assertEquals(0, jobLease.released.get());
+    }
+
+    private SmsDispatcher newDispatcher(int maxConcurrency) {
+        SmsProperties properties = new SmsProperties();
+        properties.setMaxConcurrency(maxConcurrency);
+        properties.setBatchSize(100);
+        properties.setMaxAttempts(5);
+        properties.setLeaseTimeoutMs(LEASE_TIMEOUT_MS);
+        return new SmsDispatcher(outbox.proxy(), sender, properties, jobLease);
+    }
+
+    /**
+     * sms_log 대신 메모리 행을 쓰는 SmsLogMapper (발송기가 사용하는 메서드만 구현)
+     */
+    private static final class OutboxStub {
+        private final Map<Long, SmsLog> rows = new TreeMap<>();
+        private final Map<Long, LocalDateTime> leaseUntilById = new TreeMap<>();
+        private volatile boolean failMarkSent;
+
+        private void add(Long id, int attemptCount) {
+            SmsLog row = new SmsLog();
+            row.setId(id);
+            row.setEventId(1L);
+            row.setParticipantId(id);
+            row.setPhoneHash("hash-" + id);
+            row.setType("PARTICIPATION_NUMBER");
+            row.setStatus(SmsLog.STATUS_PENDING);
+            row.setAttemptCount(attemptCount);
+            rows.put(id, row);
+        }
+
+        @SuppressWarnings("unchecked")
+        private SmsLogMapper proxy() {
+            return (SmsLogMapper) Proxy.newProxyInstance(
+                SmsLogMapper.class.getClassLoader(),
+                new Class<?>[] {SmsLogMapper.class},
+                (proxy, method, args) -> {
+                    synchronized (this) {
+                        switch (method.getName()) {
+                            case "findDispatchable":
+                                return findDispatchable((LocalDateTime) args[0], (Integer) args[1]);
+                            case "claimForDispatch":
+                                for (Long id : (List<Long>) args[0]) {
+                                    SmsLog row = rows.get(id);
+                                    row.setAttemptCount(row.getAttemptCount() + 1);
+                                    row.setNextAttemptAt((LocalDateTime) args[1]);
+                                    leaseUntilById.put(id, (LocalDateTime) args[1]);
+                                }
+                                return ((List<Long>) args[0]).size();
+                            case "markSent":
+                                if (failMarkSent) {
+                                    throw new IllegalStateException("DB 기록 실패");
+                                }
+                                return setStatus((List<Long>) args[0], SmsLog.STATUS_SENT, null);
+                            case "markRetry":
+                                SmsLog retryRow = rows.get((Long) args[0]);
+                                retryRow.setNextAttemptAt((LocalDateTime) args[1]);
+                                retryRow.setLastError((String) args[2]);
+                                return 1;
+                            case "markFailed":
+                                return setStatus((List<Long>) args[0], SmsLog.STATUS_FAILED, (String) args[1]);
+                            case "countByStatus":
+                                return rows.values().stream().filter(r -> r.getStatus().equals(args[0])).count();
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    }
+                }
+            );
+        }
+
+        private List<SmsLog> findDispatchable(LocalDateTime now, int limit) {
+            List<SmsLog> result = new ArrayList<>();
+            for (SmsLog row : rows.values()) {
+                boolean due = row.getNextAttemptAt() == null || !row.getNextAttemptAt().isAfter(now);
+                if (SmsLog.STATUS_PENDING.equals(row.getStatus()) && due && result.size() < limit) {
+                    result.add(copyOf(row));
+                }
+            }
+            return result;
+        }
+
+        private int setStatus(List<Long> ids, String status, String lastError) {
+            for (Long id : ids) {
+                rows.get(id).setStatus(status);
+                rows.get(id).setLastError(lastError);
+            }
+            return ids.size();
+        }
+
+        private static SmsLog copyOf(SmsLog row) {
+            SmsLog copy = new SmsLog();
+            copy.setId(row.getId());
+            copy.setEventId(row.getEventId());
+            copy.setParticipantId(row.getParticipantId());
+            copy.setPhoneHash(row.getPhoneHash());
+            copy.setType(row.getType());
+            copy.setStatus(row.getStatus());
+            copy.setAttemptCount(row.getAttemptCount());
+            copy.setNextAttemptAt(row.getNextAttemptAt());
+            return copy;
+        }
+    }
+
+    private static final class RecordingSender implements SmsSender {
+        private final int maxBatchSize;
+        private final List<List<SmsMessage>> batches = new CopyOnWriteArrayList<>();
+        private volatile boolean fail;
+
+        private RecordingSender(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        @Override
+        public String getProvider() {
+            return "test";
+        }
+
+        @Override
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        @Override
+        public void send(List<SmsMessage> messages) {
+            batches.add(List.copyOf(messages));
+            if (fail) {
+                throw new IllegalStateException("발송 업체 오류");
+            }
+        }
+    }
+
+    private static final class StubJobLease implements JobLeaseService {
+        private final AtomicInteger acquired = new AtomicInteger();
+        private final AtomicInteger released = new AtomicInteger();
+        private volatile boolean available = true;
+
+        @Override
+        public boolean tryAcquire(String leaseKey, Duration ttl) {
+            if (!available) {
+                return false;
+            }
+            acquired.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public void release(String leaseKey) {
+            released.incrementAndGet();
+        }
+
+        @Override
+        public int purgeExpired() {
+            return 0;
+        }
+
+        @Override
+        public String getNodeId() {
+            return "test-node";
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.otr.lotto.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * DB 테스트 데이터 정리
+ *
+ * 테스트 트랜잭션과 별개의 트랜잭션(REQUIRES_NEW)으로 지우고 커밋합니다.
+ * 다른 테스트나 스트레스 테스트, 스케줄 작업이 커밋하고 남긴 행 때문에
+ * 테스트 클래스 실행 순서에 따라 결과가 달라지지 않게 합니다.
+ *
+ * @BeforeEach에서 호출해야 합니다. (@AfterEach 시점에는 테스트 트랜잭션이 잡은
+ * 행 잠금을 별도 트랜잭션이 기다리게 되어 잠금 대기 시간 초과로 실패함)
+ */
+public final class TestEventData {
+
+    private TestEventData() {
+    }
+
+    /**
+     * 이벤트 참여 데이터 삭제 (참여자, 당첨, 미확인 당첨자, SMS 이력, 알림 체크포인트, 산정 확정 시간)
+     *
+     * 번호 풀은 남기고 배정만 해제됩니다. (ticket_pool.assigned_participant_id ON DELETE SET NULL)
+     */
+    public static void clearCommitted(PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate, Long eventId) {
+        newTransaction(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM unconfirmed_winner WHERE event_id = ?", eventId);
+            jdbcTemplate.update("DELETE FROM prize WHERE event_id = ?", eventId);
+            jdbcTemplate.update("DELETE FROM sms_log WHERE event_id = ?", eventId);
+            jdbcTemplate.update("DELETE FROM reminder_checkpoint WHERE event_id = ?", eventId);
+            jdbcTemplate.update("DELETE FROM participant WHERE event_id = ?", eventId);
+            jdbcTemplate.update("UPDATE event SET drawn_at = NULL WHERE id = ?", eventId);
+        });
+    }
+
+    /**
+     * 키가 prefix로 시작하는 작업 실행권(lease) 삭제
+     */
+    public static void clearLeases(PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate, String keyPrefix) {
+        newTransaction(transactionManager).executeWithoutResult(status ->
+            jdbcTemplate.update("DELETE FROM job_lease WHERE lease_key LIKE ?", keyPrefix + "%")
+        );
+    }
+
+    private static TransactionTemplate newTransaction(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+}
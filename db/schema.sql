@@ -4,6 +4,9 @@ SET NAMES utf8mb4;
 SET time_zone = '+09:00';
 
 -- 기존 테이블을 FK 기준에 맞춰서 삭제
+DROP TABLE IF EXISTS job_lease;
+DROP TABLE IF EXISTS reminder_checkpoint;
+DROP TABLE IF EXISTS unconfirmed_winner;
 DROP TABLE IF EXISTS sms_log;
 DROP TABLE IF EXISTS prize;
 DROP TABLE IF EXISTS ticket_pool;
@@ -21,13 +24,14 @@ CREATE TABLE event (
   max_participants INT NOT NULL DEFAULT 10000,
   winning_number VARCHAR(32) NULL,
   fixed_first_phone_hash CHAR(64) NULL,
+  drawn_at DATETIME NULL,         -- 당첨 산정 확정 시간 (NULL이면 미확정)
   created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
   updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   PRIMARY KEY (id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- 2) participant
--- 참가자 번호(참여순번)는 participant.id를 그대로 사용(이벤트 1개 전제)
+-- 참여순번(번호 풀 seq)은 participant.id와 별개로, 참여 시 잠근 미배정 ticket_pool 행의 seq를 사용
 CREATE TABLE participant (
   id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
   event_id BIGINT UNSIGNED NOT NULL,
@@ -69,12 +73,14 @@ CREATE TABLE ticket_pool (
     UNIQUE (event_id, seq),
   CONSTRAINT uq_ticket_pool_event_participant
     UNIQUE (event_id, assigned_participant_id),
-  INDEX idx_ticket_pool_event_rank (event_id, rank),
-  INDEX idx_ticket_pool_event_assigned (event_id, assigned_participant_id)
+  -- 미배정 번호 잠금 조회(FOR UPDATE)가 후보 행만 seq 순으로 읽도록 seq까지 포함
+  INDEX idx_ticket_pool_event_rank (event_id, rank, assigned_participant_id, seq),
+  INDEX idx_ticket_pool_event_assigned (event_id, assigned_participant_id, seq)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- 4) prize
 -- 당첨자만 저장(총 1,000행이 되도록 산정)
+-- 연속 산정 모드(lotto.draw.continuous)에서는 당첨 번호 배정 시점에 행 생성
 CREATE TABLE prize (
   id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
   event_id BIGINT UNSIGNED NOT NULL,
@@ -95,6 +101,7 @@ CREATE TABLE prize (
 
 -- 5) sms_log
 -- 실제 문자 연동 대신 Mock 처리해도, "발송 이력/중복 방지"를 보여주기 위한 테이블
+-- PENDING으로 기록 후 SmsDispatcher가 비동기로 발송하고 SENT/FAILED로 갱신(outbox)
 CREATE TABLE sms_log (
   id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
   event_id BIGINT UNSIGNED NOT NULL,
@@ -102,7 +109,10 @@ CREATE TABLE sms_log (
   phone_hash CHAR(64) NOT NULL,
   type VARCHAR(30) NOT NULL,      -- PARTICIPATION_NUMBER / UNCONFIRMED_WINNER_REMINDER
   sent_date DATE NOT NULL,        -- 중복 방지용(날짜 단위)
-  status VARCHAR(20) NOT NULL,    -- SENT / FAILED
+  status VARCHAR(20) NOT NULL,    -- PENDING / SENT / FAILED
+  attempt_count INT NOT NULL DEFAULT 0,   -- 발송 시도 횟수
+  next_attempt_at DATETIME NULL,          -- 다음 발송 가능 시각 (재시도 대기/발송 중 lease)
+  last_error VARCHAR(255) NULL,           -- 마지막 발송 실패 사유
   created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
   PRIMARY KEY (id),
   CONSTRAINT fk_sms_event
@@ -114,10 +124,56 @@ CREATE TABLE sms_log (
   CONSTRAINT uq_sms_dedup
     UNIQUE (event_id, phone_hash, type, sent_date),
   INDEX idx_sms_event_type_status (event_id, type, status),
-  INDEX idx_sms_event_phone (event_id, phone_hash)
+  INDEX idx_sms_event_phone (event_id, phone_hash),
+  INDEX idx_sms_status_next (status, next_attempt_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
--- 6) 초기 이벤트 데이터 (요구사항 기간)
+-- 6) reminder_checkpoint
+-- 미확인 당첨자 알림의 이벤트/발송일별 진행 위치 (청크 커밋마다 갱신, 재시작 시 이어서 처리)
+CREATE TABLE reminder_checkpoint (
+  event_id BIGINT UNSIGNED NOT NULL,
+  run_date DATE NOT NULL,
+  last_participant_id BIGINT UNSIGNED NOT NULL DEFAULT 0,
+  sent_count INT NOT NULL DEFAULT 0,
+  status VARCHAR(20) NOT NULL,    -- RUNNING / COMPLETED
+  created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (event_id, run_date),
+  CONSTRAINT fk_reminder_checkpoint_event
+    FOREIGN KEY (event_id) REFERENCES event(id)
+    ON DELETE RESTRICT ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 7) job_lease
+-- 다중 노드 배포 시 스케줄 작업 실행권 (작업 키별로 한 노드만 보유, 만료 후 다른 노드가 가져감)
+CREATE TABLE job_lease (
+  lease_key VARCHAR(100) NOT NULL,  -- 예: reminder:{eventId}:{date}, sms:claim
+  owner VARCHAR(100) NOT NULL,      -- 노드 ID (호스트명:pid)
+  lease_until DATETIME(3) NOT NULL,
+  acquired_at DATETIME(3) NOT NULL,
+  PRIMARY KEY (lease_key),
+  INDEX idx_job_lease_until (lease_until)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 8) unconfirmed_winner
+-- 아직 결과를 조회하지 않은 당첨자 집합 (당첨 산정 확정 시 생성, 첫 조회 시 삭제)
+-- 미확인 당첨자 알림/확인율 조회가 prize JOIN participant 없이 남은 행만 읽도록 유지
+CREATE TABLE unconfirmed_winner (
+  event_id BIGINT UNSIGNED NOT NULL,
+  participant_id BIGINT UNSIGNED NOT NULL,
+  phone_hash CHAR(64) NOT NULL,
+  rank TINYINT UNSIGNED NOT NULL, -- 1/2/3/4
+  created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (event_id, participant_id),
+  CONSTRAINT fk_unconfirmed_winner_event
+    FOREIGN KEY (event_id) REFERENCES event(id)
+    ON DELETE RESTRICT ON UPDATE CASCADE,
+  CONSTRAINT fk_unconfirmed_winner_participant
+    FOREIGN KEY (participant_id) REFERENCES participant(id)
+    ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 9) 초기 이벤트 데이터 (요구사항 기간)
 INSERT INTO event (
   id,
   name,